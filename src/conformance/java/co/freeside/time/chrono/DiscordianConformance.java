@@ -0,0 +1,382 @@
+package co.freeside.time.chrono;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Checks {@link DiscordianDate} and {@link DiscordianChronology} against a
+ * reference implementation built on {@link LocalDate} for every epoch day in
+ * a range, by default every day from {@link LocalDate#MIN} to
+ * {@link LocalDate#MAX}.
+ *
+ * The reference derives the Discordian year, season, day-of-season,
+ * day-of-week and text of each day from the ISO year and day-of-year using
+ * nothing but the rules of the calendar, so it is independent of the lookup
+ * tables and packed arithmetic the library uses. Results of `plus` and
+ * `until` are compared with the same operations on {@link LocalDate}.
+ *
+ * The range is split into shards that are checked in parallel on the common
+ * fork/join pool. Each shard stops at its first divergence and all
+ * divergences are reported when the run ends.
+ *
+ * Usage: `DiscordianConformance [fromEpochDay toEpochDay [shardSize]]` where
+ * `toEpochDay` is exclusive. The process exits with status `1` if any
+ * divergence is found. The full range is over 700 billion days so checking
+ * it takes many core-hours.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianConformance {
+
+  private static final int DEFAULT_SHARD_SIZE = 1 << 22;
+  private static final int PROGRESS_INTERVAL_SECONDS = 60;
+
+  private static final String[] SEASON_NAMES = {"Chaos", "Discord", "Confusion", "Bureaucracy", "The Aftermath"};
+  private static final String[] DAY_NAMES = {"Sweetmorn", "Boomtime", "Pungenday", "Prickle-Prickle", "Setting Orange"};
+
+  private static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+  private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
+  private final long fromEpochDay;
+  private final long toEpochDay;
+  private final int shardSize;
+  private final Queue<Divergence> divergences = new ConcurrentLinkedQueue<>();
+  private final LongAdder checked = new LongAdder();
+
+  DiscordianConformance(long fromEpochDay, long toEpochDay, int shardSize) {
+    if (fromEpochDay < MIN_EPOCH_DAY || toEpochDay > MAX_EPOCH_DAY + 1 || toEpochDay <= fromEpochDay) {
+      throw new IllegalArgumentException("Invalid range " + fromEpochDay + ".." + toEpochDay + ". The range must be within " + MIN_EPOCH_DAY + ".." + (MAX_EPOCH_DAY + 1));
+    }
+    if (shardSize < 1) {
+      throw new IllegalArgumentException("Invalid shard size " + shardSize);
+    }
+    this.fromEpochDay = fromEpochDay;
+    this.toEpochDay = toEpochDay;
+    this.shardSize = shardSize;
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    long from = args.length > 0 ? Long.parseLong(args[0]) : MIN_EPOCH_DAY;
+    long to = args.length > 1 ? Long.parseLong(args[1]) : MAX_EPOCH_DAY + 1;
+    int shardSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_SHARD_SIZE;
+    DiscordianConformance conformance = new DiscordianConformance(from, to, shardSize);
+    System.out.printf("Checking epoch days %d..%d on %d threads%n", from, to, ForkJoinPool.getCommonPoolParallelism());
+    long start = System.nanoTime();
+    List<Divergence> divergences = conformance.run(ForkJoinPool.commonPool());
+    long seconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+    for (Divergence divergence : divergences) {
+      System.out.println(divergence);
+    }
+    System.out.printf("Checked %d days in %ds. %d shards diverged.%n", conformance.checked.sum(), seconds, divergences.size());
+    if (!divergences.isEmpty()) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Checks the whole range, printing progress every minute.
+   *
+   * @return the first divergence of each shard that has one in order of
+   * epoch day.
+   */
+  List<Divergence> run(ForkJoinPool pool) throws InterruptedException {
+    Shard root = new Shard(fromEpochDay, toEpochDay);
+    pool.execute(root);
+    long total = toEpochDay - fromEpochDay;
+    while (!root.isDone()) {
+      try {
+        root.get(PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+      } catch (TimeoutException e) {
+        long done = checked.sum();
+        System.out.printf("%d of %d days (%.2f%%), %d divergences%n", done, total, done * 100.0 / total, divergences.size());
+      } catch (ExecutionException e) {
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    List<Divergence> result = new ArrayList<>(divergences);
+    Collections.sort(result, new Comparator<Divergence>() {
+      @Override
+      public int compare(Divergence a, Divergence b) {
+        return Long.compare(a.epochDay, b.epochDay);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Checks `epochDay` against the reference.
+   *
+   * @return a description of the first check that fails or `null` if they
+   * all pass.
+   */
+  static String check(long epochDay) {
+    LocalDate iso = LocalDate.ofEpochDay(epochDay);
+    int year = iso.getYear() + 1166;
+    boolean leapYear = iso.isLeapYear();
+    int dayOfYear = iso.getDayOfYear();
+    boolean stTibsDay = leapYear && dayOfYear == 60;
+    int adjusted = leapYear && dayOfYear > 60 ? dayOfYear - 1 : dayOfYear;
+    int season = stTibsDay ? 0 : ((adjusted - 1) / 73) + 1;
+    int dayOfSeason = stTibsDay ? 0 : ((adjusted - 1) % 73) + 1;
+    int dayOfWeek = stTibsDay ? 0 : ((adjusted - 1) % 5) + 1;
+
+    DiscordianDate date;
+    try {
+      date = DiscordianDate.ofEpochDay(epochDay);
+    } catch (DateTimeException e) {
+      return "ofEpochDay threw " + e;
+    }
+    if (date.getYear() != year) {
+      return mismatch("year", year, date.getYear());
+    }
+    if (date.getSeason() != season) {
+      return mismatch("season", season, date.getSeason());
+    }
+    if (date.getDayOfSeason() != dayOfSeason) {
+      return mismatch("day-of-season", dayOfSeason, date.getDayOfSeason());
+    }
+    if (date.getDayOfWeek() != dayOfWeek) {
+      return mismatch("day-of-week", dayOfWeek, date.getDayOfWeek());
+    }
+    if (date.isLeapYear() != leapYear) {
+      return mismatch("leap year", leapYear, date.isLeapYear());
+    }
+    if (date.toEpochDay() != epochDay) {
+      return mismatch("epoch day", epochDay, date.toEpochDay());
+    }
+    String text = text(year, season, dayOfSeason, dayOfWeek);
+    if (!text.equals(date.toString())) {
+      return mismatch("toString", text, date.toString());
+    }
+
+    DiscordianDate fromFields;
+    try {
+      fromFields = stTibsDay ? DiscordianDate.ofLeapDay(year) : DiscordianDate.of(year, season, dayOfSeason);
+    } catch (DateTimeException e) {
+      return "creating from fields threw " + e;
+    }
+    if (fromFields.toEpochDay() != epochDay) {
+      return mismatch("epoch day from fields", epochDay, fromFields.toEpochDay());
+    }
+    if (!fromFields.equals(DiscordianChronology.INSTANCE.date(iso))) {
+      return mismatch("chronology date from ISO", fromFields, DiscordianChronology.INSTANCE.date(iso));
+    }
+
+    String failure = checkPlus(date, iso, 1, ChronoUnit.DAYS, 1);
+    if (failure == null) {
+      failure = checkPlus(date, iso, 1, ChronoUnit.WEEKS, 5);
+    }
+    if (failure == null) {
+      failure = checkPlus(date, iso, 1, ChronoUnit.MONTHS, 73);
+    }
+    if (failure == null) {
+      failure = checkPlus(date, iso, -1, ChronoUnit.MONTHS, -73);
+    }
+    if (failure == null) {
+      failure = checkPlus(date, iso, 1, ChronoUnit.YEARS, 0);
+    }
+    if (failure == null) {
+      failure = checkUntil(date, iso, 365);
+    }
+    if (failure == null) {
+      failure = checkUntil(date, iso, 366);
+    }
+    if (failure == null) {
+      failure = checkUntil(date, iso, -366);
+    }
+    return failure;
+  }
+
+  /**
+   * Checks `date.plus(amount, unit)` is `days` after `date` or, if `days` is
+   * `0`, the same as adding to the ISO date.
+   */
+  private static String checkPlus(DiscordianDate date, LocalDate iso, long amount, ChronoUnit unit, long days) {
+    LocalDate expected;
+    try {
+      expected = days == 0 ? iso.plus(amount, unit) : iso.plusDays(days);
+    } catch (DateTimeException e) {
+      // beyond the ISO range
+      return null;
+    }
+    try {
+      long actual = date.plus(amount, unit).toEpochDay();
+      if (actual != expected.toEpochDay()) {
+        return mismatch("plus(" + amount + ", " + unit + ")", expected.toEpochDay(), actual);
+      }
+    } catch (DateTimeException e) {
+      return "plus(" + amount + ", " + unit + ") threw " + e;
+    }
+    return null;
+  }
+
+  /**
+   * Checks `until` the date `days` later in days, seasons and years and as a
+   * period, and the static equivalents.
+   */
+  private static String checkUntil(DiscordianDate date, LocalDate iso, long days) {
+    long otherEpochDay = date.toEpochDay() + days;
+    if (otherEpochDay < MIN_EPOCH_DAY || otherEpochDay > MAX_EPOCH_DAY) {
+      return null;
+    }
+    LocalDate otherIso = LocalDate.ofEpochDay(otherEpochDay);
+    DiscordianDate other = DiscordianDate.ofEpochDay(otherEpochDay);
+    long actualDays = date.until(other, ChronoUnit.DAYS);
+    if (actualDays != days) {
+      return mismatch("until " + days + " days in DAYS", days, actualDays);
+    }
+    long expectedYears = iso.until(otherIso, ChronoUnit.YEARS);
+    long years = date.until(other, ChronoUnit.YEARS);
+    if (years != expectedYears) {
+      return mismatch("until " + days + " days in YEARS", expectedYears, years);
+    }
+    long staticYears = DiscordianDate.between(date.toEpochDay(), otherEpochDay, ChronoUnit.YEARS);
+    if (staticYears != expectedYears) {
+      return mismatch("between " + days + " days in YEARS", expectedYears, staticYears);
+    }
+    long seasons = date.until(other, ChronoUnit.MONTHS);
+    if (seasons != days / 73) {
+      return mismatch("until " + days + " days in MONTHS", days / 73, seasons);
+    }
+    Period expectedPeriod = period(iso, otherIso);
+    Period period = date.until(other);
+    if (!period.equals(expectedPeriod)) {
+      return mismatch("until " + days + " days as a period", expectedPeriod, period);
+    }
+    Period staticPeriod = DiscordianDate.between(date.toEpochDay(), otherEpochDay);
+    if (!staticPeriod.equals(expectedPeriod)) {
+      return mismatch("between " + days + " days as a period", expectedPeriod, staticPeriod);
+    }
+    return null;
+  }
+
+  /**
+   * The period between two dates calculated the same way as the original
+   * `LocalDate` backed implementation: the total number of seasons between
+   * them, counting _St. Tib's Day_ as day 60 of Chaos, then the remaining
+   * days.
+   */
+  private static Period period(LocalDate start, LocalDate end) {
+    long totalSeasons = epochSeason(end) - epochSeason(start);
+    int days = dayOfSeasonOrLeapDay(end) - dayOfSeasonOrLeapDay(start);
+    if (totalSeasons > 0 && days < 0) {
+      totalSeasons--;
+      days = (int) start.plusDays(totalSeasons * 73).until(end, ChronoUnit.DAYS);
+    } else if (totalSeasons < 0 && days > 0) {
+      totalSeasons++;
+      days -= 73;
+    }
+    return Period.of((int) (totalSeasons / 5), (int) (totalSeasons % 5), days);
+  }
+
+  private static long epochSeason(LocalDate iso) {
+    long year = iso.getYear() + 1166;
+    int dayOfYear = iso.getDayOfYear();
+    int adjusted = iso.isLeapYear() && dayOfYear > 60 ? dayOfYear - 1 : dayOfYear;
+    int season = ((adjusted - 1) / 73) + 1;
+    return (year * 5) + (season - 1);
+  }
+
+  private static int dayOfSeasonOrLeapDay(LocalDate iso) {
+    int dayOfYear = iso.getDayOfYear();
+    if (iso.isLeapYear() && dayOfYear == 60) {
+      return 60;
+    }
+    int adjusted = iso.isLeapYear() && dayOfYear > 60 ? dayOfYear - 1 : dayOfYear;
+    return ((adjusted - 1) % 73) + 1;
+  }
+
+  private static String text(int year, int season, int dayOfSeason, int dayOfWeek) {
+    StringBuilder text = new StringBuilder(48);
+    if (season == 0) {
+      text.append("St. Tib's Day!");
+    } else {
+      text.append(DAY_NAMES[dayOfWeek - 1])
+          .append(", ")
+          .append(SEASON_NAMES[season - 1])
+          .append(' ')
+          .append(dayOfSeason)
+          .append(',');
+    }
+    return text.append(' ').append(year).append(" YOLD").toString();
+  }
+
+  private static String mismatch(String check, Object expected, Object actual) {
+    return check + " expected " + expected + " but was " + actual;
+  }
+
+  /**
+   * The first divergence found in a shard.
+   */
+  static final class Divergence {
+    final long shardStart;
+    final long shardEnd;
+    final long epochDay;
+    final String failure;
+
+    Divergence(long shardStart, long shardEnd, long epochDay, String failure) {
+      this.shardStart = shardStart;
+      this.shardEnd = shardEnd;
+      this.epochDay = epochDay;
+      this.failure = failure;
+    }
+
+    @Override
+    public String toString() {
+      return "Shard " + shardStart + ".." + shardEnd + " diverged at epoch day " + epochDay + " (" + LocalDate.ofEpochDay(epochDay) + "): " + failure;
+    }
+  }
+
+  /**
+   * Checks a range of epoch days, splitting in half until the range is no
+   * bigger than the shard size.
+   */
+  private final class Shard extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final long from;
+    private final long to;
+
+    Shard(long from, long to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > shardSize) {
+        long middle = from + ((to - from) >>> 1);
+        invokeAll(new Shard(from, middle), new Shard(middle, to));
+        return;
+      }
+      for (long epochDay = from; epochDay < to; epochDay++) {
+        String failure;
+        try {
+          failure = check(epochDay);
+        } catch (RuntimeException e) {
+          failure = "threw " + e;
+        }
+        if (failure != null) {
+          divergences.add(new Divergence(from, to, epochDay, failure));
+          checked.add(epochDay - from + 1);
+          return;
+        }
+      }
+      checked.add(to - from);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package co.freeside.time.chrono;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares converting a file of ISO dates line by line through `String`,
+ * {@link LocalDate#parse(CharSequence)} and {@link DiscordianDate#toString()}
+ * with {@link DiscordianBatchConverter} on one thread and on the common pool.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscordianBatchConverterBenchmark {
+
+  private static final int LINES = 1 << 20;
+
+  byte[] input;
+  ByteArrayOutputStream output;
+  ForkJoinPool singleThreadPool;
+  DiscordianBatchConverter singleThreaded;
+  DiscordianBatchConverter parallel;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(LINES);
+    StringBuilder text = new StringBuilder(LINES * 11);
+    for (int i = 0; i < LINES; i++) {
+      text.append(LocalDate.ofEpochDay(random.nextInt(73000) - 25000)).append('\n');
+    }
+    input = text.toString().getBytes(StandardCharsets.US_ASCII);
+    output = new ByteArrayOutputStream(LINES * 48);
+    parallel = DiscordianBatchConverter.of(DiscordianFormatter.DEFAULT);
+    singleThreadPool = new ForkJoinPool(1);
+    singleThreaded = parallel.withExecutor(singleThreadPool, 1);
+  }
+
+  @TearDown
+  public void tearDown() {
+    singleThreadPool.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LINES)
+  public int lineByLine() throws IOException {
+    output.reset();
+    BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.US_ASCII));
+    Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    String line;
+    while ((line = reader.readLine()) != null) {
+      writer.write(DiscordianChronology.INSTANCE.date(LocalDate.parse(line)).toString());
+      writer.write('\n');
+    }
+    writer.flush();
+    return output.size();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LINES)
+  public int batchSingleThreaded() throws IOException {
+    output.reset();
+    singleThreaded.convert(Channels.newChannel(new ByteArrayInputStream(input)), Channels.newChannel(output));
+    return output.size();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(LINES)
+  public int batchParallel() throws IOException {
+    output.reset();
+    parallel.convert(Channels.newChannel(new ByteArrayInputStream(input)), Channels.newChannel(output));
+    return output.size();
+  }
+}
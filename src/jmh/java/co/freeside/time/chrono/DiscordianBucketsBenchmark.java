@@ -0,0 +1,73 @@
+package co.freeside.time.chrono;
+
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares aggregating events into Discordian week buckets with
+ * {@link DiscordianBuckets} and by creating a {@link DiscordianDate} for each
+ * event.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiscordianBucketsBenchmark {
+
+  private static final int SIZE = 1 << 20;
+  private static final int START_YEAR = 3136;
+  private static final int END_YEAR = 3236;
+
+  long[] epochDays = new long[SIZE];
+  long[] values = new long[SIZE];
+  DiscordianBuckets buckets;
+  long[] dateCounts = new long[(END_YEAR - START_YEAR) * 73];
+  long[] dateSums = new long[dateCounts.length];
+
+  @Setup
+  public void setup() {
+    Random random = new Random(SIZE);
+    long start = DiscordianDate.of(START_YEAR, 1, 1).toEpochDay();
+    long end = DiscordianDate.of(END_YEAR, 1, 1).toEpochDay();
+    for (int i = 0; i < SIZE; i++) {
+      epochDays[i] = start + (long) (random.nextDouble() * (end - start));
+      values[i] = random.nextInt(1000);
+    }
+    buckets = DiscordianBuckets.of(ChronoUnit.WEEKS, DiscordianBuckets.StTibsDay.MERGE, START_YEAR, END_YEAR);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public DiscordianBuckets buckets() {
+    DiscordianBuckets result = buckets.emptyCopy();
+    result.addAll(epochDays, values);
+    return result;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public DiscordianBuckets bucketsParallel() {
+    DiscordianBuckets result = buckets.emptyCopy();
+    result.addAllParallel(epochDays, values);
+    return result;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public long[] datePerEvent() {
+    for (int i = 0; i < SIZE; i++) {
+      DiscordianDate date = DiscordianDate.ofEpochDay(epochDays[i]);
+      int bucket = (date.getYear() - START_YEAR) * 73 + (int) date.getLong(ChronoField.ALIGNED_WEEK_OF_YEAR) - 1;
+      dateCounts[bucket]++;
+      dateSums[bucket] += values[i];
+    }
+    return dateSums;
+  }
+}
@@ -0,0 +1,65 @@
+package co.freeside.time.chrono;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares converting a column of epoch days with {@link DiscordianBulk}
+ * against creating a {@link DiscordianDate} for each element.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscordianBulkBenchmark {
+
+  @Param({"1000", "1000000"})
+  int size;
+
+  long[] epochDays;
+  int[] years;
+  byte[] seasons;
+  byte[] days;
+  byte[] weekdays;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(size);
+    epochDays = new long[size];
+    for (int i = 0; i < size; i++) {
+      // roughly 1900 to 2100 CE
+      epochDays[i] = random.nextInt(73000) - 25000;
+    }
+    years = new int[size];
+    seasons = new byte[size];
+    days = new byte[size];
+    weekdays = new byte[size];
+  }
+
+  @Benchmark
+  public void perElement(Blackhole blackhole) {
+    for (long epochDay : epochDays) {
+      DiscordianDate date = DiscordianDate.ofEpochDay(epochDay);
+      blackhole.consume(date.getYear());
+      blackhole.consume(date.getSeason());
+    }
+  }
+
+  @Benchmark
+  public int[] bulk() {
+    DiscordianBulk.fromEpochDays(epochDays, years, seasons, days, weekdays);
+    return years;
+  }
+
+  @Benchmark
+  public int[] bulkParallel() {
+    DiscordianBulk.fromEpochDaysParallel(epochDays, years, seasons, days, weekdays);
+    return years;
+  }
+}
@@ -0,0 +1,57 @@
+package co.freeside.time.chrono;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares getting today's date and text from a {@link DiscordianClock} with
+ * creating and formatting it on each call.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscordianClockBenchmark {
+
+  Clock clock;
+  DiscordianClock discordianClock;
+  ScheduledExecutorService scheduler;
+  DiscordianClock scheduledClock;
+
+  @Setup
+  public void setup() {
+    clock = Clock.systemDefaultZone();
+    discordianClock = DiscordianClock.of(clock);
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    scheduledClock = DiscordianClock.scheduled(clock, scheduler);
+  }
+
+  @TearDown
+  public void tearDown() {
+    scheduledClock.close();
+    scheduler.shutdownNow();
+  }
+
+  @Benchmark
+  public String todayText() {
+    return DiscordianChronology.INSTANCE.date(LocalDate.now(clock)).toString();
+  }
+
+  @Benchmark
+  public String clockText() {
+    return discordianClock.nowText();
+  }
+
+  @Benchmark
+  public String scheduledClockText() {
+    return scheduledClock.nowText();
+  }
+}
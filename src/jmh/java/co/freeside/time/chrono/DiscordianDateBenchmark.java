@@ -0,0 +1,206 @@
+package co.freeside.time.chrono;
+
+import java.time.Period;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.ValueRange;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the hot paths of {@link DiscordianDate}.
+ *
+ * Each benchmark is run against a date in a non-leap year, a date after the
+ * leap day in a leap year and _St. Tib's Day_ itself as the three take
+ * different routes through the leap-day adjustment. Run with `gradle
+ * benchmark` which attaches the GC profiler so allocation rates are recorded
+ * alongside timings.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiscordianDateBenchmark {
+
+  public enum Sample {
+    NON_LEAP_YEAR(3179, 2, 19),
+    LEAP_YEAR(3178, 4, 23),
+    ST_TIBS_DAY(3178, 0, 0);
+
+    final int year;
+    final int season;
+    final int dayOfSeason;
+
+    Sample(int year, int season, int dayOfSeason) {
+      this.year = year;
+      this.season = season;
+      this.dayOfSeason = dayOfSeason;
+    }
+
+    DiscordianDate toDate() {
+      if (season == 0) {
+        return DiscordianDate.ofLeapDay(year);
+      }
+      return DiscordianDate.of(year, season, dayOfSeason);
+    }
+  }
+
+  /**
+   * Year, season and day-of-season inputs. _St. Tib's Day_ cannot be
+   * constructed from a season and day so it is not a parameter here; it is
+   * covered by {@link #ofYearDay(DateState)}.
+   */
+  @State(Scope.Benchmark)
+  public static class FieldState {
+    @Param({"NON_LEAP_YEAR", "LEAP_YEAR"})
+    Sample sample;
+
+    int year;
+    int season;
+    int dayOfSeason;
+
+    @Setup
+    public void setup() {
+      year = sample.year;
+      season = sample.season;
+      dayOfSeason = sample.dayOfSeason;
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class DateState {
+    @Param({"NON_LEAP_YEAR", "LEAP_YEAR", "ST_TIBS_DAY"})
+    Sample sample;
+
+    DiscordianDate date;
+    DiscordianDate later;
+    int year;
+    int dayOfYear;
+    long epochDay;
+    long laterEpochDay;
+
+    @Setup
+    public void setup() {
+      date = sample.toDate();
+      later = (DiscordianDate) date.plus(1000, ChronoUnit.DAYS);
+      year = date.getYear();
+      dayOfYear = date.get(ChronoField.DAY_OF_YEAR);
+      epochDay = date.toEpochDay();
+      laterEpochDay = later.toEpochDay();
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class FieldQueryState {
+    @Param({"YEAR", "MONTH_OF_YEAR", "DAY_OF_MONTH", "DAY_OF_WEEK", "DAY_OF_YEAR", "ALIGNED_WEEK_OF_YEAR", "PROLEPTIC_MONTH", "EPOCH_DAY"})
+    ChronoField field;
+  }
+
+  @Benchmark
+  public DiscordianDate ofYearSeasonDay(FieldState state) {
+    return DiscordianDate.of(state.year, state.season, state.dayOfSeason);
+  }
+
+  @Benchmark
+  public DiscordianDate ofYearDay(DateState state) {
+    return DiscordianDate.of(state.year, state.dayOfYear);
+  }
+
+  @Benchmark
+  public DiscordianDate ofEpochDay(DateState state) {
+    return DiscordianDate.ofEpochDay(state.epochDay);
+  }
+
+  @Benchmark
+  public int getSeason(DateState state) {
+    return state.date.getSeason();
+  }
+
+  @Benchmark
+  public int getDayOfSeason(DateState state) {
+    return state.date.getDayOfSeason();
+  }
+
+  @Benchmark
+  public int getDayOfWeek(DateState state) {
+    return state.date.getDayOfWeek();
+  }
+
+  @Benchmark
+  public String asString(DateState state) {
+    return state.date.toString();
+  }
+
+  @Benchmark
+  public Object plusDays(DateState state) {
+    return state.date.plus(1, ChronoUnit.DAYS);
+  }
+
+  @Benchmark
+  public Object plusWeeks(DateState state) {
+    return state.date.plus(1, ChronoUnit.WEEKS);
+  }
+
+  @Benchmark
+  public Object plusMonths(DateState state) {
+    return state.date.plus(1, ChronoUnit.MONTHS);
+  }
+
+  @Benchmark
+  public Object plusYears(DateState state) {
+    return state.date.plus(1, ChronoUnit.YEARS);
+  }
+
+  @Benchmark
+  public Period untilPeriod(DateState state) {
+    return state.date.until(state.later);
+  }
+
+  @Benchmark
+  public long untilDays(DateState state) {
+    return state.date.until(state.later, ChronoUnit.DAYS);
+  }
+
+  @Benchmark
+  public long untilYears(DateState state) {
+    return state.date.until(state.later, ChronoUnit.YEARS);
+  }
+
+  @Benchmark
+  public Period betweenEpochDays(DateState state) {
+    return DiscordianDate.between(state.epochDay, state.laterEpochDay);
+  }
+
+  @Benchmark
+  public long getLong(DateState state, FieldQueryState query) {
+    return state.date.getLong(query.field);
+  }
+
+  @Benchmark
+  public ValueRange range(DateState state, FieldQueryState query) {
+    return state.date.range(query.field);
+  }
+
+  @Benchmark
+  public Object withDayOfWeek(DateState state) {
+    return state.date.with(ChronoField.DAY_OF_WEEK, 3);
+  }
+
+  @Benchmark
+  public Object withAlignedWeekOfYear(DateState state) {
+    return state.date.with(ChronoField.ALIGNED_WEEK_OF_YEAR, 40);
+  }
+
+  @Benchmark
+  public Object nextHolyday(DateState state) {
+    return state.date.with(DiscordianAdjusters.nextHolyday());
+  }
+
+  @Benchmark
+  public boolean isHolyday(DateState state) {
+    return state.date.isHolyday();
+  }
+}
@@ -0,0 +1,88 @@
+package co.freeside.time.chrono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares Java serialization of a {@link DiscordianDate} with encoding dates
+ * using {@link DiscordianDateCodec}.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscordianDateCodecBenchmark {
+
+  private static final int BATCH_SIZE = 1000;
+
+  DiscordianDate date;
+  byte[] serialized;
+  ByteBuffer buffer;
+  long[] epochDays;
+  ByteBuffer batch;
+  long[] epochDayOut;
+
+  @Setup
+  public void setup() throws IOException {
+    date = DiscordianDate.of(3179, 2, 5);
+    serialized = serialize(date);
+    buffer = ByteBuffer.allocate(DiscordianDateCodec.MAX_DATE_LENGTH);
+    Random random = new Random(BATCH_SIZE);
+    epochDays = new long[BATCH_SIZE];
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      // roughly 1900 to 2100 CE
+      epochDays[i] = random.nextInt(73000) - 25000;
+    }
+    batch = ByteBuffer.allocate(DiscordianDateCodec.maxBatchLength(BATCH_SIZE));
+    epochDayOut = new long[BATCH_SIZE];
+  }
+
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return serialize(date);
+  }
+
+  @Benchmark
+  public Object deserialize() throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+      return in.readObject();
+    }
+  }
+
+  @Benchmark
+  public DiscordianDate encodeAndDecode() {
+    buffer.clear();
+    DiscordianDateCodec.put(buffer, date);
+    buffer.flip();
+    return DiscordianDateCodec.get(buffer);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public long[] encodeAndDecodeBatch() {
+    batch.clear();
+    DiscordianDateCodec.putAll(batch, epochDays, 0, BATCH_SIZE);
+    batch.flip();
+    DiscordianDateCodec.getAll(batch, epochDayOut, 0);
+    return epochDayOut;
+  }
+
+  private static byte[] serialize(DiscordianDate date) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(date);
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,75 @@
+package co.freeside.time.chrono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures scanning a file written by {@link DiscordianDateFileWriter}.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscordianDateFileBenchmark {
+
+  private static final int FILE_SIZE = 1 << 20;
+
+  Path file;
+  DiscordianDateFileReader reader;
+
+  @Setup
+  public void setup() throws IOException {
+    file = Files.createTempFile("ddate", ".ddat");
+    Random random = new Random(FILE_SIZE);
+    try (DiscordianDateFileWriter writer = DiscordianDateFileWriter.create(file, true)) {
+      for (int i = 0; i < FILE_SIZE; i++) {
+        // roughly 1900 to 2100 CE
+        writer.write(random.nextInt(73000) - 25000);
+      }
+    }
+    reader = DiscordianDateFileReader.open(file);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    reader.close();
+    Files.delete(file);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FILE_SIZE)
+  public long sumEpochDays() {
+    return reader.epochDays().sum();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FILE_SIZE)
+  public long countSeasons() {
+    return reader.seasons().filter(new IntPredicate() {
+      @Override
+      public boolean test(int season) {
+        return season == 1;
+      }
+    }).count();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FILE_SIZE)
+  public long cursor() {
+    long total = 0;
+    DiscordianDateFileReader.Cursor cursor = reader.cursor();
+    while (cursor.next()) {
+      total += cursor.dayOfSeason();
+    }
+    return total;
+  }
+}
@@ -0,0 +1,46 @@
+package co.freeside.time.chrono;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares converting epoch milliseconds to a Discordian date-time directly
+ * with converting via {@link ZonedDateTime}.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscordianDateTimeBenchmark {
+
+  @Param({"UTC", "Europe/London"})
+  String zoneId;
+
+  ZoneId zone;
+  long epochMilli;
+
+  @Setup
+  public void setup() {
+    zone = ZoneId.of(zoneId);
+    epochMilli = 1400000000000L;
+  }
+
+  @Benchmark
+  public DiscordianZonedDateTime ofEpochMilli() {
+    epochMilli += 1013;
+    return DiscordianZonedDateTime.ofEpochMilli(epochMilli, zone);
+  }
+
+  @Benchmark
+  public DiscordianDate viaZonedDateTime() {
+    epochMilli += 1013;
+    return DiscordianChronology.INSTANCE.date(ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), zone));
+  }
+}
@@ -0,0 +1,48 @@
+package co.freeside.time.chrono;
+
+import java.time.format.TextStyle;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for formatting and parsing with
+ * {@link DiscordianDateTimeFormatters} and for the era display name.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiscordianDateTimeFormattersBenchmark {
+
+  @Param({"NON_LEAP_YEAR", "ST_TIBS_DAY"})
+  DiscordianDateBenchmark.Sample sample;
+
+  DiscordianDate date;
+  String text;
+
+  @Setup
+  public void setup() {
+    date = sample.toDate();
+    text = date.toString();
+  }
+
+  @Benchmark
+  public String format() {
+    return DiscordianDateTimeFormatters.DEFAULT.format(date);
+  }
+
+  @Benchmark
+  public DiscordianDate parse() {
+    return DiscordianChronology.INSTANCE.date(DiscordianDateTimeFormatters.DEFAULT.parse(text));
+  }
+
+  @Benchmark
+  public String eraDisplayName() {
+    return DiscordianEra.YOLD.getDisplayName(TextStyle.FULL, Locale.ROOT);
+  }
+}
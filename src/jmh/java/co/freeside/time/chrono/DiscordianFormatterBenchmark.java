@@ -0,0 +1,42 @@
+package co.freeside.time.chrono;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for {@link DiscordianFormatter} writing into reused buffers.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiscordianFormatterBenchmark {
+
+  @Param({"NON_LEAP_YEAR", "LEAP_YEAR", "ST_TIBS_DAY"})
+  DiscordianDateBenchmark.Sample sample;
+
+  DiscordianDate date;
+  DiscordianFormatter formatter = DiscordianFormatter.DEFAULT;
+  StringBuilder chars = new StringBuilder(64);
+  byte[] bytes = new byte[formatter.maxLength()];
+
+  @Setup
+  public void setup() {
+    date = sample.toDate();
+  }
+
+  @Benchmark
+  public int formatToStringBuilder() {
+    chars.setLength(0);
+    return formatter.formatTo(date, chars).length();
+  }
+
+  @Benchmark
+  public int formatToBytes() {
+    return formatter.formatTo(date, bytes, 0);
+  }
+}
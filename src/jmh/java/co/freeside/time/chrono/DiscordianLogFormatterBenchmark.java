@@ -0,0 +1,50 @@
+package co.freeside.time.chrono;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares formatting a log record with {@link DiscordianLogFormatter} with
+ * converting and formatting the date of each record.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscordianLogFormatterBenchmark {
+
+  ZoneId zone;
+  DiscordianLogFormatter formatter;
+  LogRecord record;
+
+  @Setup
+  public void setup() {
+    zone = ZoneId.of("Europe/London");
+    formatter = new DiscordianLogFormatter(DiscordianTimestampRenderer.of(zone));
+    record = new LogRecord(Level.INFO, "Hail Eris!");
+    record.setLoggerName("co.freeside.time.chrono");
+    record.setMillis(System.currentTimeMillis());
+  }
+
+  @Benchmark
+  public String formatter() {
+    return formatter.format(record);
+  }
+
+  @Benchmark
+  public String naive() {
+    ZonedDateTime dateTime = Instant.ofEpochMilli(record.getMillis()).atZone(zone);
+    return DiscordianChronology.INSTANCE.date(dateTime).toString() + ' ' + dateTime.toLocalTime() + ' '
+        + record.getLevel().getName() + ' ' + record.getLoggerName() + ": " + formatter.formatMessage(record)
+        + System.lineSeparator();
+  }
+}
@@ -0,0 +1,41 @@
+package co.freeside.time.chrono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for {@link DiscordianParser}.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiscordianParserBenchmark {
+
+  @Param({"NON_LEAP_YEAR", "LEAP_YEAR", "ST_TIBS_DAY"})
+  DiscordianDateBenchmark.Sample sample;
+
+  String text;
+  byte[] bytes;
+
+  @Setup
+  public void setup() {
+    text = sample.toDate().toString();
+    bytes = text.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  @Benchmark
+  public long parseChars() {
+    return DiscordianParser.parseEpochDay(text, 0, text.length());
+  }
+
+  @Benchmark
+  public long parseBytes() {
+    return DiscordianParser.parseEpochDay(bytes, 0, bytes.length);
+  }
+}
@@ -0,0 +1,85 @@
+package co.freeside.time.chrono;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares finding the next occurrence of a {@link DiscordianRecurrence} with
+ * stepping forward a day at a time until a date matches.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiscordianRecurrenceBenchmark {
+
+  private static final int SIZE = 1024;
+
+  @Param({"DAY_OF_WEEK", "DAY_OF_SEASON", "ST_TIBS_DAY"})
+  Rule rule;
+
+  DiscordianRecurrence recurrence;
+  DiscordianDate[] dates = new DiscordianDate[SIZE];
+  int index;
+
+  public enum Rule {
+    DAY_OF_WEEK {
+      @Override
+      DiscordianRecurrence toRecurrence() {
+        return DiscordianRecurrence.everyDayOfWeek(5);
+      }
+    },
+    DAY_OF_SEASON {
+      @Override
+      DiscordianRecurrence toRecurrence() {
+        return DiscordianRecurrence.everyDayOfSeason(23);
+      }
+    },
+    ST_TIBS_DAY {
+      @Override
+      DiscordianRecurrence toRecurrence() {
+        return DiscordianRecurrence.everyStTibsDay();
+      }
+    };
+
+    abstract DiscordianRecurrence toRecurrence();
+  }
+
+  @Setup
+  public void setup() {
+    recurrence = rule.toRecurrence();
+    Random random = new Random(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      dates[i] = DiscordianDate.ofEpochDay(random.nextInt(73000) - 25000);
+    }
+  }
+
+  private DiscordianDate nextDate() {
+    return dates[index++ & (SIZE - 1)];
+  }
+
+  @Benchmark
+  public long nextEpochDayAfter() {
+    return recurrence.nextEpochDayAfter(nextDate().toEpochDay());
+  }
+
+  @Benchmark
+  public DiscordianDate nextAfter() {
+    return recurrence.nextAfter(nextDate());
+  }
+
+  @Benchmark
+  public DiscordianDate stepping() {
+    DiscordianDate date = nextDate();
+    do {
+      date = (DiscordianDate) date.plus(1, ChronoUnit.DAYS);
+    } while (!recurrence.matches(date));
+    return date;
+  }
+}
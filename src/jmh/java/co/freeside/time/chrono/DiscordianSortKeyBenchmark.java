@@ -0,0 +1,66 @@
+package co.freeside.time.chrono;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares sorting dates with a `Comparator` and sorting their epoch days with
+ * {@link DiscordianSortKey}.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscordianSortKeyBenchmark {
+
+  private static final int SIZE = 100000;
+
+  long[] epochDays;
+  DiscordianDate[] dates;
+  long[] work;
+  DiscordianDate[] dateWork;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(SIZE);
+    epochDays = new long[SIZE];
+    dates = new DiscordianDate[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      // roughly 1900 to 2100 CE
+      epochDays[i] = random.nextInt(73000) - 25000;
+      dates[i] = DiscordianDate.ofEpochDay(epochDays[i]);
+    }
+    work = new long[SIZE];
+    dateWork = new DiscordianDate[SIZE];
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public DiscordianDate[] sortDates() {
+    System.arraycopy(dates, 0, dateWork, 0, SIZE);
+    Arrays.sort(dateWork);
+    return dateWork;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public long[] sortEpochDays() {
+    System.arraycopy(epochDays, 0, work, 0, SIZE);
+    Arrays.sort(work);
+    return work;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public long[] radixSortEpochDays() {
+    System.arraycopy(epochDays, 0, work, 0, SIZE);
+    DiscordianSortKey.sortEpochDays(work, 0, SIZE);
+    return work;
+  }
+}
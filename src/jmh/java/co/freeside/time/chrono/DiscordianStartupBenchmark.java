@@ -0,0 +1,39 @@
+package co.freeside.time.chrono;
+
+import java.time.chrono.Chronology;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the latency of the first calls a short-lived process makes, in a
+ * fresh JVM each time, so class initialization and chronology lookup are
+ * included.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class DiscordianStartupBenchmark {
+
+  /**
+   * The lookup through `java.time` that initializes the JDK's chronologies
+   * and scans the service registrations.
+   */
+  @Benchmark
+  public Chronology chronologyOf() {
+    return Chronology.of("Discordian");
+  }
+
+  @Benchmark
+  public Chronology discordianChronologyOf() {
+    return DiscordianChronology.of("Discordian");
+  }
+
+  @Benchmark
+  public String firstDate() {
+    return DiscordianChronology.of("Discordian").dateEpochDay(15794).toString();
+  }
+}
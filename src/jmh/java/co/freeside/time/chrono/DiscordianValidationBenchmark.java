@@ -0,0 +1,72 @@
+package co.freeside.time.chrono;
+
+import java.time.DateTimeException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares converting records that are often invalid with
+ * {@link DiscordianDate#of(int, int, int)}, catching the exception, and with
+ * {@link DiscordianDate#tryOf(int, int, int)}.
+ *
+ * @author Rob Fletcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscordianValidationBenchmark {
+
+  private static final int SIZE = 10000;
+
+  @Param({"0", "10", "50"})
+  public int invalidPercent;
+
+  int[] years;
+  int[] seasons;
+  int[] days;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(SIZE);
+    years = new int[SIZE];
+    seasons = new int[SIZE];
+    days = new int[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      years[i] = 3066 + random.nextInt(200);
+      seasons[i] = 1 + random.nextInt(DiscordianChronology.SEASONS_PER_YEAR);
+      days[i] = 1 + random.nextInt(DiscordianChronology.DAYS_PER_SEASON);
+      if (random.nextInt(100) < invalidPercent) {
+        days[i] += DiscordianChronology.DAYS_PER_SEASON;
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public long ofCatchingException() {
+    long sum = 0;
+    for (int i = 0; i < SIZE; i++) {
+      try {
+        sum += DiscordianDate.of(years[i], seasons[i], days[i]).toEpochDay();
+      } catch (DateTimeException e) {
+        sum--;
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public long tryOf() {
+    long sum = 0;
+    for (int i = 0; i < SIZE; i++) {
+      long epochDay = DiscordianDate.tryOf(years[i], seasons[i], days[i]);
+      sum += epochDay == DiscordianDate.INVALID_EPOCH_DAY ? -1 : epochDay;
+    }
+    return sum;
+  }
+}
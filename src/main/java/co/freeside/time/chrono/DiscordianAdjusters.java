@@ -0,0 +1,115 @@
+package co.freeside.time.chrono;
+
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjuster;
+
+/**
+ * Common Discordian {@link TemporalAdjuster} implementations in the style of
+ * {@link java.time.temporal.TemporalAdjusters}.
+ *
+ * The adjusters work with any temporal that supports
+ * {@link ChronoField#EPOCH_DAY} so they can be applied to a
+ * {@link java.time.LocalDate} as well as a {@link DiscordianDate}. They find
+ * the target day directly from {@link DiscordianHolyday}'s tables rather than
+ * by stepping through days.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianAdjusters {
+
+  private static final TemporalAdjuster NEXT_HOLYDAY = new HolydayAdjuster(null, true);
+  private static final TemporalAdjuster PREVIOUS_HOLYDAY = new HolydayAdjuster(null, false);
+  private static final TemporalAdjuster[] NEXT_OCCURRENCE = new TemporalAdjuster[DiscordianHolyday.values().length];
+  private static final TemporalAdjuster[] PREVIOUS_OCCURRENCE = new TemporalAdjuster[DiscordianHolyday.values().length];
+
+  static {
+    for (DiscordianHolyday holyday : DiscordianHolyday.values()) {
+      NEXT_OCCURRENCE[holyday.ordinal()] = new HolydayAdjuster(holyday, true);
+      PREVIOUS_OCCURRENCE[holyday.ordinal()] = new HolydayAdjuster(holyday, false);
+    }
+  }
+
+  private DiscordianAdjusters() {
+  }
+
+  /**
+   * @return an adjuster that moves to the first holyday after the date being
+   * adjusted.
+   */
+  public static TemporalAdjuster nextHolyday() {
+    return NEXT_HOLYDAY;
+  }
+
+  /**
+   * @return an adjuster that moves to the last holyday before the date being
+   * adjusted.
+   */
+  public static TemporalAdjuster previousHolyday() {
+    return PREVIOUS_HOLYDAY;
+  }
+
+  /**
+   * @return an adjuster that moves to the first occurrence of `holyday` after
+   * the date being adjusted.
+   */
+  public static TemporalAdjuster nextOccurrenceOf(DiscordianHolyday holyday) {
+    return NEXT_OCCURRENCE[holyday.ordinal()];
+  }
+
+  /**
+   * @param holydayName the name of a holyday, e.g. `Discoflux`.
+   * @return an adjuster that moves to the first occurrence of the named holyday
+   * after the date being adjusted.
+   * @throws IllegalArgumentException if `holydayName` is not the name of a
+   *                                  holyday.
+   */
+  public static TemporalAdjuster nextOccurrenceOf(String holydayName) {
+    return nextOccurrenceOf(DiscordianHolyday.ofName(holydayName));
+  }
+
+  /**
+   * @return an adjuster that moves to the last occurrence of `holyday` before
+   * the date being adjusted.
+   */
+  public static TemporalAdjuster previousOccurrenceOf(DiscordianHolyday holyday) {
+    return PREVIOUS_OCCURRENCE[holyday.ordinal()];
+  }
+
+  /**
+   * Moves to the next or previous holyday, or to the next or previous
+   * occurrence of a specific holyday if `holyday` is not `null`.
+   */
+  private static final class HolydayAdjuster implements TemporalAdjuster {
+    private final DiscordianHolyday holyday;
+    private final boolean forward;
+
+    HolydayAdjuster(DiscordianHolyday holyday, boolean forward) {
+      this.holyday = holyday;
+      this.forward = forward;
+    }
+
+    @Override
+    public Temporal adjustInto(Temporal temporal) {
+      int year;
+      int slot;
+      if (temporal instanceof DiscordianDate) {
+        DiscordianDate date = (DiscordianDate) temporal;
+        year = date.getYear();
+        slot = DiscordianHolyday.slotOf(date.getSeason(), date.getDayOfSeason());
+      } else {
+        long isoYearDay = DiscordianYearTable.isoYearDayOfEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+        year = DiscordianChronology.unpackIsoYear(isoYearDay) + DiscordianChronology.ISO_YEAR_OFFSET;
+        int dayOfYear = DiscordianChronology.unpackDayOfYear(isoYearDay);
+        slot = DiscordianChronology.daySlot(DiscordianChronology.leapAdjustedDayOfYear(dayOfYear, DiscordianYearTable.isLeapYear(year)));
+      }
+      long epochDay;
+      if (holyday == null) {
+        epochDay = forward ? DiscordianHolyday.nextEpochDay(year, slot) : DiscordianHolyday.previousEpochDay(year, slot);
+      } else {
+        epochDay = forward ? holyday.nextOccurrenceEpochDay(year, slot) : holyday.previousOccurrenceEpochDay(year, slot);
+      }
+      return temporal.with(ChronoField.EPOCH_DAY, epochDay);
+    }
+  }
+}
@@ -0,0 +1,377 @@
+package co.freeside.time.chrono;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.temporal.ChronoField;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Converts newline delimited ISO dates, such as `2013-03-30`, or epoch days
+ * read from a channel to Discordian dates written to another channel, one
+ * line of output for each line of input.
+ *
+ * Input is read in large chunks that end at a line break. Each chunk is parsed
+ * and formatted by a worker thread directly from bytes to bytes, without
+ * creating a `String` per line. While the workers convert chunks the calling
+ * thread reads ahead and writes finished chunks in the order they were read so
+ * the output lines are in the same order as the input lines. The number of
+ * chunks in progress is limited so a slow output channel holds back reading
+ * rather than filling memory.
+ *
+ * A line that is not a valid date produces an empty line of output so that
+ * the output stays aligned with the input. Leading and trailing spaces, tabs
+ * and carriage returns are ignored.
+ *
+ * Instances are immutable and thread safe.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianBatchConverter {
+
+  /**
+   * The format of each line of input.
+   */
+  public enum Input {
+    /**
+     * Dates in the ISO-8601 format `yyyy-MM-dd`. Years outside the range
+     * 0000..9999 must have a sign as in {@link java.time.LocalDate#parse}.
+     */
+    ISO_DATE,
+    /**
+     * Days since 1970-01-01, see {@link java.time.LocalDate#toEpochDay()}.
+     */
+    EPOCH_DAY
+  }
+
+  public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+  private static final long MIN_EPOCH_DAY = ChronoField.EPOCH_DAY.range().getMinimum();
+  private static final long MAX_EPOCH_DAY = ChronoField.EPOCH_DAY.range().getMaximum();
+  private static final int MAX_EPOCH_DAY_DIGITS = 12;
+  private static final int MAX_YEAR_DIGITS = 9;
+
+  private static final int[] DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+  private final DiscordianFormatter formatter;
+  private final Input input;
+  private final ExecutorService executor;
+  private final int parallelism;
+  private final int chunkSize;
+
+  /**
+   * @return a converter that reads ISO dates and formats them with
+   * `formatter` using the common fork/join pool.
+   */
+  public static DiscordianBatchConverter of(DiscordianFormatter formatter) {
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+    return new DiscordianBatchConverter(formatter, Input.ISO_DATE, pool, pool.getParallelism(), DEFAULT_CHUNK_SIZE);
+  }
+
+  private DiscordianBatchConverter(DiscordianFormatter formatter, Input input, ExecutorService executor, int parallelism, int chunkSize) {
+    this.formatter = Objects.requireNonNull(formatter, "formatter");
+    this.input = Objects.requireNonNull(input, "input");
+    this.executor = Objects.requireNonNull(executor, "executor");
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive");
+    }
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("Chunk size must be positive");
+    }
+    this.parallelism = parallelism;
+    this.chunkSize = chunkSize;
+  }
+
+  public DiscordianBatchConverter withInput(Input input) {
+    return new DiscordianBatchConverter(formatter, input, executor, parallelism, chunkSize);
+  }
+
+  /**
+   * @return a converter that runs conversions on `executor` with at most
+   * `parallelism` chunks being converted at once.
+   */
+  public DiscordianBatchConverter withExecutor(ExecutorService executor, int parallelism) {
+    return new DiscordianBatchConverter(formatter, input, executor, parallelism, chunkSize);
+  }
+
+  /**
+   * @return a converter that reads `chunkSize` bytes of input at a time. A
+   * line longer than the chunk size is read into a larger chunk.
+   */
+  public DiscordianBatchConverter withChunkSize(int chunkSize) {
+    return new DiscordianBatchConverter(formatter, input, executor, parallelism, chunkSize);
+  }
+
+  public DiscordianFormatter getFormatter() {
+    return formatter;
+  }
+
+  public Input getInput() {
+    return input;
+  }
+
+  /**
+   * Converts every line read from `in` until the end of the stream, writing
+   * the output to `out`. Neither channel is closed.
+   *
+   * @return the number of lines that were not valid dates.
+   * @throws IOException if reading or writing fails.
+   */
+  public long convert(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+    ArrayDeque<Future<Chunk>> pending = new ArrayDeque<>(parallelism * 2);
+    long invalid = 0;
+    try {
+      byte[] carry = new byte[0];
+      int carryLength = 0;
+      boolean eof = false;
+      while (!eof) {
+        byte[] buffer = Arrays.copyOf(carry, Math.max(chunkSize, carryLength * 2));
+        ByteBuffer target = ByteBuffer.wrap(buffer, carryLength, buffer.length - carryLength);
+        while (target.hasRemaining() && !eof) {
+          eof = in.read(target) < 0;
+        }
+        int length = target.position();
+        int end = eof ? length : lastLineEnd(buffer, carryLength, length);
+        if (end < 0) {
+          // no line break in the whole chunk so read more of the line
+          carry = buffer;
+          carryLength = length;
+          continue;
+        }
+        carry = Arrays.copyOfRange(buffer, end, length);
+        carryLength = carry.length;
+        if (end > 0) {
+          if (pending.size() == parallelism * 2) {
+            invalid += write(pending.removeFirst(), out);
+          }
+          pending.addLast(executor.submit(new Convert(buffer, end)));
+        }
+      }
+      while (!pending.isEmpty()) {
+        invalid += write(pending.removeFirst(), out);
+      }
+    } finally {
+      for (Future<Chunk> future : pending) {
+        future.cancel(true);
+      }
+    }
+    return invalid;
+  }
+
+  /**
+   * @return the index after the last line break in `buffer` from `from` to
+   * `to` or `-1` if there is none.
+   */
+  private static int lastLineEnd(byte[] buffer, int from, int to) {
+    for (int i = to - 1; i >= from; i--) {
+      if (buffer[i] == '\n') {
+        return i + 1;
+      }
+    }
+    return -1;
+  }
+
+  private static long write(Future<Chunk> future, WritableByteChannel out) throws IOException {
+    Chunk chunk;
+    try {
+      chunk = future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for conversion");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause);
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(chunk.bytes, 0, chunk.length);
+    while (buffer.hasRemaining()) {
+      out.write(buffer);
+    }
+    return chunk.invalid;
+  }
+
+  /**
+   * Converts the lines in `in` from `0` to `length`.
+   */
+  Chunk convert(byte[] in, int length) {
+    int lines = 0;
+    for (int i = 0; i < length; i++) {
+      if (in[i] == '\n') {
+        lines++;
+      }
+    }
+    if (length > 0 && in[length - 1] != '\n') {
+      lines++;
+    }
+    byte[] out = new byte[lines * (formatter.maxLength() + 1)];
+    int position = 0;
+    int invalid = 0;
+    int start = 0;
+    while (start < length) {
+      int end = start;
+      while (end < length && in[end] != '\n') {
+        end++;
+      }
+      long epochDay = parseLine(in, start, end);
+      if (epochDay == DiscordianDate.INVALID_EPOCH_DAY) {
+        invalid++;
+      } else {
+        position = formatter.formatTo(DiscordianDate.ofEpochDay(epochDay), out, position);
+      }
+      out[position++] = '\n';
+      start = end + 1;
+    }
+    return new Chunk(out, position, invalid);
+  }
+
+  /**
+   * @return the epoch day represented by the line from `start` to `end` or
+   * {@link DiscordianDate#INVALID_EPOCH_DAY}.
+   */
+  long parseLine(byte[] bytes, int start, int end) {
+    while (start < end && isSpace(bytes[start])) {
+      start++;
+    }
+    while (end > start && isSpace(bytes[end - 1])) {
+      end--;
+    }
+    return input == Input.ISO_DATE ? parseIsoDate(bytes, start, end) : parseEpochDay(bytes, start, end);
+  }
+
+  private static long parseEpochDay(byte[] bytes, int start, int end) {
+    boolean negative = start < end && bytes[start] == '-';
+    if (negative) {
+      start++;
+    }
+    if (start == end || end - start > MAX_EPOCH_DAY_DIGITS) {
+      return DiscordianDate.INVALID_EPOCH_DAY;
+    }
+    long value = parseDigits(bytes, start, end);
+    if (value < 0) {
+      return DiscordianDate.INVALID_EPOCH_DAY;
+    }
+    if (negative) {
+      value = -value;
+    }
+    return value >= MIN_EPOCH_DAY && value <= MAX_EPOCH_DAY ? value : DiscordianDate.INVALID_EPOCH_DAY;
+  }
+
+  private static long parseIsoDate(byte[] bytes, int start, int end) {
+    // the year is everything up to "-MM-dd"
+    int yearEnd = end - 6;
+    if (yearEnd <= start || bytes[yearEnd] != '-' || bytes[yearEnd + 3] != '-') {
+      return DiscordianDate.INVALID_EPOCH_DAY;
+    }
+    int position = start;
+    boolean signed = bytes[position] == '+' || bytes[position] == '-';
+    boolean negative = bytes[position] == '-';
+    if (signed) {
+      position++;
+    }
+    int digits = yearEnd - position;
+    if (digits < 4 || digits > MAX_YEAR_DIGITS || (digits > 4 && !signed)) {
+      return DiscordianDate.INVALID_EPOCH_DAY;
+    }
+    long year = parseDigits(bytes, position, yearEnd);
+    long month = parseDigits(bytes, yearEnd + 1, yearEnd + 3);
+    long day = parseDigits(bytes, yearEnd + 4, end);
+    if (year < 0 || month < 1 || month > 12 || day < 1) {
+      return DiscordianDate.INVALID_EPOCH_DAY;
+    }
+    // like LocalDate.parse a 4 digit year only takes a sign if it is negative
+    // and a year of zero is never negative
+    if ((signed && !negative && digits == 4) || (negative && year == 0)) {
+      return DiscordianDate.INVALID_EPOCH_DAY;
+    }
+    if (negative) {
+      year = -year;
+    }
+    boolean leapYear = DiscordianChronology.isIsoLeapYear(year);
+    if (day > lengthOfMonth((int) month, leapYear)) {
+      return DiscordianDate.INVALID_EPOCH_DAY;
+    }
+    int dayOfYear = DAYS_BEFORE_MONTH[(int) month - 1] + (int) day;
+    if (leapYear && month > 2) {
+      dayOfYear++;
+    }
+    return DiscordianChronology.isoYearStartEpochDay(year) + dayOfYear - 1;
+  }
+
+  private static int lengthOfMonth(int month, boolean leapYear) {
+    switch (month) {
+      case 2:
+        return leapYear ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /**
+   * @return the value of the decimal digits from `start` to `end` or `-1` if
+   * any byte is not a digit.
+   */
+  private static long parseDigits(byte[] bytes, int start, int end) {
+    long value = 0;
+    for (int i = start; i < end; i++) {
+      int digit = bytes[i] - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private static boolean isSpace(byte b) {
+    return b == ' ' || b == '\t' || b == '\r';
+  }
+
+  /**
+   * The converted output of a chunk of input.
+   */
+  static final class Chunk {
+    final byte[] bytes;
+    final int length;
+    final int invalid;
+
+    Chunk(byte[] bytes, int length, int invalid) {
+      this.bytes = bytes;
+      this.length = length;
+      this.invalid = invalid;
+    }
+  }
+
+  private final class Convert implements Callable<Chunk> {
+    private final byte[] bytes;
+    private final int length;
+
+    Convert(byte[] bytes, int length) {
+      this.bytes = bytes;
+      this.length = length;
+    }
+
+    @Override
+    public Chunk call() {
+      return convert(bytes, length);
+    }
+  }
+}
@@ -0,0 +1,443 @@
+package co.freeside.time.chrono;
+
+import java.time.DateTimeException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Aggregates values into buckets of a Discordian week, season or year. Each
+ * bucket keeps the count, sum, minimum and maximum of the values added to it
+ * in primitive arrays.
+ *
+ * The buckets cover a fixed window of Discordian years and are numbered
+ * densely from `0` for the first bucket of the first year. An event's bucket
+ * comes straight from its epoch day with the same arithmetic
+ * {@link DiscordianDate} uses for its season and day-of-week, so no
+ * {@link DiscordianDate} is created per event. Epoch milliseconds are
+ * treated as UTC.
+ *
+ * _St. Tib's Day_ falls between _Chaos 59_ and _Chaos 60_, which are always
+ * in the same week, season and year, so the day can only be merged into that
+ * bucket or counted in a bucket of its own. See {@link StTibsDay}.
+ *
+ * An instance is not thread safe. To aggregate in parallel either use
+ * {@link #addAllParallel(long[], long[])}, or give each thread its own
+ * {@link #emptyCopy()} and {@link #merge(DiscordianBuckets)} the results.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianBuckets {
+
+  /**
+   * How _St. Tib's Day_ is bucketed.
+   */
+  public enum StTibsDay {
+    /**
+     * _St. Tib's Day_ is in the same bucket as the days either side of it.
+     */
+    MERGE,
+    /**
+     * Each year has an extra bucket after all its others for _St. Tib's Day_.
+     * The bucket is always empty in years that are not leap years.
+     */
+    SEPARATE
+  }
+
+  /**
+   * Arrays shorter than this are not split any further by
+   * {@link #addAllParallel(long[], long[])}. Longer arrays are split into no
+   * more than a few parts per thread as each part needs its own buckets.
+   */
+  private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+  private final ChronoUnit unit;
+  private final StTibsDay stTibsDay;
+  private final int startYear;
+  private final int endYear;
+  private final int daysPerBucket;
+  private final int bucketsPerYear;
+  /**
+   * The number of buckets for each year including the _St. Tib's Day_ bucket
+   * if there is one.
+   */
+  private final int stride;
+  private final long startEpochDay;
+  private final long endEpochDay;
+  private final long[] counts;
+  private final long[] sums;
+  private final long[] mins;
+  private final long[] maxes;
+
+  /**
+   * Creates empty buckets of `unit` for the Discordian years from `startYear`
+   * (inclusive) to `endYear` (exclusive).
+   *
+   * @param unit one of {@link ChronoUnit#WEEKS}, {@link ChronoUnit#MONTHS}
+   *             (seasons) or {@link ChronoUnit#YEARS}.
+   * @throws DateTimeException        if `unit` is not supported or either year
+   *                                  is invalid.
+   * @throws IllegalArgumentException if `endYear` is not after `startYear` or
+   *                                  there would be too many buckets.
+   */
+  public static DiscordianBuckets of(ChronoUnit unit, StTibsDay stTibsDay, int startYear, int endYear) {
+    return new DiscordianBuckets(unit, stTibsDay, startYear, endYear);
+  }
+
+  private DiscordianBuckets(ChronoUnit unit, StTibsDay stTibsDay, int startYear, int endYear) {
+    if (endYear <= startYear) {
+      throw new IllegalArgumentException("Invalid bucket window " + startYear + ".." + endYear);
+    }
+    DiscordianChronology.YEAR_RANGE.checkValidValue(startYear, ChronoField.YEAR);
+    DiscordianChronology.YEAR_RANGE.checkValidValue(endYear - 1, ChronoField.YEAR);
+    this.unit = unit;
+    this.stTibsDay = stTibsDay;
+    this.startYear = startYear;
+    this.endYear = endYear;
+    this.daysPerBucket = daysIn(unit);
+    this.bucketsPerYear = (DiscordianChronology.SEASONS_PER_YEAR * DiscordianChronology.DAYS_PER_SEASON) / daysPerBucket;
+    this.stride = stTibsDay == StTibsDay.SEPARATE ? bucketsPerYear + 1 : bucketsPerYear;
+    this.startEpochDay = DiscordianYearTable.yearStartEpochDay(startYear);
+    this.endEpochDay = DiscordianYearTable.yearStartEpochDay(endYear);
+    long size = (long) (endYear - startYear) * stride;
+    if (size > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("Too many buckets for " + startYear + ".." + endYear + " by " + unit);
+    }
+    counts = new long[(int) size];
+    sums = new long[(int) size];
+    mins = new long[(int) size];
+    maxes = new long[(int) size];
+    Arrays.fill(mins, Long.MAX_VALUE);
+    Arrays.fill(maxes, Long.MIN_VALUE);
+  }
+
+  private static int daysIn(ChronoUnit unit) {
+    switch (unit) {
+      case WEEKS:
+        return DiscordianChronology.DAYS_PER_WEEK;
+      case MONTHS:
+        return DiscordianChronology.DAYS_PER_SEASON;
+      case YEARS:
+        return DiscordianChronology.SEASONS_PER_YEAR * DiscordianChronology.DAYS_PER_SEASON;
+      default:
+        throw new DateTimeException("Unsupported bucket unit " + unit + ". Only weeks, months (seasons) and years are supported");
+    }
+  }
+
+  /**
+   * @return new, empty buckets with the same unit, window and
+   * _St. Tib's Day_ policy as this.
+   */
+  public DiscordianBuckets emptyCopy() {
+    return new DiscordianBuckets(unit, stTibsDay, startYear, endYear);
+  }
+
+  /**
+   * @return the index of the bucket containing `epochDay`.
+   * @throws DateTimeException if `epochDay` is outside the window of years.
+   */
+  public int bucketOfEpochDay(long epochDay) {
+    if (epochDay < startEpochDay || epochDay >= endEpochDay) {
+      throw new DateTimeException("Epoch day " + epochDay + " is outside the buckets for " + startYear + ".." + endYear);
+    }
+    long isoYearDay = DiscordianYearTable.isoYearDayOfEpochDay(epochDay);
+    int year = DiscordianChronology.unpackIsoYear(isoYearDay) + DiscordianChronology.ISO_YEAR_OFFSET;
+    int adjusted = DiscordianChronology.leapAdjustedDayOfYear(DiscordianChronology.unpackDayOfYear(isoYearDay), DiscordianYearTable.isLeapYear(year));
+    int base = (year - startYear) * stride;
+    if (adjusted == 0) {
+      if (stTibsDay == StTibsDay.SEPARATE) {
+        return base + bucketsPerYear;
+      }
+      adjusted = DiscordianDate.ST_TIBS_DAY;
+    }
+    switch (unit) {
+      case WEEKS:
+        return base + DiscordianChronology.weekOfYearOf(adjusted) - 1;
+      case MONTHS:
+        return base + DiscordianChronology.seasonOf(adjusted) - 1;
+      default:
+        return base;
+    }
+  }
+
+  /**
+   * @return the index of the bucket containing the UTC day of `epochMilli`.
+   * @throws DateTimeException if the day is outside the window of years.
+   */
+  public int bucketOfEpochMilli(long epochMilli) {
+    return bucketOfEpochDay(Math.floorDiv(epochMilli, DiscordianDateTime.MILLIS_PER_DAY));
+  }
+
+  /**
+   * Adds `value` to the bucket containing `epochDay`.
+   *
+   * @throws DateTimeException if `epochDay` is outside the window of years.
+   */
+  public void add(long epochDay, long value) {
+    accumulate(bucketOfEpochDay(epochDay), value);
+  }
+
+  /**
+   * Adds `value` to the bucket containing the UTC day of `epochMilli`.
+   *
+   * @throws DateTimeException if the day is outside the window of years.
+   */
+  public void addEpochMilli(long epochMilli, long value) {
+    accumulate(bucketOfEpochMilli(epochMilli), value);
+  }
+
+  /**
+   * Adds each value in `values` to the bucket containing the epoch day at the
+   * same index of `epochDays`.
+   *
+   * @throws DateTimeException if any epoch day is outside the window of years.
+   */
+  public void addAll(long[] epochDays, long[] values) {
+    checkLength(epochDays, values);
+    addAll(epochDays, values, false, 0, epochDays.length);
+  }
+
+  /**
+   * The equivalent of {@link #addAll(long[], long[])} for epoch milliseconds.
+   */
+  public void addAllEpochMillis(long[] epochMillis, long[] values) {
+    checkLength(epochMillis, values);
+    addAll(epochMillis, values, true, 0, epochMillis.length);
+  }
+
+  /**
+   * A parallel version of {@link #addAll(long[], long[])} using the common
+   * fork/join pool.
+   */
+  public void addAllParallel(long[] epochDays, long[] values) {
+    addAllParallel(epochDays, values, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * A parallel version of {@link #addAll(long[], long[])} using `pool`. Each
+   * task aggregates its part of the arrays into its own buckets which are
+   * then merged.
+   */
+  public void addAllParallel(long[] epochDays, long[] values, ForkJoinPool pool) {
+    checkLength(epochDays, values);
+    merge(pool.invoke(new AddAll(this, epochDays, values, false, 0, epochDays.length, threshold(epochDays.length, pool))));
+  }
+
+  /**
+   * A parallel version of {@link #addAllEpochMillis(long[], long[])} using the
+   * common fork/join pool.
+   */
+  public void addAllEpochMillisParallel(long[] epochMillis, long[] values) {
+    addAllEpochMillisParallel(epochMillis, values, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * A parallel version of {@link #addAllEpochMillis(long[], long[])} using
+   * `pool`.
+   */
+  public void addAllEpochMillisParallel(long[] epochMillis, long[] values, ForkJoinPool pool) {
+    checkLength(epochMillis, values);
+    merge(pool.invoke(new AddAll(this, epochMillis, values, true, 0, epochMillis.length, threshold(epochMillis.length, pool))));
+  }
+
+  /**
+   * Adds the counts, sums, minimums and maximums of `other` to this.
+   *
+   * @throws IllegalArgumentException if `other` does not have the same unit,
+   *                                  window and _St. Tib's Day_ policy.
+   */
+  public void merge(DiscordianBuckets other) {
+    if (unit != other.unit || stTibsDay != other.stTibsDay || startYear != other.startYear || endYear != other.endYear) {
+      throw new IllegalArgumentException("Cannot merge " + other + " into " + this);
+    }
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] += other.counts[i];
+      sums[i] += other.sums[i];
+      mins[i] = Math.min(mins[i], other.mins[i]);
+      maxes[i] = Math.max(maxes[i], other.maxes[i]);
+    }
+  }
+
+  /**
+   * The aggregation loop. Like the loops in {@link DiscordianBulk} it does not
+   * allocate.
+   */
+  private void addAll(long[] times, long[] values, boolean millis, int from, int to) {
+    for (int i = from; i < to; i++) {
+      long time = times[i];
+      accumulate(millis ? bucketOfEpochMilli(time) : bucketOfEpochDay(time), values[i]);
+    }
+  }
+
+  private void accumulate(int bucket, long value) {
+    counts[bucket]++;
+    sums[bucket] += value;
+    if (value < mins[bucket]) {
+      mins[bucket] = value;
+    }
+    if (value > maxes[bucket]) {
+      maxes[bucket] = value;
+    }
+  }
+
+  private static int threshold(int length, ForkJoinPool pool) {
+    return Math.max(PARALLEL_THRESHOLD, length / (pool.getParallelism() * 4));
+  }
+
+  private static void checkLength(long[] times, long[] values) {
+    if (values.length < times.length) {
+      throw new IllegalArgumentException("Expected values of length " + times.length + " but found length " + values.length);
+    }
+  }
+
+  /**
+   * @return the number of buckets.
+   */
+  public int size() {
+    return counts.length;
+  }
+
+  public ChronoUnit getUnit() {
+    return unit;
+  }
+
+  public StTibsDay getStTibsDay() {
+    return stTibsDay;
+  }
+
+  /**
+   * @return the Discordian year of `bucket`.
+   */
+  public int getYear(int bucket) {
+    checkBucket(bucket);
+    return startYear + (bucket / stride);
+  }
+
+  /**
+   * @return `true` if `bucket` is a bucket for _St. Tib's Day_ alone.
+   */
+  public boolean isStTibsDay(int bucket) {
+    checkBucket(bucket);
+    return bucket % stride == bucketsPerYear;
+  }
+
+  /**
+   * @return the epoch day of the first day of `bucket` or
+   * {@link DiscordianDate#INVALID_EPOCH_DAY} if it is the _St. Tib's Day_
+   * bucket of a year that is not a leap year.
+   */
+  public long getStartEpochDay(int bucket) {
+    int year = getYear(bucket);
+    int slot = bucket % stride;
+    if (slot == bucketsPerYear) {
+      return DiscordianYearTable.stTibsDayEpochDay(year);
+    }
+    int dayOfYear = (slot * daysPerBucket) + 1;
+    if (dayOfYear >= DiscordianDate.ST_TIBS_DAY && DiscordianYearTable.isLeapYear(year)) {
+      dayOfYear++;
+    }
+    return DiscordianYearTable.yearStartEpochDay(year) + dayOfYear - 1;
+  }
+
+  /**
+   * @return the number of values added to `bucket`.
+   */
+  public long getCount(int bucket) {
+    checkBucket(bucket);
+    return counts[bucket];
+  }
+
+  /**
+   * @return the sum of the values added to `bucket`.
+   */
+  public long getSum(int bucket) {
+    checkBucket(bucket);
+    return sums[bucket];
+  }
+
+  /**
+   * @return the smallest value added to `bucket` or `Long.MAX_VALUE` if it is
+   * empty.
+   */
+  public long getMin(int bucket) {
+    checkBucket(bucket);
+    return mins[bucket];
+  }
+
+  /**
+   * @return the largest value added to `bucket` or `Long.MIN_VALUE` if it is
+   * empty.
+   */
+  public long getMax(int bucket) {
+    checkBucket(bucket);
+    return maxes[bucket];
+  }
+
+  /**
+   * @return a copy of the count of each bucket.
+   */
+  public long[] getCounts() {
+    return counts.clone();
+  }
+
+  /**
+   * @return a copy of the sum of each bucket.
+   */
+  public long[] getSums() {
+    return sums.clone();
+  }
+
+  private void checkBucket(int bucket) {
+    if (bucket < 0 || bucket >= counts.length) {
+      throw new IndexOutOfBoundsException("Bucket " + bucket + " of " + counts.length);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "DiscordianBuckets[" + unit + " from " + startYear + " to " + endYear + ", St. Tib's Day " + stTibsDay + "]";
+  }
+
+  /**
+   * Aggregates part of the input into new buckets, splitting in half until
+   * the part is small enough.
+   */
+  private static final class AddAll extends RecursiveTask<DiscordianBuckets> {
+    private static final long serialVersionUID = 1L;
+
+    private final DiscordianBuckets template;
+    private final long[] times;
+    private final long[] values;
+    private final boolean millis;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    AddAll(DiscordianBuckets template, long[] times, long[] values, boolean millis, int from, int to, int threshold) {
+      this.template = template;
+      this.times = times;
+      this.values = values;
+      this.millis = millis;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected DiscordianBuckets compute() {
+      if (to - from <= threshold) {
+        DiscordianBuckets buckets = template.emptyCopy();
+        buckets.addAll(times, values, millis, from, to);
+        return buckets;
+      }
+      int middle = (from + to) >>> 1;
+      AddAll right = new AddAll(template, times, values, millis, middle, to, threshold);
+      right.fork();
+      DiscordianBuckets buckets = new AddAll(template, times, values, millis, from, middle, threshold).compute();
+      buckets.merge(right.join());
+      return buckets;
+    }
+  }
+}
@@ -0,0 +1,221 @@
+package co.freeside.time.chrono;
+
+import java.time.DateTimeException;
+import java.time.temporal.ChronoField;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Converts whole arrays of dates between epoch days and Discordian year,
+ * season, day-of-season and day-of-week columns without creating a
+ * {@link DiscordianDate} per element.
+ *
+ * As with {@link DiscordianDate} _St. Tib's Day_ has a season, day-of-season
+ * and day-of-week of `0`.
+ *
+ * The `parallel` variants split the arrays into chunks converted by a
+ * {@link ForkJoinPool}, by default the common pool. They are only worthwhile for
+ * inputs of many thousands of elements.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianBulk {
+
+  /**
+   * Arrays shorter than this are not split any further by the parallel
+   * conversions.
+   */
+  private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+  private static final long MIN_EPOCH_DAY = ChronoField.EPOCH_DAY.range().getMinimum();
+  private static final long MAX_EPOCH_DAY = ChronoField.EPOCH_DAY.range().getMaximum();
+
+  private DiscordianBulk() {
+  }
+
+  /**
+   * Converts each epoch day in `epochDays` to the Discordian year, season,
+   * day-of-season and day-of-week written to the same index of the output
+   * arrays. The output arrays must be at least as long as `epochDays`.
+   *
+   * @throws DateTimeException if any epoch day is out of range.
+   */
+  public static void fromEpochDays(long[] epochDays, int[] yearOut, byte[] seasonOut, byte[] dayOut, byte[] weekdayOut) {
+    checkLength(epochDays.length, yearOut.length, seasonOut.length, dayOut.length, weekdayOut.length);
+    fromEpochDays(epochDays, yearOut, seasonOut, dayOut, weekdayOut, 0, epochDays.length);
+  }
+
+  /**
+   * A parallel version of
+   * {@link #fromEpochDays(long[], int[], byte[], byte[], byte[])} using the
+   * common fork/join pool.
+   */
+  public static void fromEpochDaysParallel(long[] epochDays, int[] yearOut, byte[] seasonOut, byte[] dayOut, byte[] weekdayOut) {
+    fromEpochDaysParallel(epochDays, yearOut, seasonOut, dayOut, weekdayOut, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * A parallel version of
+   * {@link #fromEpochDays(long[], int[], byte[], byte[], byte[])} using `pool`.
+   */
+  public static void fromEpochDaysParallel(long[] epochDays, int[] yearOut, byte[] seasonOut, byte[] dayOut, byte[] weekdayOut, ForkJoinPool pool) {
+    checkLength(epochDays.length, yearOut.length, seasonOut.length, dayOut.length, weekdayOut.length);
+    pool.invoke(new FromEpochDays(epochDays, yearOut, seasonOut, dayOut, weekdayOut, 0, epochDays.length));
+  }
+
+  /**
+   * Converts each Discordian year, season and day-of-season to the epoch day
+   * written to the same index of `epochDayOut`. A season and day-of-season of
+   * `0` represents _St. Tib's Day_. The input arrays must be at least as long
+   * as `epochDayOut`.
+   *
+   * @throws DateTimeException if any date is invalid.
+   */
+  public static void toEpochDays(int[] years, byte[] seasons, byte[] days, long[] epochDayOut) {
+    checkLength(epochDayOut.length, years.length, seasons.length, days.length);
+    toEpochDays(years, seasons, days, epochDayOut, 0, epochDayOut.length);
+  }
+
+  /**
+   * A parallel version of {@link #toEpochDays(int[], byte[], byte[], long[])}
+   * using the common fork/join pool.
+   */
+  public static void toEpochDaysParallel(int[] years, byte[] seasons, byte[] days, long[] epochDayOut) {
+    toEpochDaysParallel(years, seasons, days, epochDayOut, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * A parallel version of {@link #toEpochDays(int[], byte[], byte[], long[])}
+   * using `pool`.
+   */
+  public static void toEpochDaysParallel(int[] years, byte[] seasons, byte[] days, long[] epochDayOut, ForkJoinPool pool) {
+    checkLength(epochDayOut.length, years.length, seasons.length, days.length);
+    pool.invoke(new ToEpochDays(years, seasons, days, epochDayOut, 0, epochDayOut.length));
+  }
+
+  /**
+   * The conversion loop. It is a simple counted loop with no allocation or
+   * calls that cannot be inlined so the JIT is free to unroll it.
+   */
+  private static void fromEpochDays(long[] epochDays, int[] yearOut, byte[] seasonOut, byte[] dayOut, byte[] weekdayOut, int from, int to) {
+    for (int i = from; i < to; i++) {
+      long epochDay = epochDays[i];
+      if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+        throw new DateTimeException("Invalid epoch day " + epochDay + " at index " + i);
+      }
+      long isoYearDay = DiscordianYearTable.isoYearDayOfEpochDay(epochDay);
+      int year = DiscordianChronology.unpackIsoYear(isoYearDay) + DiscordianChronology.ISO_YEAR_OFFSET;
+      int adjusted = DiscordianChronology.leapAdjustedDayOfYear(DiscordianChronology.unpackDayOfYear(isoYearDay), DiscordianYearTable.isLeapYear(year));
+      yearOut[i] = year;
+      if (adjusted == 0) {
+        seasonOut[i] = 0;
+        dayOut[i] = 0;
+        weekdayOut[i] = 0;
+      } else {
+        seasonOut[i] = (byte) DiscordianChronology.seasonOf(adjusted);
+        dayOut[i] = (byte) DiscordianChronology.dayOfSeasonOf(adjusted);
+        weekdayOut[i] = (byte) DiscordianChronology.dayOfWeekOf(adjusted);
+      }
+    }
+  }
+
+  private static void toEpochDays(int[] years, byte[] seasons, byte[] days, long[] epochDayOut, int from, int to) {
+    for (int i = from; i < to; i++) {
+      int year = years[i];
+      int season = seasons[i];
+      int dayOfSeason = days[i];
+      if (!ChronoField.YEAR.range().isValidValue((long) year - DiscordianChronology.ISO_YEAR_OFFSET)) {
+        throw new DateTimeException("Invalid year " + year + " at index " + i);
+      }
+      boolean leapYear = DiscordianYearTable.isLeapYear(year);
+      int dayOfYear;
+      if (season == 0 && dayOfSeason == 0 && leapYear) {
+        dayOfYear = DiscordianDate.ST_TIBS_DAY;
+      } else if (season >= 1 && season <= DiscordianChronology.SEASONS_PER_YEAR && dayOfSeason >= 1 && dayOfSeason <= DiscordianChronology.DAYS_PER_SEASON) {
+        dayOfYear = (season - 1) * DiscordianChronology.DAYS_PER_SEASON + dayOfSeason;
+        if (leapYear && dayOfYear >= DiscordianDate.ST_TIBS_DAY) {
+          dayOfYear++;
+        }
+      } else {
+        throw new DateTimeException("Invalid season " + season + " and day " + dayOfSeason + " in year " + year + " at index " + i);
+      }
+      epochDayOut[i] = DiscordianYearTable.yearStartEpochDay(year) + dayOfYear - 1;
+    }
+  }
+
+  private static void checkLength(int required, int... lengths) {
+    for (int length : lengths) {
+      if (length < required) {
+        throw new IllegalArgumentException("Expected arrays of length " + required + " but found one of length " + length);
+      }
+    }
+  }
+
+  private static final class FromEpochDays extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final long[] epochDays;
+    private final int[] yearOut;
+    private final byte[] seasonOut;
+    private final byte[] dayOut;
+    private final byte[] weekdayOut;
+    private final int from;
+    private final int to;
+
+    FromEpochDays(long[] epochDays, int[] yearOut, byte[] seasonOut, byte[] dayOut, byte[] weekdayOut, int from, int to) {
+      this.epochDays = epochDays;
+      this.yearOut = yearOut;
+      this.seasonOut = seasonOut;
+      this.dayOut = dayOut;
+      this.weekdayOut = weekdayOut;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        fromEpochDays(epochDays, yearOut, seasonOut, dayOut, weekdayOut, from, to);
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new FromEpochDays(epochDays, yearOut, seasonOut, dayOut, weekdayOut, from, middle),
+            new FromEpochDays(epochDays, yearOut, seasonOut, dayOut, weekdayOut, middle, to)
+        );
+      }
+    }
+  }
+
+  private static final class ToEpochDays extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] years;
+    private final byte[] seasons;
+    private final byte[] days;
+    private final long[] epochDayOut;
+    private final int from;
+    private final int to;
+
+    ToEpochDays(int[] years, byte[] seasons, byte[] days, long[] epochDayOut, int from, int to) {
+      this.years = years;
+      this.seasons = seasons;
+      this.days = days;
+      this.epochDayOut = epochDayOut;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        toEpochDays(years, seasons, days, epochDayOut, from, to);
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new ToEpochDays(years, seasons, days, epochDayOut, from, middle),
+            new ToEpochDays(years, seasons, days, epochDayOut, middle, to)
+        );
+      }
+    }
+  }
+}
@@ -2,15 +2,19 @@ package co.freeside.time.chrono;
 
 import java.io.Serializable;
 import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneId;
 import java.time.chrono.AbstractChronology;
-import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.Chronology;
 import java.time.chrono.Era;
 import java.time.chrono.IsoChronology;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.ValueRange;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -27,6 +31,9 @@ import java.util.List;
  * is always _Chaos 60_ in the Discordian calendar regardless of whether it is a
  * leap year or not.
  *
+ * How many dates are created, validated and formatted can be monitored by
+ * enabling {@link DiscordianMetrics}.
+ *
  * @author Rob Fletcher
  */
 public final class DiscordianChronology extends AbstractChronology
@@ -44,11 +51,32 @@ public final class DiscordianChronology extends AbstractChronology
   public static final ValueRange MONTH_OF_YEAR_RANGE = ValueRange.of(0, 1, SEASONS_PER_YEAR, SEASONS_PER_YEAR);
   public static final ValueRange DAY_OF_MONTH_RANGE = ValueRange.of(0, 1, DAYS_PER_SEASON, DAYS_PER_SEASON);
   public static final ValueRange DAY_OF_WEEK_RANGE = ValueRange.of(0, 1, DAYS_PER_WEEK, DAYS_PER_WEEK);
+  public static final ValueRange ALIGNED_WEEK_OF_MONTH_RANGE = ValueRange.of(1, (DAYS_PER_SEASON + DAYS_PER_WEEK - 1) / DAYS_PER_WEEK);
+  public static final ValueRange ALIGNED_WEEK_OF_YEAR_RANGE = ValueRange.of(1, (SEASONS_PER_YEAR * DAYS_PER_SEASON) / DAYS_PER_WEEK);
 
   public static final int ISO_YEAR_OFFSET = 1166;
 
+  /**
+   * The Discordian years equivalent to the years supported by
+   * {@link java.time.LocalDate}.
+   */
+  public static final ValueRange YEAR_RANGE = ValueRange.of(Year.MIN_VALUE + ISO_YEAR_OFFSET, Year.MAX_VALUE + ISO_YEAR_OFFSET);
+  public static final ValueRange PROLEPTIC_MONTH_RANGE = ValueRange.of(YEAR_RANGE.getMinimum() * SEASONS_PER_YEAR, (YEAR_RANGE.getMaximum() * SEASONS_PER_YEAR) + SEASONS_PER_YEAR - 1);
+
+  /**
+   * The number of days in a 400 year cycle.
+   */
+  static final long DAYS_PER_CYCLE = 146097L;
+
+  /**
+   * The number of days from year zero to 1970-01-01. There were five 400 year
+   * cycles from year zero to 2000 and there are 7 leap years from 1970 to 2000.
+   */
+  static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
   private static final List<String> SEASON_NAMES = Arrays.asList("Chaos", "Discord", "Confusion", "Bureaucracy", "The Aftermath");
   private static final List<String> DAY_NAMES = Arrays.asList("Sweetmorn", "Boomtime", "Pungenday", "Prickle-Prickle", "Setting Orange");
+  private static final List<Era> ERAS = Collections.<Era>singletonList(DiscordianEra.YOLD);
 
   private static final long serialVersionUID = 5856281505361396284L;
 
@@ -59,6 +87,27 @@ public final class DiscordianChronology extends AbstractChronology
     return INSTANCE;
   }
 
+  /**
+   * Obtains a chronology by id in the same way as
+   * {@link Chronology#of(String)} except that the Discordian
+   * chronology is returned directly.
+   *
+   * The first call to `Chronology.of` with an id other than that of a
+   * built-in chronology initializes all the JDK's chronologies and scans
+   * every `META-INF/services` registration with
+   * {@link java.util.ServiceLoader}, which is slow when a process is only
+   * going to run briefly. This method skips that for the Discordian
+   * chronology and delegates any other id to `Chronology.of`.
+   *
+   * @throws DateTimeException if the id is not a known chronology.
+   */
+  public static Chronology of(String id) {
+    if (INSTANCE.getId().equals(id)) {
+      return INSTANCE;
+    }
+    return Chronology.of(id);
+  }
+
   @Override
   public String getId() {
     return "Discordian";
@@ -70,30 +119,47 @@ public final class DiscordianChronology extends AbstractChronology
   }
 
   @Override
-  public ChronoLocalDate date(int prolepticYear, int season, int dayOfSeason) {
+  public DiscordianDate date(int prolepticYear, int season, int dayOfSeason) {
     return DiscordianDate.of(prolepticYear, season, dayOfSeason);
   }
 
   @Override
-  public ChronoLocalDate date(TemporalAccessor temporal) {
+  public DiscordianDate date(TemporalAccessor temporal) {
     if (temporal instanceof DiscordianDate) {
       return (DiscordianDate) temporal;
     }
-    return new DiscordianDate(LocalDate.from(temporal));
+    DiscordianDate date = DiscordianDate.fromEpochDay(LocalDate.from(temporal).toEpochDay());
+    DiscordianMetrics.recordFromTemporal(date);
+    return date;
   }
 
   @Override
-  public ChronoLocalDate dateYearDay(int prolepticYear, int dayOfYear) {
+  public DiscordianDate dateYearDay(int prolepticYear, int dayOfYear) {
     return DiscordianDate.of(prolepticYear, dayOfYear);
   }
 
-  @Override public ChronoLocalDate dateEpochDay(long epochDay) {
+  @Override public DiscordianDate dateEpochDay(long epochDay) {
     return DiscordianDate.ofEpochDay(epochDay);
   }
 
+  @Override
+  public DiscordianDateTime localDateTime(TemporalAccessor temporal) {
+    return DiscordianDateTime.from(temporal);
+  }
+
+  @Override
+  public DiscordianZonedDateTime zonedDateTime(TemporalAccessor temporal) {
+    return DiscordianZonedDateTime.from(temporal);
+  }
+
+  @Override
+  public DiscordianZonedDateTime zonedDateTime(Instant instant, ZoneId zone) {
+    return DiscordianZonedDateTime.ofInstant(instant, zone);
+  }
+
   @Override
   public boolean isLeapYear(long prolepticYear) {
-    return IsoChronology.INSTANCE.isLeapYear(discordianToIsoYear((int) prolepticYear));
+    return DiscordianYearTable.isLeapYear(prolepticYear);
   }
 
   @Override
@@ -106,9 +172,13 @@ public final class DiscordianChronology extends AbstractChronology
     return DiscordianEra.YOLD;
   }
 
+  /**
+   * @return an immutable list of the single Discordian era. The same list is
+   * returned by every call.
+   */
   @Override
   public List<Era> eras() {
-    return Arrays.<Era>asList(DiscordianEra.values());
+    return ERAS;
   }
 
   @Override
@@ -119,7 +189,18 @@ public final class DiscordianChronology extends AbstractChronology
       case DAY_OF_MONTH:
         return DAY_OF_MONTH_RANGE;
       case DAY_OF_WEEK:
+      case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+      case ALIGNED_DAY_OF_WEEK_IN_YEAR:
         return DAY_OF_WEEK_RANGE;
+      case ALIGNED_WEEK_OF_MONTH:
+        return ALIGNED_WEEK_OF_MONTH_RANGE;
+      case ALIGNED_WEEK_OF_YEAR:
+        return ALIGNED_WEEK_OF_YEAR_RANGE;
+      case PROLEPTIC_MONTH:
+        return PROLEPTIC_MONTH_RANGE;
+      case YEAR_OF_ERA:
+      case YEAR:
+        return YEAR_RANGE;
     }
     return IsoChronology.INSTANCE.range(field);
   }
@@ -157,6 +238,40 @@ public final class DiscordianChronology extends AbstractChronology
     return DAY_NAMES.get(dayOfWeek - 1);
   }
 
+  /**
+   * @return `true` if `year` is a valid Discordian year.
+   */
+  public boolean isValidYear(long year) {
+    return YEAR_RANGE.isValidValue(year);
+  }
+
+  /**
+   * @return `true` if `season` falls in the range 1..5. Unlike
+   * {@link #checkValidSeason(int)} the _0_ used for _St. Tib's Day_ is not
+   * valid.
+   */
+  public boolean isValidSeason(int season) {
+    return season >= 1 && season <= SEASONS_PER_YEAR;
+  }
+
+  /**
+   * @return `true` if `dayOfSeason` falls in the range 1..73. Unlike
+   * {@link #checkValidDayOfSeason(int)} the _0_ used for _St. Tib's Day_ is
+   * not valid.
+   */
+  public boolean isValidDayOfSeason(int dayOfSeason) {
+    return dayOfSeason >= 1 && dayOfSeason <= DAYS_PER_SEASON;
+  }
+
+  /**
+   * @return `true` if `dayOfWeek` falls in the range 1..5. Unlike
+   * {@link #checkValidDayOfWeek(int)} the _0_ used for _St. Tib's Day_ is
+   * not valid.
+   */
+  public boolean isValidDayOfWeek(int dayOfWeek) {
+    return dayOfWeek >= 1 && dayOfWeek <= DAYS_PER_WEEK;
+  }
+
   /**
    * Asserts that `season` falls in the valid range. Throws
    * {@link DateTimeException} otherwise.
@@ -181,11 +296,164 @@ public final class DiscordianChronology extends AbstractChronology
     checkValueInRange(dayOfWeek, ChronoField.DAY_OF_WEEK);
   }
 
+  /**
+   * Asserts that `season` is in the range 1..5. Unlike
+   * {@link #checkValidSeason(int)} this rejects the _0_ used for
+   * _St. Tib's Day_.
+   */
+  void checkSeasonNumber(int season) {
+    if (!isValidSeason(season)) {
+      throw invalidValue(season, ChronoField.MONTH_OF_YEAR, 1, SEASONS_PER_YEAR);
+    }
+  }
+
+  /**
+   * Asserts that `dayOfSeason` is in the range 1..73. Unlike
+   * {@link #checkValidDayOfSeason(int)} this rejects the _0_ used for
+   * _St. Tib's Day_.
+   */
+  void checkDayOfSeasonNumber(int dayOfSeason) {
+    if (!isValidDayOfSeason(dayOfSeason)) {
+      throw invalidValue(dayOfSeason, ChronoField.DAY_OF_MONTH, 1, DAYS_PER_SEASON);
+    }
+  }
+
+  /**
+   * Asserts that `dayOfWeek` is in the range 1..5. Unlike
+   * {@link #checkValidDayOfWeek(int)} this rejects the _0_ used for
+   * _St. Tib's Day_.
+   */
+  void checkDayOfWeekNumber(int dayOfWeek) {
+    if (!isValidDayOfWeek(dayOfWeek)) {
+      throw invalidValue(dayOfWeek, ChronoField.DAY_OF_WEEK, 1, DAYS_PER_WEEK);
+    }
+  }
+
+  /**
+   * The ISO leap year rule, equivalent to
+   * {@link IsoChronology#isLeapYear(long)}.
+   */
+  static boolean isIsoLeapYear(long isoYear) {
+    return (isoYear & 3) == 0 && (isoYear % 100 != 0 || isoYear % 400 == 0);
+  }
+
+  /**
+   * @return the epoch day of the first day of the ISO year `isoYear`, which is
+   * always _Chaos 1_ in the Discordian calendar.
+   */
+  static long isoYearStartEpochDay(long isoYear) {
+    long total = 365 * isoYear;
+    if (isoYear >= 0) {
+      total += (isoYear + 3) / 4 - (isoYear + 99) / 100 + (isoYear + 399) / 400;
+    } else {
+      total -= isoYear / -4 - isoYear / -100 + isoYear / -400;
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+
+  /**
+   * Splits an epoch day into its ISO year and day-of-year without creating a
+   * {@link java.time.LocalDate}. The algorithm is the same one used by
+   * {@link java.time.LocalDate#ofEpochDay(long)}.
+   *
+   * @return the ISO year shifted left by 9 bits combined with the day-of-year
+   * in the low 9 bits. Use {@link #unpackIsoYear(long)} and
+   * {@link #unpackDayOfYear(long)} to read the values.
+   */
+  static long isoYearDayOfEpochDay(long epochDay) {
+    // work with years starting on March 1st so the leap day is at the end
+    long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+    long adjust = 0;
+    if (zeroDay < 0) {
+      long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+      adjust = adjustCycles * 400;
+      zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+    }
+    long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+    long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+    if (doyEst < 0) {
+      yearEst--;
+      doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+    }
+    yearEst += adjust;
+    int marchDoy0 = (int) doyEst;
+    // 306 is the number of days from March 1st to December 31st
+    if (marchDoy0 >= 306) {
+      return ((yearEst + 1) << 9) | (marchDoy0 - 305);
+    }
+    return (yearEst << 9) | (marchDoy0 + (isIsoLeapYear(yearEst) ? 61 : 60));
+  }
+
+  static int unpackIsoYear(long isoYearDay) {
+    return (int) (isoYearDay >> 9);
+  }
+
+  static int unpackDayOfYear(long isoYearDay) {
+    return (int) (isoYearDay & 0x1ff);
+  }
+
+  /**
+   * @return the day of the year adjusted to remove the leap day if this is a
+   * leap year. The value is thus convertible to season, day of week or season
+   * regardless of whether this is a leap year. St. Tib's Day itself is `0`.
+   */
+  static int leapAdjustedDayOfYear(int dayOfYear, boolean leapYear) {
+    if (leapYear && dayOfYear >= DiscordianDate.ST_TIBS_DAY) {
+      return dayOfYear == DiscordianDate.ST_TIBS_DAY ? 0 : dayOfYear - 1;
+    }
+    return dayOfYear;
+  }
+
+  /**
+   * @return a value from 2 to 730 that orders days within a year with
+   * _St. Tib's Day_ (a leap-adjusted day-of-year of `0`) between Chaos 59 and
+   * Chaos 60. Other days are twice their leap-adjusted day-of-year.
+   */
+  static int daySlot(int leapAdjustedDayOfYear) {
+    return leapAdjustedDayOfYear == 0 ? (DiscordianDate.ST_TIBS_DAY * 2) - 1 : leapAdjustedDayOfYear * 2;
+  }
+
+  /**
+   * @return the season of a leap-adjusted day-of-year in the range 1..365.
+   */
+  static int seasonOf(int leapAdjustedDayOfYear) {
+    return ((leapAdjustedDayOfYear - 1) / DAYS_PER_SEASON) + 1;
+  }
+
+  /**
+   * @return the day-of-season of a leap-adjusted day-of-year in the range
+   * 1..365.
+   */
+  static int dayOfSeasonOf(int leapAdjustedDayOfYear) {
+    return ((leapAdjustedDayOfYear - 1) % DAYS_PER_SEASON) + 1;
+  }
+
+  /**
+   * @return the day-of-week of a leap-adjusted day-of-year in the range
+   * 1..365.
+   */
+  static int dayOfWeekOf(int leapAdjustedDayOfYear) {
+    return ((leapAdjustedDayOfYear - 1) % DAYS_PER_WEEK) + 1;
+  }
+
+  /**
+   * @return the aligned week-of-year of a leap-adjusted day-of-year in the
+   * range 1..365.
+   */
+  static int weekOfYearOf(int leapAdjustedDayOfYear) {
+    return ((leapAdjustedDayOfYear - 1) / DAYS_PER_WEEK) + 1;
+  }
+
   private void checkValueInRange(int value, ChronoField field) {
-    final ValueRange range = range(field);
+    ValueRange range = range(field);
     if (!range.isValidIntValue(value)) {
-      throw new DateTimeException(String.format("%d is not a valid Discordian %s. Valid values are %d..%d", value, field.name(), range.getMinimum(), range.getMaximum()));
+      throw invalidValue(value, field, range.getMinimum(), range.getMaximum());
     }
   }
 
+  private static DateTimeException invalidValue(int value, ChronoField field, long min, long max) {
+    DiscordianMetrics.recordValidationFailure();
+    return new DateTimeException(String.format("%d is not a valid Discordian %s. Valid values are %d..%d", value, field.name(), min, max));
+  }
+
 }
@@ -0,0 +1,165 @@
+package co.freeside.time.chrono;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides the current Discordian date from a {@link Clock} without creating
+ * a new date or formatting it on every call.
+ *
+ * The current date, its text and its UTF-8 bytes are held together in a
+ * single volatile snapshot along with the instants at which the day starts
+ * and ends in the clock's zone. The snapshot is only replaced when the day
+ * changes.
+ *
+ * A clock created with {@link #of(Clock)} compares the time of the underlying
+ * clock with the end of the day on each call. A clock created with
+ * {@link #scheduled(Clock, ScheduledExecutorService)} instead schedules a task
+ * to replace the snapshot at the end of each day so reading the date is a
+ * single volatile read. A scheduled clock relies on the scheduler running the
+ * task on time and so may briefly return the previous day's date just after
+ * midnight. It should be closed when no longer needed to cancel the task.
+ *
+ * Instances are thread safe.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianClock implements Closeable {
+
+  private final Clock clock;
+  private final DiscordianFormatter formatter;
+  private final ScheduledExecutorService scheduler;
+  private volatile DiscordianDay today;
+  private volatile ScheduledFuture<?> rollover;
+  private volatile boolean closed;
+
+  /**
+   * @return a clock that checks for the end of the day each time it is read.
+   */
+  public static DiscordianClock of(Clock clock) {
+    return of(clock, DiscordianFormatter.DEFAULT);
+  }
+
+  /**
+   * @return a clock that checks for the end of the day each time it is read
+   * and renders the date with `formatter`.
+   */
+  public static DiscordianClock of(Clock clock, DiscordianFormatter formatter) {
+    return new DiscordianClock(clock, formatter, null);
+  }
+
+  public static DiscordianClock systemDefaultZone() {
+    return of(Clock.systemDefaultZone());
+  }
+
+  /**
+   * @return a clock that uses `scheduler` to move on to the next date at the
+   * end of each day.
+   */
+  public static DiscordianClock scheduled(Clock clock, ScheduledExecutorService scheduler) {
+    return scheduled(clock, DiscordianFormatter.DEFAULT, scheduler);
+  }
+
+  /**
+   * @return a clock that uses `scheduler` to move on to the next date at the
+   * end of each day and renders the date with `formatter`.
+   */
+  public static DiscordianClock scheduled(Clock clock, DiscordianFormatter formatter, ScheduledExecutorService scheduler) {
+    DiscordianClock discordianClock = new DiscordianClock(clock, formatter, scheduler);
+    discordianClock.scheduleRollover();
+    return discordianClock;
+  }
+
+  private DiscordianClock(Clock clock, DiscordianFormatter formatter, ScheduledExecutorService scheduler) {
+    this.clock = clock;
+    this.formatter = formatter;
+    this.scheduler = scheduler;
+    this.today = DiscordianDay.at(clock.millis(), clock.getZone(), formatter);
+  }
+
+  public Clock getClock() {
+    return clock;
+  }
+
+  public ZoneId getZone() {
+    return clock.getZone();
+  }
+
+  /**
+   * @return the current date in the clock's zone.
+   */
+  public DiscordianDate now() {
+    return current().date;
+  }
+
+  /**
+   * @return the current date formatted by the clock's formatter, by default
+   * the same as {@link DiscordianDate#toString()}.
+   */
+  public String nowText() {
+    return current().text;
+  }
+
+  /**
+   * Copies the UTF-8 bytes of {@link #nowText()} into `buffer` starting at
+   * `offset`.
+   *
+   * @return the offset in `buffer` following the last byte written.
+   * @throws IndexOutOfBoundsException if there is insufficient space in
+   *                                   `buffer`.
+   */
+  public int writeNow(byte[] buffer, int offset) {
+    byte[] bytes = current().bytes;
+    System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+    return offset + bytes.length;
+  }
+
+  private DiscordianDay current() {
+    DiscordianDay current = today;
+    if (scheduler == null) {
+      long millis = clock.millis();
+      if (!current.contains(millis)) {
+        current = DiscordianDay.at(millis, clock.getZone(), formatter);
+        today = current;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Cancels the task that moves a scheduled clock on to the next date. A
+   * closed clock continues to return the last date it held.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    ScheduledFuture<?> task = rollover;
+    if (task != null) {
+      task.cancel(false);
+    }
+  }
+
+  private void scheduleRollover() {
+    if (closed) {
+      return;
+    }
+    long delay = Math.max(0, today.end - clock.millis());
+    rollover = scheduler.schedule(new Runnable() {
+      @Override
+      public void run() {
+        long millis = clock.millis();
+        if (!today.contains(millis)) {
+          today = DiscordianDay.at(millis, clock.getZone(), formatter);
+        }
+        scheduleRollover();
+      }
+    }, delay, TimeUnit.MILLISECONDS);
+    if (closed) {
+      rollover.cancel(false);
+    }
+  }
+}
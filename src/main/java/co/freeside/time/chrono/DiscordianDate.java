@@ -1,8 +1,17 @@
 package co.freeside.time.chrono;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.Period;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.Chronology;
@@ -13,14 +22,21 @@ import java.time.temporal.*;
  * Calendar] system.
  *
  * Since a Discordian year is the same length and uses the same leap-year
- * pattern as an ISO year this class is simply a wrapper around
- * {@link LocalDate}.
+ * pattern as an ISO year this class is defined by an epoch day in the same way
+ * as {@link LocalDate}. The year, day-of-year, season, day-of-season and
+ * day-of-week are calculated once when an instance is created so the getters
+ * are simple field reads.
  *
  * Note that since _St. Tib's Day_ is considered "outside" the Discordian season
  * and week the methods {@link #getDayOfWeek()}, {@link #getDayOfSeason()} and
  * {@link #getSeason()} will return `0` for an instance of this class that
  * represents the leap day (the 60th day of a leap year).
  *
+ * The `of` factory methods throw {@link DateTimeException} if a field is out
+ * of range. For input where invalid values are common the `tryOf` methods
+ * return the epoch day of the date or {@link #INVALID_EPOCH_DAY} instead, and
+ * the `isValid` methods check fields without creating anything.
+ *
  * Hail Eris! All hail Discordia!
  *
  * @author Rob Fletcher
@@ -29,12 +45,53 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
 
   public static final int ST_TIBS_DAY = 60;
 
+  /**
+   * The value returned by the `tryOf` methods if the fields are not a valid
+   * date. This is outside the range of {@link ChronoField#EPOCH_DAY} so can
+   * never be the epoch day of a valid date.
+   */
+  public static final long INVALID_EPOCH_DAY = Long.MIN_VALUE;
+
+  /**
+   * The ranges returned by {@link #range(TemporalField)}. Fields with no
+   * value on _St. Tib's Day_ can be `0` in a leap year.
+   */
+  private static final ValueRange SEASON_RANGE = ValueRange.of(1, DiscordianChronology.SEASONS_PER_YEAR);
+  private static final ValueRange LEAP_YEAR_SEASON_RANGE = ValueRange.of(0, DiscordianChronology.SEASONS_PER_YEAR);
+  private static final ValueRange DAY_OF_SEASON_RANGE = ValueRange.of(1, DiscordianChronology.DAYS_PER_SEASON);
+  private static final ValueRange LEAP_YEAR_DAY_OF_SEASON_RANGE = ValueRange.of(0, DiscordianChronology.DAYS_PER_SEASON);
+  private static final ValueRange DAY_OF_WEEK_RANGE = ValueRange.of(1, DiscordianChronology.DAYS_PER_WEEK);
+  private static final ValueRange LEAP_YEAR_DAY_OF_WEEK_RANGE = ValueRange.of(0, DiscordianChronology.DAYS_PER_WEEK);
+  private static final ValueRange DAY_OF_YEAR_RANGE = ValueRange.of(1, 365);
+  private static final ValueRange LEAP_YEAR_DAY_OF_YEAR_RANGE = ValueRange.of(1, 366);
+
   private static final long serialVersionUID = 5856281505361396284L;
 
   /**
-   * The underlying ISO local date.
+   * Instances are serialized by {@link SerializationProxy}. This is the form
+   * written by earlier versions of this class, which is still accepted by
+   * {@link #readObject(ObjectInputStream)}.
    */
-  private final LocalDate isoDate;
+  private static final ObjectStreamField[] serialPersistentFields = {
+      new ObjectStreamField("isoDate", LocalDate.class)
+  };
+
+  private final long epochDay;
+  private final int year;
+  /**
+   * The day of the year from 1 to 365 (366 in a leap year) including
+   * _St. Tib's Day_.
+   */
+  private final short dayOfYear;
+  private final byte season;
+  private final byte dayOfSeason;
+  private final byte dayOfWeek;
+
+  /**
+   * Only set when reading the form written by earlier versions of this class,
+   * which is then replaced by {@link #readResolve()}.
+   */
+  private transient long legacyEpochDay;
 
   /**
    * Obtains an instance of `DiscordianDate` from the year-of-era,
@@ -54,9 +111,16 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
     DiscordianChronology chronology = DiscordianChronology.INSTANCE;
     chronology.checkValidSeason(season);
     chronology.checkValidDayOfSeason(dayOfSeason);
-    int isoYear = chronology.discordianToIsoYear(year);
-    int dayOfYear = dayOfDiscordianYear(year, season, dayOfSeason);
-    return new DiscordianDate(LocalDate.ofYearDay(isoYear, dayOfYear));
+    checkValidIsoYear(year);
+    boolean leapYear = DiscordianYearTable.isLeapYear(year);
+    int dayOfYear = ((season - 1) * DiscordianChronology.DAYS_PER_SEASON) + dayOfSeason;
+    if (leapYear && dayOfYear >= ST_TIBS_DAY) {
+      dayOfYear++;
+    }
+    ChronoField.DAY_OF_YEAR.checkValidValue(dayOfYear);
+    DiscordianDate date = create(year, dayOfYear, leapYear);
+    DiscordianMetrics.recordOf(date);
+    return date;
   }
 
   /**
@@ -70,8 +134,79 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
    * @throws DateTimeException if the value of any field is out of range.
    */
   public static DiscordianDate of(int year, int dayOfYear) {
-    int isoYear = DiscordianChronology.INSTANCE.discordianToIsoYear(year);
-    return new DiscordianDate(LocalDate.ofYearDay(isoYear, dayOfYear));
+    DiscordianDate date = ofYearDay(year, dayOfYear);
+    DiscordianMetrics.recordOf(date);
+    return date;
+  }
+
+  private static DiscordianDate ofYearDay(int year, int dayOfYear) {
+    checkValidIsoYear(year);
+    ChronoField.DAY_OF_YEAR.checkValidValue(dayOfYear);
+    boolean leapYear = DiscordianYearTable.isLeapYear(year);
+    if (dayOfYear == 366 && !leapYear) {
+      throw new DateTimeException("Invalid date 'DayOfYear 366' as '" + year + "' is not a leap year");
+    }
+    return create(year, dayOfYear, leapYear);
+  }
+
+  /**
+   * The equivalent of {@link #of(int, int, int)} for input that is often
+   * invalid. Rather than throwing an exception this returns
+   * {@link #INVALID_EPOCH_DAY} if any field is out of range.
+   *
+   * @return the epoch day of the date, which can be converted with
+   * {@link #ofEpochDay(long)}, or {@link #INVALID_EPOCH_DAY}.
+   */
+  public static long tryOf(int year, int season, int dayOfSeason) {
+    DiscordianChronology chronology = DiscordianChronology.INSTANCE;
+    if (!chronology.isValidYear(year) || !chronology.isValidSeason(season) || !chronology.isValidDayOfSeason(dayOfSeason)) {
+      return INVALID_EPOCH_DAY;
+    }
+    int dayOfYear = ((season - 1) * DiscordianChronology.DAYS_PER_SEASON) + dayOfSeason;
+    if (dayOfYear >= ST_TIBS_DAY && DiscordianYearTable.isLeapYear(year)) {
+      dayOfYear++;
+    }
+    return DiscordianYearTable.yearStartEpochDay(year) + dayOfYear - 1;
+  }
+
+  /**
+   * The equivalent of {@link #of(int, int)} that returns
+   * {@link #INVALID_EPOCH_DAY} if either field is out of range.
+   */
+  public static long tryOf(int year, int dayOfYear) {
+    if (!isValid(year, dayOfYear)) {
+      return INVALID_EPOCH_DAY;
+    }
+    return DiscordianYearTable.yearStartEpochDay(year) + dayOfYear - 1;
+  }
+
+  /**
+   * @return the epoch day of _St. Tib's Day_ in `year` or
+   * {@link #INVALID_EPOCH_DAY} if `year` is not a leap year. Unlike
+   * {@link #ofLeapDay(int)} this does not fall back to _Chaos 60_.
+   */
+  public static long tryOfLeapDay(int year) {
+    if (!DiscordianChronology.INSTANCE.isValidYear(year)) {
+      return INVALID_EPOCH_DAY;
+    }
+    return DiscordianYearTable.stTibsDayEpochDay(year);
+  }
+
+  /**
+   * @return `true` if {@link #of(int, int, int)} would succeed.
+   */
+  public static boolean isValid(int year, int season, int dayOfSeason) {
+    return tryOf(year, season, dayOfSeason) != INVALID_EPOCH_DAY;
+  }
+
+  /**
+   * @return `true` if {@link #of(int, int)} would succeed.
+   */
+  public static boolean isValid(int year, int dayOfYear) {
+    if (!DiscordianChronology.INSTANCE.isValidYear(year) || dayOfYear < 1) {
+      return false;
+    }
+    return dayOfYear <= 365 || (dayOfYear == 366 && DiscordianYearTable.isLeapYear(year));
   }
 
   /**
@@ -86,30 +221,79 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
    * @throws DateTimeException if the value of any field is out of range.
    */
   public static DiscordianDate ofLeapDay(int year) {
-    return of(year, ST_TIBS_DAY);
+    DiscordianDate date = ofYearDay(year, ST_TIBS_DAY);
+    DiscordianMetrics.recordOfLeapDay(date);
+    return date;
   }
 
   public static DiscordianDate ofEpochDay(long epochDay) {
-    return new DiscordianDate(LocalDate.ofEpochDay(epochDay));
+    DiscordianDate date = fromEpochDay(epochDay);
+    DiscordianMetrics.recordOfEpochDay(date);
+    return date;
   }
 
-  private static int dayOfDiscordianYear(int prolepticYear, int season, int dayOfSeason) {
-    int dayOfYear = ((season - 1) * DiscordianChronology.DAYS_PER_SEASON) + dayOfSeason;
-    if (DiscordianChronology.INSTANCE.isLeapYear(prolepticYear) && dayOfYear >= ST_TIBS_DAY) {
-      dayOfYear++;
-    }
-    return dayOfYear;
+  /**
+   * The same as {@link #ofEpochDay(long)} without recording metrics, for
+   * factory methods that record their own.
+   */
+  static DiscordianDate fromEpochDay(long epochDay) {
+    ChronoField.EPOCH_DAY.checkValidValue(epochDay);
+    DiscordianDate cached = DiscordianDateCache.get(epochDay);
+    return cached != null ? cached : new DiscordianDate(epochDay);
   }
 
-  DiscordianDate(LocalDate isoDate) {
-    this.isoDate = isoDate;
+  private static DiscordianDate create(int year, int dayOfYear, boolean leapYear) {
+    long epochDay = DiscordianYearTable.yearStartEpochDay(year) + dayOfYear - 1;
+    DiscordianDate cached = DiscordianDateCache.get(epochDay);
+    return cached != null ? cached : new DiscordianDate(epochDay, year, dayOfYear, leapYear);
+  }
+
+  private static void checkValidIsoYear(int year) {
+    ChronoField.YEAR.checkValidValue(DiscordianChronology.INSTANCE.discordianToIsoYear(year));
+  }
+
+  /**
+   * Used by {@link DiscordianDateCache} to create the instances it shares. Other
+   * code should use {@link #ofEpochDay(long)}.
+   */
+  DiscordianDate(long epochDay) {
+    this(epochDay, DiscordianYearTable.isoYearDayOfEpochDay(epochDay));
+  }
+
+  private DiscordianDate(long epochDay, long isoYearDay) {
+    this(
+        epochDay,
+        DiscordianChronology.INSTANCE.isoToDiscordianYear(DiscordianChronology.unpackIsoYear(isoYearDay)),
+        DiscordianChronology.unpackDayOfYear(isoYearDay)
+    );
+  }
+
+  private DiscordianDate(long epochDay, int year, int dayOfYear) {
+    this(epochDay, year, dayOfYear, DiscordianYearTable.isLeapYear(year));
+  }
+
+  private DiscordianDate(long epochDay, int year, int dayOfYear, boolean leapYear) {
+    this.epochDay = epochDay;
+    this.year = year;
+    this.dayOfYear = (short) dayOfYear;
+    int adjustedDayOfYear = DiscordianChronology.leapAdjustedDayOfYear(dayOfYear, leapYear);
+    if (adjustedDayOfYear == 0) {
+      // St. Tib's Day has no season, day-of-season or day-of-week
+      this.season = 0;
+      this.dayOfSeason = 0;
+      this.dayOfWeek = 0;
+    } else {
+      this.season = (byte) DiscordianChronology.seasonOf(adjustedDayOfYear);
+      this.dayOfSeason = (byte) DiscordianChronology.dayOfSeasonOf(adjustedDayOfYear);
+      this.dayOfWeek = (byte) DiscordianChronology.dayOfWeekOf(adjustedDayOfYear);
+    }
   }
 
   /**
    * Gets the year in the Discordian era.
    */
   public int getYear() {
-    return DiscordianChronology.INSTANCE.isoToDiscordianYear(isoDate.getYear());
+    return year;
   }
 
   /**
@@ -117,11 +301,7 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
    * instance represents a leap day this method will return _0_.
    */
   public int getSeason() {
-    int dayOfYear = getLeapAdjustedDayOfYear();
-    if (dayOfYear == 0) {
-      return 0;
-    }
-    return ((dayOfYear - 1) / DiscordianChronology.DAYS_PER_SEASON) + 1;
+    return season;
   }
 
   /**
@@ -129,11 +309,7 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
    * this instance represents a leap day this method will return _0_.
    */
   public int getDayOfSeason() {
-    int dayOfYear = getLeapAdjustedDayOfYear();
-    if (dayOfYear == 0) {
-      return 0;
-    }
-    return ((dayOfYear - 1) % DiscordianChronology.DAYS_PER_SEASON) + 1;
+    return dayOfSeason;
   }
 
   /**
@@ -141,11 +317,7 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
    * this instance represents a leap day this method will return _0_.
    */
   public int getDayOfWeek() {
-    int dayOfYear = getLeapAdjustedDayOfYear();
-    if (dayOfYear == 0) {
-      return 0;
-    }
-    return ((dayOfYear - 1) % DiscordianChronology.DAYS_PER_WEEK) + 1;
+    return dayOfWeek;
   }
 
   public String getSeasonName() {
@@ -156,25 +328,45 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
     return DiscordianChronology.INSTANCE.getDayName(getDayOfWeek());
   }
 
+  /**
+   * @return `true` if this date is one of the {@link DiscordianHolyday}s
+   * including _St. Tib's Day_.
+   */
+  public boolean isHolyday() {
+    return DiscordianHolyday.of(this) != null;
+  }
+
+  /**
+   * @return the holyday on this date or `null` if this date is not a holyday.
+   */
+  public DiscordianHolyday getHolyday() {
+    return DiscordianHolyday.of(this);
+  }
+
+  /**
+   * @return the name of the holyday on this date, e.g. _Mungday_, or `null` if
+   * this date is not a holyday.
+   */
+  public String holydayName() {
+    DiscordianHolyday holyday = DiscordianHolyday.of(this);
+    return holyday == null ? null : holyday.getDisplayName();
+  }
+
+  @Override
+  public boolean isLeapYear() {
+    return DiscordianChronology.INSTANCE.isLeapYear(year);
+  }
+
   private boolean isLeapDay() {
-    return isoDate.isLeapYear() && isoDate.getDayOfYear() == ST_TIBS_DAY;
+    return season == 0;
   }
 
   /**
-   * @return the day of the year adjusted to remove the leap day if this is a
-   * leap year. The value is thus convertible to season, day of week or season
-   * regardless of whether this is a leap year.
+   * @return the equivalent ISO date for operations that are delegated to the
+   * ISO calendar.
    */
-  private int getLeapAdjustedDayOfYear() {
-    int dayOfYear = isoDate.getDayOfYear();
-    if (isoDate.isLeapYear()) {
-      if (dayOfYear == ST_TIBS_DAY) {
-        return 0;
-      } else if (dayOfYear > ST_TIBS_DAY) {
-        return dayOfYear - 1;
-      }
-    }
-    return dayOfYear;
+  private LocalDate toIsoDate() {
+    return LocalDate.ofEpochDay(epochDay);
   }
 
   @Override
@@ -188,38 +380,28 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
           return plus(amountToAdd * DiscordianChronology.DAYS_PER_SEASON, ChronoUnit.DAYS);
         case ERAS:
           throw new DateTimeException("Unable to add era, Discordian calendar system only has one era");
+        case DAYS:
+          if (amountToAdd == 0) {
+            return this;
+          }
+          return ofEpochDay(Math.addExact(epochDay, amountToAdd));
         default:
-          return new DiscordianDate(isoDate.plus(amountToAdd, unit));
+          return ofEpochDay(toIsoDate().plus(amountToAdd, unit).toEpochDay());
       }
     }
     return unit.addTo(this, amountToAdd);
   }
 
-  private long getEpochMonth() {
-    int season = getSeason();
-    // we need to cheat a bit for St. Tib's Day
-    if (isLeapDay()) {
-      season = 1;
-    }
-    return (getYear() * DiscordianChronology.SEASONS_PER_YEAR) + (season - 1);
+  @Override
+  public DiscordianDateTime atTime(LocalTime localTime) {
+    return DiscordianDateTime.of(this, localTime);
   }
 
   @Override
   public Period until(ChronoLocalDate endDate) {
-    DiscordianDate end = new DiscordianDate(LocalDate.from(endDate));
-    long totalMonths = end.getEpochMonth() - this.getEpochMonth();
-    int days = (end.isLeapDay() ? ST_TIBS_DAY : end.getDayOfSeason()) - (isLeapDay() ? ST_TIBS_DAY : getDayOfSeason());
-    if (totalMonths > 0 && days < 0) {
-      totalMonths--;
-      ChronoLocalDate calcDate = this.plus(totalMonths, ChronoUnit.MONTHS);
-      days = (int) (end.toEpochDay() - calcDate.toEpochDay());
-    } else if (totalMonths < 0 && days > 0) {
-      totalMonths++;
-      days -= end.lengthOfMonth();
-    }
-    long years = totalMonths / DiscordianChronology.SEASONS_PER_YEAR;
-    int months = (int) (totalMonths % DiscordianChronology.SEASONS_PER_YEAR);
-    return Period.of((int) years, months, days);
+    long endEpochDay = endDate.toEpochDay();
+    long end = endDate instanceof DiscordianDate ? ((DiscordianDate) endDate).yearPosition() : yearPositionOf(endEpochDay);
+    return between(epochDay, yearPosition(), endEpochDay, end);
   }
 
   @Override
@@ -233,20 +415,158 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
     }
 
     if (unit instanceof ChronoUnit) {
+      long endEpochDay = end.toEpochDay();
       switch ((ChronoUnit) unit) {
+        case DAYS:
         case WEEKS:
-          return isoDate.until(LocalDate.from(end), ChronoUnit.DAYS) / DiscordianChronology.DAYS_PER_WEEK;
         case MONTHS:
-          return isoDate.until(LocalDate.from(end), ChronoUnit.DAYS) / DiscordianChronology.DAYS_PER_SEASON;
         case ERAS:
-          return 0;
+          return between(epochDay, 0, endEpochDay, 0, (ChronoUnit) unit);
         default:
-          return isoDate.until(LocalDate.from(end), unit);
+          long endPosition = end instanceof DiscordianDate ? ((DiscordianDate) end).yearPosition() : yearPositionOf(endEpochDay);
+          return between(epochDay, yearPosition(), endEpochDay, endPosition, (ChronoUnit) unit);
       }
     }
     return unit.between(this, endDateTime);
   }
 
+  /**
+   * Calculates the period between two dates given as epoch days. The result is
+   * the same as `DiscordianDate.ofEpochDay(startEpochDay).until(DiscordianDate.ofEpochDay(endEpochDay))`
+   * but no dates are created.
+   *
+   * @param startEpochDay the epoch day of the start date, inclusive.
+   * @param endEpochDay   the epoch day of the end date, exclusive.
+   * @return the period in Discordian years, seasons and days.
+   * @throws DateTimeException if either epoch day is out of range.
+   */
+  public static Period between(long startEpochDay, long endEpochDay) {
+    ChronoField.EPOCH_DAY.checkValidValue(startEpochDay);
+    ChronoField.EPOCH_DAY.checkValidValue(endEpochDay);
+    return between(startEpochDay, yearPositionOf(startEpochDay), endEpochDay, yearPositionOf(endEpochDay));
+  }
+
+  /**
+   * Calculates the amount of time between two dates given as epoch days in
+   * terms of `unit`. The result is the same as
+   * `DiscordianDate.ofEpochDay(startEpochDay).until(DiscordianDate.ofEpochDay(endEpochDay), unit)`
+   * but no dates are created.
+   *
+   * @param startEpochDay the epoch day of the start date, inclusive.
+   * @param endEpochDay   the epoch day of the end date, exclusive.
+   * @param unit          a date based unit.
+   * @throws DateTimeException                if either epoch day is out of
+   *                                          range.
+   * @throws UnsupportedTemporalTypeException if `unit` is not date based.
+   */
+  public static long between(long startEpochDay, long endEpochDay, ChronoUnit unit) {
+    ChronoField.EPOCH_DAY.checkValidValue(startEpochDay);
+    ChronoField.EPOCH_DAY.checkValidValue(endEpochDay);
+    switch (unit) {
+      case DAYS:
+      case WEEKS:
+      case MONTHS:
+      case ERAS:
+        return between(startEpochDay, 0, endEpochDay, 0, unit);
+      default:
+        return between(startEpochDay, yearPositionOf(startEpochDay), endEpochDay, yearPositionOf(endEpochDay), unit);
+    }
+  }
+
+  /**
+   * Seasons are treated like months except that _St. Tib's Day_ counts as the
+   * 60th day of Chaos.
+   */
+  private static Period between(long startEpochDay, long start, long endEpochDay, long end) {
+    long totalMonths = epochMonth(end) - epochMonth(start);
+    int days = dayOfSeasonOrLeapDay(end) - dayOfSeasonOrLeapDay(start);
+    if (totalMonths > 0 && days < 0) {
+      totalMonths--;
+      days = (int) (endEpochDay - (startEpochDay + totalMonths * DiscordianChronology.DAYS_PER_SEASON));
+    } else if (totalMonths < 0 && days > 0) {
+      totalMonths++;
+      days -= DiscordianChronology.DAYS_PER_SEASON;
+    }
+    long years = totalMonths / DiscordianChronology.SEASONS_PER_YEAR;
+    int months = (int) (totalMonths % DiscordianChronology.SEASONS_PER_YEAR);
+    return Period.of((int) years, months, days);
+  }
+
+  /**
+   * Whole years are counted the same way as by {@link LocalDate} with
+   * _St. Tib's Day_ falling between Chaos 59 and Chaos 60. The year positions
+   * are only used for units of a year or longer.
+   */
+  private static long between(long startEpochDay, long start, long endEpochDay, long end, ChronoUnit unit) {
+    switch (unit) {
+      case DAYS:
+        return endEpochDay - startEpochDay;
+      case WEEKS:
+        return (endEpochDay - startEpochDay) / DiscordianChronology.DAYS_PER_WEEK;
+      case MONTHS:
+        return (endEpochDay - startEpochDay) / DiscordianChronology.DAYS_PER_SEASON;
+      case YEARS:
+        return yearsBetween(start, end);
+      case DECADES:
+        return yearsBetween(start, end) / 10;
+      case CENTURIES:
+        return yearsBetween(start, end) / 100;
+      case MILLENNIA:
+        return yearsBetween(start, end) / 1000;
+      case ERAS:
+        return 0;
+      default:
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+  }
+
+  private static long yearsBetween(long start, long end) {
+    long years = yearOf(end) - yearOf(start);
+    int startSlot = DiscordianChronology.daySlot((int) (start & 0x1ff));
+    int endSlot = DiscordianChronology.daySlot((int) (end & 0x1ff));
+    if (years > 0 && endSlot < startSlot) {
+      years--;
+    } else if (years < 0 && endSlot > startSlot) {
+      years++;
+    }
+    return years;
+  }
+
+  /**
+   * The year and leap-adjusted day-of-year (`0` for _St. Tib's Day_) of this
+   * date packed into a `long` so that periods can be calculated without
+   * creating dates.
+   */
+  private long yearPosition() {
+    int adjustedDayOfYear = isLeapDay() ? 0 : ((season - 1) * DiscordianChronology.DAYS_PER_SEASON) + dayOfSeason;
+    return ((long) year << 9) | adjustedDayOfYear;
+  }
+
+  private static long yearPositionOf(long epochDay) {
+    long isoYearDay = DiscordianYearTable.isoYearDayOfEpochDay(epochDay);
+    int year = DiscordianChronology.unpackIsoYear(isoYearDay) + DiscordianChronology.ISO_YEAR_OFFSET;
+    int adjustedDayOfYear = DiscordianChronology.leapAdjustedDayOfYear(DiscordianChronology.unpackDayOfYear(isoYearDay), DiscordianYearTable.isLeapYear(year));
+    return ((long) year << 9) | adjustedDayOfYear;
+  }
+
+  private static long yearOf(long yearPosition) {
+    return yearPosition >> 9;
+  }
+
+  /**
+   * We need to cheat a bit for St. Tib's Day and count it as part of Chaos.
+   */
+  private static long epochMonth(long yearPosition) {
+    int adjustedDayOfYear = (int) (yearPosition & 0x1ff);
+    int season = adjustedDayOfYear == 0 ? 1 : DiscordianChronology.seasonOf(adjustedDayOfYear);
+    return (yearOf(yearPosition) * DiscordianChronology.SEASONS_PER_YEAR) + (season - 1);
+  }
+
+  private static int dayOfSeasonOrLeapDay(long yearPosition) {
+    int adjustedDayOfYear = (int) (yearPosition & 0x1ff);
+    return adjustedDayOfYear == 0 ? ST_TIBS_DAY : DiscordianChronology.dayOfSeasonOf(adjustedDayOfYear);
+  }
+
   @Override
   public Chronology getChronology() {
     return DiscordianChronology.INSTANCE;
@@ -257,6 +577,16 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
     return DiscordianChronology.DAYS_PER_SEASON;
   }
 
+  /**
+   * Sets a field natively in the Discordian calendar.
+   *
+   * Aligned weeks are the 5 day Discordian weeks counted from the start of the
+   * season or year rather than ISO weeks. _St. Tib's Day_ is treated as if it
+   * were in the week of Chaos 56 to Chaos 60 so, for example, setting the
+   * day-of-week of _St. Tib's Day_ moves to a day in that week. Setting the
+   * year of _St. Tib's Day_ to a non-leap year gives Chaos 59 in the same way
+   * that {@link LocalDate} moves February 29th to February 28th.
+   */
   @Override
   public ChronoLocalDate with(TemporalField field, long newValue) {
     if (field instanceof ChronoField) {
@@ -265,29 +595,107 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
         return this;
       }
       switch (f) {
+        case DAY_OF_WEEK:
+        case ALIGNED_DAY_OF_WEEK_IN_YEAR: {
+          int weekStart = startOfWeek(weekAlignedDayOfYear());
+          return ofLeapAdjustedDayOfYear(year, weekStart + checkValidSettableValue(f, newValue) - 1);
+        }
+        case ALIGNED_DAY_OF_WEEK_IN_MONTH: {
+          int seasonStart = (seasonOrChaos() - 1) * DiscordianChronology.DAYS_PER_SEASON;
+          int weekStart = startOfWeek(dayOfSeasonOrLeapDay());
+          return ofLeapAdjustedDayOfYear(year, seasonStart + weekStart + checkValidSettableValue(f, newValue) - 1);
+        }
+        case ALIGNED_WEEK_OF_MONTH:
+        case ALIGNED_WEEK_OF_YEAR: {
+          int weeks = checkValidSettableValue(f, newValue) - (int) getLong(f);
+          return ofLeapAdjustedDayOfYear(year, weekAlignedDayOfYear() + (weeks * DiscordianChronology.DAYS_PER_WEEK));
+        }
         case DAY_OF_MONTH:
           if (isLeapDay()) {
             return DiscordianDate.of(getYear(), 1, (int) newValue);
           } else {
             return DiscordianDate.of(getYear(), getSeason(), (int) newValue);
           }
+        case DAY_OF_YEAR:
+          return of(year, ChronoField.DAY_OF_YEAR.checkValidIntValue(newValue));
+        case EPOCH_DAY:
+          return ofEpochDay(newValue);
+        case MONTH_OF_YEAR:
+          return of(year, checkValidSettableValue(f, newValue), dayOfSeasonOrLeapDay());
+        case PROLEPTIC_MONTH: {
+          checkValidSettableValue(f, newValue);
+          int newYear = (int) Math.floorDiv(newValue, DiscordianChronology.SEASONS_PER_YEAR);
+          int newSeason = (int) Math.floorMod(newValue, DiscordianChronology.SEASONS_PER_YEAR) + 1;
+          return of(newYear, newSeason, dayOfSeasonOrLeapDay());
+        }
+        case YEAR_OF_ERA:
+        case YEAR:
+          return withYear(checkValidSettableValue(f, newValue));
+        case ERA:
+          throw new DateTimeException("Unable to set era, Discordian calendar system only has one era");
+        default:
+          throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
       }
-      // TODO: review other fields, such as WEEK_OF_YEAR
-      return with(isoDate.with(field, newValue));
     }
     return field.adjustInto(this, newValue);
   }
 
+  private DiscordianDate withYear(int newYear) {
+    if (isLeapDay()) {
+      return DiscordianYearTable.isLeapYear(newYear) ? ofLeapDay(newYear) : of(newYear, 1, ST_TIBS_DAY - 1);
+    }
+    return of(newYear, season, dayOfSeason);
+  }
+
+  /**
+   * Values that are only valid for _St. Tib's Day_, such as a day-of-week of
+   * `0`, cannot be set.
+   *
+   * @return `value` as an `int`.
+   */
+  private static int checkValidSettableValue(ChronoField field, long value) {
+    ValueRange range = DiscordianChronology.INSTANCE.range(field);
+    if (value < range.getLargestMinimum() || value > range.getMaximum()) {
+      throw new DateTimeException("Invalid value for " + field + " (valid values " + range.getLargestMinimum() + " - " + range.getMaximum() + "): " + value);
+    }
+    return (int) value;
+  }
+
+  /**
+   * Creates a date from a leap-adjusted day-of-year that may be past the end
+   * of `year`, in which case the date is in the following year.
+   */
+  private static DiscordianDate ofLeapAdjustedDayOfYear(int year, int leapAdjustedDayOfYear) {
+    boolean leapYear = DiscordianYearTable.isLeapYear(year);
+    int dayOfYear = leapYear && leapAdjustedDayOfYear >= ST_TIBS_DAY ? leapAdjustedDayOfYear + 1 : leapAdjustedDayOfYear;
+    if (leapAdjustedDayOfYear > DiscordianChronology.SEASONS_PER_YEAR * DiscordianChronology.DAYS_PER_SEASON) {
+      return ofEpochDay(DiscordianYearTable.yearStartEpochDay(year) + dayOfYear - 1);
+    }
+    return create(year, dayOfYear, leapYear);
+  }
+
+  /**
+   * @return the first day of the aligned week containing `day` where `day` is
+   * a day-of-season or leap-adjusted day-of-year.
+   */
+  private static int startOfWeek(int day) {
+    return day - ((day - 1) % DiscordianChronology.DAYS_PER_WEEK);
+  }
+
   @Override
   public ValueRange range(TemporalField field) {
     if (field instanceof ChronoField) {
       switch ((ChronoField) field) {
         case MONTH_OF_YEAR:
-          return ValueRange.of(isLeapYear() ? 0 : 1, DiscordianChronology.SEASONS_PER_YEAR);
+          return isLeapYear() ? LEAP_YEAR_SEASON_RANGE : SEASON_RANGE;
         case DAY_OF_MONTH:
-          return ValueRange.of(isLeapYear() ? 0 : 1, DiscordianChronology.DAYS_PER_SEASON);
+          return isLeapYear() ? LEAP_YEAR_DAY_OF_SEASON_RANGE : DAY_OF_SEASON_RANGE;
         case DAY_OF_WEEK:
-          return ValueRange.of(isLeapYear() ? 0 : 1, DiscordianChronology.DAYS_PER_WEEK);
+        case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+        case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+          return isLeapYear() ? LEAP_YEAR_DAY_OF_WEEK_RANGE : DAY_OF_WEEK_RANGE;
+        case DAY_OF_YEAR:
+          return isLeapYear() ? LEAP_YEAR_DAY_OF_YEAR_RANGE : DAY_OF_YEAR_RANGE;
         default:
           return getChronology().range((ChronoField) field);
       }
@@ -295,6 +703,12 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
     return field.rangeRefinedBy(this);
   }
 
+  /**
+   * Weeks are the 5 day Discordian weeks aligned to the start of the season
+   * or year. _St. Tib's Day_ has no day-of-week but is counted as part of the
+   * week of Chaos 56 to Chaos 60. The proleptic month counts seasons from
+   * season 1 of year 0 with _St. Tib's Day_ counted as part of Chaos.
+   */
   @Override
   public long getLong(TemporalField field) {
     if (field instanceof ChronoField) {
@@ -304,19 +718,72 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
           return getYear();
         case ERA:
           return 1L;
+        case PROLEPTIC_MONTH:
+          return ((long) year * DiscordianChronology.SEASONS_PER_YEAR) + (seasonOrChaos() - 1);
         case MONTH_OF_YEAR:
           return getSeason();
         case DAY_OF_MONTH:
           return getDayOfSeason();
         case DAY_OF_WEEK:
+        case ALIGNED_DAY_OF_WEEK_IN_YEAR:
           return getDayOfWeek();
+        case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+          return isLeapDay() ? 0 : ((dayOfSeason - 1) % DiscordianChronology.DAYS_PER_WEEK) + 1;
+        case ALIGNED_WEEK_OF_MONTH:
+          return ((dayOfSeasonOrLeapDay() - 1) / DiscordianChronology.DAYS_PER_WEEK) + 1;
+        case ALIGNED_WEEK_OF_YEAR:
+          return DiscordianChronology.weekOfYearOf(weekAlignedDayOfYear());
+        case DAY_OF_YEAR:
+          return dayOfYear;
+        case EPOCH_DAY:
+          return epochDay;
+        default:
+          throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
       }
-      // TODO: review other fields
-      return isoDate.getLong(field);
     }
     return field.getFrom(this);
   }
 
+  /**
+   * @return the season or Chaos for _St. Tib's Day_.
+   */
+  private int seasonOrChaos() {
+    return isLeapDay() ? 1 : season;
+  }
+
+  /**
+   * @return the day-of-season or 60 for _St. Tib's Day_.
+   */
+  private int dayOfSeasonOrLeapDay() {
+    return isLeapDay() ? ST_TIBS_DAY : dayOfSeason;
+  }
+
+  /**
+   * @return the leap-adjusted day-of-year or 60 for _St. Tib's Day_, placing it
+   * in the same aligned week as Chaos 60.
+   */
+  private int weekAlignedDayOfYear() {
+    return ((seasonOrChaos() - 1) * DiscordianChronology.DAYS_PER_SEASON) + dayOfSeasonOrLeapDay();
+  }
+
+  @Override
+  public long toEpochDay() {
+    return epochDay;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    return obj instanceof DiscordianDate && epochDay == ((DiscordianDate) obj).epochDay;
+  }
+
+  @Override
+  public int hashCode() {
+    return getChronology().getId().hashCode() ^ (int) (epochDay ^ (epochDay >>> 32));
+  }
+
   /**
    * Returns a String representation of this instance.
    *
@@ -326,23 +793,75 @@ public final class DiscordianDate implements ChronoLocalDate, Serializable {
    * Because of the leap year handling in the Discordian calendar string
    * representations of dates are not lexically sortable. The leap day has no
    * season, day-of-season or day-of-week so it does not make sense to attempt a
-   * numeric representation of those values.
+   * numeric representation of those values. Use {@link DiscordianSortKey} if
+   * a sortable representation is required.
    */
   @Override
   public String toString() {
-    StringBuilder buffer = new StringBuilder();
-    if (isLeapDay()) {
-      buffer.append("St. Tib's Day! ");
-    } else {
-      buffer.append(getDayName())
-            .append(", ")
-            .append(getSeasonName())
-            .append(" ")
-            .append(getDayOfSeason())
-            .append(", ");
+    return DiscordianFormatter.DEFAULT.format(this);
+  }
+
+  private Object writeReplace() {
+    return new SerializationProxy(epochDay);
+  }
+
+  /**
+   * Reads the equivalent ISO date written by earlier versions of this class.
+   * The instance read is replaced by {@link #readResolve()}.
+   */
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    LocalDate isoDate = (LocalDate) in.readFields().get("isoDate", null);
+    if (isoDate == null) {
+      throw new InvalidObjectException("Missing ISO date");
+    }
+    legacyEpochDay = isoDate.toEpochDay();
+  }
+
+  private Object readResolve() throws ObjectStreamException {
+    try {
+      return ofEpochDay(legacyEpochDay);
+    } catch (DateTimeException e) {
+      InvalidObjectException exception = new InvalidObjectException("Invalid ISO date");
+      exception.initCause(e);
+      throw exception;
+    }
+  }
+
+  /**
+   * The serialized form of a {@link DiscordianDate}, its epoch day encoded in
+   * the same variable length form used by {@link DiscordianDateCodec}.
+   */
+  private static final class SerializationProxy implements Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    private long epochDay;
+
+    public SerializationProxy() {
+    }
+
+    SerializationProxy(long epochDay) {
+      this.epochDay = epochDay;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      DiscordianDateCodec.writeEpochDay(out, epochDay);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+      epochDay = DiscordianDateCodec.readEpochDay(in);
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+      try {
+        return ofEpochDay(epochDay);
+      } catch (DateTimeException e) {
+        InvalidObjectException exception = new InvalidObjectException("Invalid epoch day " + epochDay);
+        exception.initCause(e);
+        throw exception;
+      }
     }
-    buffer.append(getYear()).append(" ").append(getEra());
-    return buffer.toString();
   }
 
 }
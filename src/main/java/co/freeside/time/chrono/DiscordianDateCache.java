@@ -0,0 +1,126 @@
+package co.freeside.time.chrono;
+
+import java.time.LocalDate;
+import java.time.chrono.ChronoLocalDate;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An opt-in cache of shared {@link DiscordianDate} instances.
+ *
+ * When enabled {@link DiscordianDate#ofEpochDay(long)}, the
+ * {@link DiscordianDate#of(int, int, int)} family and everything built on them,
+ * such as {@link DiscordianChronology#dateEpochDay(long)} and
+ * {@link DiscordianDate#plus(long, java.time.temporal.TemporalUnit)}, return
+ * shared instances rather than creating new ones.
+ *
+ * Dates inside the cache window are created up front and held in a plain array
+ * so a lookup is a single array read and every date in the window has exactly
+ * one instance, making `equals` an identity comparison. Dates outside the
+ * window go through a small lock-free direct-mapped cache where a slot holds
+ * whichever date was most recently requested, so instances outside the window
+ * are shared on a best-effort basis only.
+ *
+ * The cache is disabled by default. It can be enabled programmatically or by
+ * setting the system property `co.freeside.time.chrono.cache.years` to the
+ * number of years either side of the current date to cover. The property is
+ * read when this class is loaded so the window is centred on the date
+ * according to the system clock at that time and does not move afterwards.
+ * Values of _0_ or less leave the cache disabled and values greater than
+ * {@link #MAX_YEARS} are treated as {@link #MAX_YEARS}.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianDateCache {
+
+  static final String YEARS_PROPERTY = "co.freeside.time.chrono.cache.years";
+
+  /**
+   * The maximum number of days in the window, just over 1000 years.
+   */
+  public static final int MAX_WINDOW = 366 * 1000;
+
+  /**
+   * The maximum number of years either side of the current date that can be
+   * covered by the `co.freeside.time.chrono.cache.years` property.
+   */
+  public static final int MAX_YEARS = MAX_WINDOW / 366 / 2;
+
+  private static final int OVERFLOW_SIZE = 1 << 12;
+
+  /**
+   * The current cache or `null` if caching is disabled.
+   */
+  private static volatile DiscordianDateCache instance;
+
+  static {
+    Integer years = Integer.getInteger(YEARS_PROPERTY);
+    if (years != null && years > 0) {
+      // a tuning property must never stop dates from being created so
+      // out of range values are clamped rather than rejected
+      int clampedYears = Math.min(years, MAX_YEARS);
+      LocalDate today = LocalDate.now();
+      enable(today.minusYears(clampedYears), today.plusYears(clampedYears));
+    }
+  }
+
+  private final long firstEpochDay;
+  private final DiscordianDate[] window;
+  private final AtomicReferenceArray<DiscordianDate> overflow = new AtomicReferenceArray<>(OVERFLOW_SIZE);
+
+  private DiscordianDateCache(long firstEpochDay, int size) {
+    this.firstEpochDay = firstEpochDay;
+    this.window = new DiscordianDate[size];
+    for (int i = 0; i < size; i++) {
+      window[i] = new DiscordianDate(firstEpochDay + i);
+    }
+  }
+
+  /**
+   * Enables caching of dates from `from` (inclusive) to `to` (exclusive)
+   * replacing any existing cache.
+   *
+   * @throws IllegalArgumentException if the window is empty or larger than
+   *                                  {@link #MAX_WINDOW} days.
+   */
+  public static void enable(ChronoLocalDate from, ChronoLocalDate to) {
+    long size = to.toEpochDay() - from.toEpochDay();
+    if (size < 1 || size > MAX_WINDOW) {
+      throw new IllegalArgumentException("Cache window must be between 1 and " + MAX_WINDOW + " days but was " + size);
+    }
+    instance = new DiscordianDateCache(from.toEpochDay(), (int) size);
+  }
+
+  /**
+   * Disables caching. Dates already handed out are unaffected.
+   */
+  public static void disable() {
+    instance = null;
+  }
+
+  public static boolean isEnabled() {
+    return instance != null;
+  }
+
+  /**
+   * @return the shared instance for `epochDay` or `null` if caching is
+   * disabled. The epoch day must already have been validated.
+   */
+  static DiscordianDate get(long epochDay) {
+    DiscordianDateCache cache = instance;
+    return cache == null ? null : cache.lookup(epochDay);
+  }
+
+  private DiscordianDate lookup(long epochDay) {
+    long offset = epochDay - firstEpochDay;
+    if (offset >= 0 && offset < window.length) {
+      return window[(int) offset];
+    }
+    int slot = (int) (epochDay ^ (epochDay >>> 32)) & (OVERFLOW_SIZE - 1);
+    DiscordianDate date = overflow.get(slot);
+    if (date == null || date.toEpochDay() != epochDay) {
+      date = new DiscordianDate(epochDay);
+      overflow.lazySet(slot, date);
+    }
+    return date;
+  }
+}
@@ -0,0 +1,206 @@
+package co.freeside.time.chrono;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.temporal.ChronoField;
+
+/**
+ * Encodes {@link DiscordianDate} instances to and from a compact binary form.
+ *
+ * A single date is written as its epoch day in
+ * https://developers.google.com/protocol-buffers/docs/encoding#signed-integers[ZigZag]
+ * encoded variable length form so dates near the epoch take 2 or 3 bytes and
+ * no date takes more than {@link #MAX_DATE_LENGTH} bytes.
+ *
+ * A batch is written as the number of dates followed by the first epoch day
+ * and then the difference between each epoch day and the previous one, all in
+ * the same variable length form. Batches of dates that are close together
+ * therefore take little more than 1 byte per date. Batches are read from and
+ * written to `long[]` arrays of epoch days so no object is created per date.
+ *
+ * This is also the format used when a {@link DiscordianDate} is serialized.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianDateCodec {
+
+  /**
+   * The maximum number of bytes used to encode a single date. Epoch days fit
+   * in 39 bits so the difference between two fits in 41 bits once ZigZag
+   * encoded, which is 6 bytes of 7 bits each.
+   */
+  public static final int MAX_DATE_LENGTH = 6;
+
+  /**
+   * The maximum number of bytes used to encode the length of a batch.
+   */
+  private static final int MAX_COUNT_LENGTH = 5;
+
+  /**
+   * The maximum number of bytes in any variable length value.
+   */
+  private static final int MAX_VARINT_LENGTH = 10;
+
+  private DiscordianDateCodec() {
+  }
+
+  /**
+   * @return the maximum number of bytes needed to encode a batch of `count`
+   * dates.
+   * @throws ArithmeticException if the length would not fit in an `int`,
+   *                             which is the case for batches of more than
+   *                             about 357 million dates.
+   */
+  public static int maxBatchLength(int count) {
+    return Math.addExact(MAX_COUNT_LENGTH, Math.multiplyExact(count, MAX_DATE_LENGTH));
+  }
+
+  /**
+   * Writes `date` at the current position of `buffer`.
+   *
+   * @throws java.nio.BufferOverflowException if there is insufficient space
+   *                                          remaining in `buffer`.
+   */
+  public static void put(ByteBuffer buffer, DiscordianDate date) {
+    putVarLong(buffer, zigZag(date.toEpochDay()));
+  }
+
+  /**
+   * Reads a date written by {@link #put(ByteBuffer, DiscordianDate)} from the
+   * current position of `buffer`.
+   *
+   * @throws DateTimeException                 if the encoded value is not a
+   *                                           valid date.
+   * @throws java.nio.BufferUnderflowException if `buffer` ends before the date
+   *                                           does.
+   */
+  public static DiscordianDate get(ByteBuffer buffer) {
+    return DiscordianDate.ofEpochDay(getEpochDay(buffer));
+  }
+
+  /**
+   * Reads the epoch day of a date written by
+   * {@link #put(ByteBuffer, DiscordianDate)} without creating the date.
+   *
+   * @throws DateTimeException                 if the encoded value is not a
+   *                                           valid date.
+   * @throws java.nio.BufferUnderflowException if `buffer` ends before the date
+   *                                           does.
+   */
+  public static long getEpochDay(ByteBuffer buffer) {
+    return ChronoField.EPOCH_DAY.checkValidValue(unZigZag(getVarLong(buffer)));
+  }
+
+  /**
+   * Writes a batch of `length` dates from `epochDays` starting at `offset` at
+   * the current position of `buffer`.
+   *
+   * @throws DateTimeException                if any epoch day is out of range.
+   * @throws java.nio.BufferOverflowException if there is insufficient space
+   *                                          remaining in `buffer`, see
+   *                                          {@link #maxBatchLength(int)}.
+   */
+  public static void putAll(ByteBuffer buffer, long[] epochDays, int offset, int length) {
+    if (offset < 0 || length < 0 || length > epochDays.length - offset) {
+      throw new IndexOutOfBoundsException("Invalid range " + offset + " to " + ((long) offset + length) + " of array of length " + epochDays.length);
+    }
+    putVarLong(buffer, length);
+    long previous = 0;
+    for (int i = offset; i < offset + length; i++) {
+      long epochDay = ChronoField.EPOCH_DAY.checkValidValue(epochDays[i]);
+      putVarLong(buffer, zigZag(epochDay - previous));
+      previous = epochDay;
+    }
+  }
+
+  /**
+   * Reads a batch of dates written by
+   * {@link #putAll(ByteBuffer, long[], int, int)} into `epochDayOut` starting
+   * at `offset`.
+   *
+   * @return the number of dates read.
+   * @throws DateTimeException                 if any encoded value is not a
+   *                                           valid date.
+   * @throws IndexOutOfBoundsException         if the batch does not fit in
+   *                                           `epochDayOut`.
+   * @throws java.nio.BufferUnderflowException if `buffer` ends before the batch
+   *                                           does.
+   */
+  public static int getAll(ByteBuffer buffer, long[] epochDayOut, int offset) {
+    long count = getVarLong(buffer);
+    if (count < 0 || offset < 0 || count > epochDayOut.length - offset) {
+      throw new IndexOutOfBoundsException("Batch of " + count + " dates does not fit in array of length " + epochDayOut.length + " at offset " + offset);
+    }
+    long previous = 0;
+    for (int i = offset; i < offset + count; i++) {
+      previous = ChronoField.EPOCH_DAY.checkValidValue(previous + unZigZag(getVarLong(buffer)));
+      epochDayOut[i] = previous;
+    }
+    return (int) count;
+  }
+
+  /**
+   * Reads the length of the batch at the current position of `buffer` without
+   * moving the position so that an array of the right size can be allocated.
+   */
+  public static int peekBatchLength(ByteBuffer buffer) {
+    long count = getVarLong(buffer.duplicate());
+    if (count < 0 || count > Integer.MAX_VALUE) {
+      throw new DateTimeException("Invalid batch length " + count);
+    }
+    return (int) count;
+  }
+
+  static void writeEpochDay(DataOutput out, long epochDay) throws IOException {
+    long value = zigZag(epochDay);
+    while ((value & ~0x7fL) != 0) {
+      out.writeByte((int) ((value & 0x7f) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  static long readEpochDay(DataInput in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < MAX_VARINT_LENGTH * 7; shift += 7) {
+      byte b = in.readByte();
+      value |= (long) (b & 0x7f) << shift;
+      if (b >= 0) {
+        return unZigZag(value);
+      }
+    }
+    throw new StreamCorruptedException("Malformed variable length value");
+  }
+
+  private static void putVarLong(ByteBuffer buffer, long value) {
+    while ((value & ~0x7fL) != 0) {
+      buffer.put((byte) ((value & 0x7f) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  private static long getVarLong(ByteBuffer buffer) {
+    long value = 0;
+    for (int shift = 0; shift < MAX_VARINT_LENGTH * 7; shift += 7) {
+      byte b = buffer.get();
+      value |= (long) (b & 0x7f) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new DateTimeException("Malformed variable length value");
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
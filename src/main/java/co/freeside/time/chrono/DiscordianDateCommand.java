@@ -0,0 +1,164 @@
+package co.freeside.time.chrono;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A command line equivalent of http://linuxcommand.org/man_pages/ddate1.html[the
+ * UNIX _ddate_ command].
+ *
+ * ----
+ * ddate [+format] [day month year]
+ * ddate [+format] --batch [--epoch-days] [file...]
+ * ----
+ *
+ * With no date the current date is output in the same form as _ddate_, for
+ * example _Today is Boomtime, the 16th day of Chaos in the YOLD 3181_. With a
+ * date given as ISO day, month and year the date is output in the same form
+ * as {@link DiscordianDate#toString()}. In either case a `+format` argument
+ * uses the directives described in {@link DiscordianFormatter} instead.
+ *
+ * With `--batch` each line of the named files, or standard input if there are
+ * none or a file is named `-`, is converted as described in
+ * {@link DiscordianBatchConverter}. Lines are ISO dates unless
+ * `--epoch-days` is given. All the input is converted in a single JVM using
+ * every available core. The exit status is `1` if any line was not a valid
+ * date.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianDateCommand {
+
+  private static final String USAGE = "usage: ddate [+format] [day month year]\n"
+      + "       ddate [+format] --batch [--epoch-days] [file...]";
+
+  private final Clock clock;
+  private final ReadableByteChannel stdin;
+  private final WritableByteChannel stdout;
+  private final PrintStream stderr;
+
+  DiscordianDateCommand(Clock clock, ReadableByteChannel stdin, WritableByteChannel stdout, PrintStream stderr) {
+    this.clock = clock;
+    this.stdin = stdin;
+    this.stdout = stdout;
+    this.stderr = stderr;
+  }
+
+  public static void main(String[] args) {
+    // the standard streams are used as channels so output bypasses the
+    // synchronized PrintStream of System.out
+    DiscordianDateCommand command = new DiscordianDateCommand(
+        Clock.systemDefaultZone(),
+        new FileInputStream(FileDescriptor.in).getChannel(),
+        new FileOutputStream(FileDescriptor.out).getChannel(),
+        System.err
+    );
+    System.exit(command.run(args));
+  }
+
+  /**
+   * @return the exit status.
+   */
+  int run(String[] args) {
+    List<String> arguments = new ArrayList<>(Arrays.asList(args));
+    DiscordianFormatter formatter = null;
+    if (!arguments.isEmpty() && arguments.get(0).startsWith("+")) {
+      try {
+        formatter = DiscordianFormatter.ofPattern(arguments.remove(0).substring(1));
+      } catch (IllegalArgumentException e) {
+        return fail(e.getMessage());
+      }
+    }
+    try {
+      if (arguments.remove("--batch")) {
+        DiscordianBatchConverter converter = DiscordianBatchConverter.of(formatter == null ? DiscordianFormatter.DEFAULT : formatter);
+        if (arguments.remove("--epoch-days")) {
+          converter = converter.withInput(DiscordianBatchConverter.Input.EPOCH_DAY);
+        }
+        return batch(converter, arguments);
+      }
+      if (arguments.isEmpty()) {
+        DiscordianDate today = DiscordianChronology.INSTANCE.date(LocalDate.now(clock));
+        return print(formatter == null ? DiscordianFormatter.DDATE : formatter, today);
+      }
+      if (arguments.size() == 3) {
+        return print(formatter == null ? DiscordianFormatter.DEFAULT : formatter, parseDate(arguments));
+      }
+    } catch (IOException e) {
+      return fail(e.toString());
+    }
+    stderr.println(USAGE);
+    return 1;
+  }
+
+  private DiscordianDate parseDate(List<String> arguments) {
+    try {
+      int day = Integer.parseInt(arguments.get(0));
+      int month = Integer.parseInt(arguments.get(1));
+      int year = Integer.parseInt(arguments.get(2));
+      return DiscordianChronology.INSTANCE.date(LocalDate.of(year, month, day));
+    } catch (NumberFormatException e) {
+      return null;
+    } catch (DateTimeException e) {
+      return null;
+    }
+  }
+
+  private int print(DiscordianFormatter formatter, DiscordianDate date) throws IOException {
+    if (date == null) {
+      return fail("invalid date");
+    }
+    byte[] buffer = new byte[formatter.maxLength() + 1];
+    int length = formatter.formatTo(date, buffer, 0);
+    buffer[length++] = '\n';
+    write(buffer, length);
+    return 0;
+  }
+
+  private int batch(DiscordianBatchConverter converter, List<String> files) throws IOException {
+    if (files.isEmpty()) {
+      files.add("-");
+    }
+    long invalid = 0;
+    for (String file : files) {
+      if ("-".equals(file)) {
+        invalid += converter.convert(stdin, stdout);
+      } else {
+        try (FileChannel channel = FileChannel.open(Paths.get(file), StandardOpenOption.READ)) {
+          invalid += converter.convert(channel, stdout);
+        }
+      }
+    }
+    if (invalid > 0) {
+      return fail(invalid + (invalid == 1 ? " line was" : " lines were") + " not a valid date");
+    }
+    return 0;
+  }
+
+  private void write(byte[] bytes, int length) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+    while (buffer.hasRemaining()) {
+      stdout.write(buffer);
+    }
+  }
+
+  private int fail(String message) {
+    stderr.println("ddate: " + message);
+    return 1;
+  }
+}
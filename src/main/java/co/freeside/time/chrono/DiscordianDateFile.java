@@ -0,0 +1,69 @@
+package co.freeside.time.chrono;
+
+import java.nio.ByteOrder;
+
+/**
+ * The layout of the columnar file format read by
+ * {@link DiscordianDateFileReader} and written by
+ * {@link DiscordianDateFileWriter}.
+ *
+ * All values are little endian. A file consists of:
+ *
+ * . a 32 byte header containing the magic number `DDAT`, the format version
+ * as an `int`, a flags `int`, 4 unused bytes and the number of dates as a
+ * `long`, followed by 8 unused bytes.
+ * . the epoch day of each date as a `long`.
+ * . if the {@link #FLAG_FIELDS} flag is set, the season, day-of-season and
+ * day-of-week of each date packed into a `short` by {@link #packFields(long)}.
+ *
+ * @author Rob Fletcher
+ */
+final class DiscordianDateFile {
+
+  static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  /**
+   * `DDAT` in little endian order.
+   */
+  static final int MAGIC = 'D' | ('D' << 8) | ('A' << 16) | ('T' << 24);
+  static final int VERSION = 1;
+  static final int HEADER_LENGTH = 32;
+  static final int FLAG_FIELDS = 1;
+
+  static final int EPOCH_DAY_LENGTH = 8;
+  static final int FIELDS_LENGTH = 2;
+
+  private DiscordianDateFile() {
+  }
+
+  /**
+   * @return the season, day-of-season and day-of-week of the date with
+   * `epochDay` packed into the low 13 bits of an `int`. All three are `0` for
+   * _St. Tib's Day_.
+   */
+  static int packFields(long epochDay) {
+    long isoYearDay = DiscordianYearTable.isoYearDayOfEpochDay(epochDay);
+    long year = DiscordianChronology.unpackIsoYear(isoYearDay) + (long) DiscordianChronology.ISO_YEAR_OFFSET;
+    int adjusted = DiscordianChronology.leapAdjustedDayOfYear(DiscordianChronology.unpackDayOfYear(isoYearDay), DiscordianYearTable.isLeapYear(year));
+    if (adjusted == 0) {
+      return 0;
+    }
+    return packFields(DiscordianChronology.seasonOf(adjusted), DiscordianChronology.dayOfSeasonOf(adjusted), DiscordianChronology.dayOfWeekOf(adjusted));
+  }
+
+  static int packFields(int season, int dayOfSeason, int dayOfWeek) {
+    return (season << 10) | (dayOfSeason << 3) | dayOfWeek;
+  }
+
+  static int unpackSeason(int fields) {
+    return fields >>> 10;
+  }
+
+  static int unpackDayOfSeason(int fields) {
+    return (fields >>> 3) & 0x7f;
+  }
+
+  static int unpackDayOfWeek(int fields) {
+    return fields & 0x7;
+  }
+}
@@ -0,0 +1,455 @@
+package co.freeside.time.chrono;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a columnar file of dates written by {@link DiscordianDateFileWriter}.
+ *
+ * The file is memory mapped so reading a date is a read from the page cache
+ * with no copying or deserialization. Columns are mapped in chunks of at most
+ * 1GB to stay within the 2GB limit of a single {@link MappedByteBuffer} so
+ * files of any size can be read.
+ *
+ * Values can be read by index, with a {@link Cursor} or as primitive streams
+ * that split evenly for parallel processing. A {@link DiscordianDate} is only
+ * created when asked for. If the file does not contain the precomputed
+ * season, day-of-season and day-of-week column those values are calculated
+ * from the epoch day.
+ *
+ * A reader can be shared between threads although each {@link Cursor} should
+ * only be used by one. The mapped memory is released when the reader becomes
+ * unreachable rather than when it is closed so streams or cursors must not be
+ * used after closing the reader.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianDateFileReader implements Closeable {
+
+  /**
+   * The number of values in each mapped chunk is `1 << CHUNK_SHIFT`, making
+   * each chunk of the epoch day column 1GB.
+   */
+  private static final int CHUNK_SHIFT = 27;
+
+  // the fields visited by a FieldSpliterator
+  private static final int SEASON = 0;
+  private static final int DAY_OF_SEASON = 1;
+  private static final int DAY_OF_WEEK = 2;
+
+  private final FileChannel channel;
+  private final long size;
+  private final int chunkShift;
+  private final long chunkMask;
+  private final ByteBuffer[] epochDayChunks;
+  private final ByteBuffer[] fieldsChunks;
+
+  /**
+   * Opens and maps the file at `path`.
+   *
+   * @throws IOException if the file cannot be read or is not a valid date
+   *                     file.
+   */
+  public static DiscordianDateFileReader open(Path path) throws IOException {
+    return open(path, CHUNK_SHIFT);
+  }
+
+  static DiscordianDateFileReader open(Path path, int chunkShift) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new DiscordianDateFileReader(channel, chunkShift);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private DiscordianDateFileReader(FileChannel channel, int chunkShift) throws IOException {
+    this.channel = channel;
+    this.chunkShift = chunkShift;
+    this.chunkMask = (1L << chunkShift) - 1;
+    ByteBuffer header = ByteBuffer.allocate(DiscordianDateFile.HEADER_LENGTH).order(DiscordianDateFile.BYTE_ORDER);
+    while (header.hasRemaining()) {
+      if (channel.read(header, header.position()) < 0) {
+        throw new IOException("Not a Discordian date file, the header is incomplete");
+      }
+    }
+    header.flip();
+    if (header.getInt() != DiscordianDateFile.MAGIC) {
+      throw new IOException("Not a Discordian date file");
+    }
+    int version = header.getInt();
+    if (version != DiscordianDateFile.VERSION) {
+      throw new IOException("Unsupported Discordian date file version " + version);
+    }
+    boolean hasFields = (header.getInt() & DiscordianDateFile.FLAG_FIELDS) != 0;
+    header.getInt();
+    size = header.getLong();
+    int rowLength = DiscordianDateFile.EPOCH_DAY_LENGTH + (hasFields ? DiscordianDateFile.FIELDS_LENGTH : 0);
+    if (size < 0 || size > (channel.size() - DiscordianDateFile.HEADER_LENGTH) / rowLength
+        || channel.size() != DiscordianDateFile.HEADER_LENGTH + (size * rowLength)) {
+      throw new IOException("Discordian date file is corrupt, expected " + size + " dates but the file is " + channel.size() + " bytes");
+    }
+    long epochDayColumn = DiscordianDateFile.HEADER_LENGTH;
+    epochDayChunks = map(channel, epochDayColumn, DiscordianDateFile.EPOCH_DAY_LENGTH);
+    fieldsChunks = hasFields ? map(channel, epochDayColumn + (size * DiscordianDateFile.EPOCH_DAY_LENGTH), DiscordianDateFile.FIELDS_LENGTH) : null;
+  }
+
+  private ByteBuffer[] map(FileChannel channel, long position, int valueLength) throws IOException {
+    int chunks = (int) ((size + chunkMask) >>> chunkShift);
+    ByteBuffer[] buffers = new ByteBuffer[chunks];
+    for (int i = 0; i < chunks; i++) {
+      long first = (long) i << chunkShift;
+      long values = Math.min(size - first, 1L << chunkShift);
+      buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + (first * valueLength), values * valueLength).order(DiscordianDateFile.BYTE_ORDER);
+    }
+    return buffers;
+  }
+
+  /**
+   * @return the number of dates in the file.
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * @return `true` if the file contains the precomputed season, day-of-season
+   * and day-of-week column.
+   */
+  public boolean hasFields() {
+    return fieldsChunks != null;
+  }
+
+  public long epochDay(long index) {
+    checkIndex(index);
+    return epochDayAt(index);
+  }
+
+  public DiscordianDate date(long index) {
+    return DiscordianDate.ofEpochDay(epochDay(index));
+  }
+
+  /**
+   * @return the season of the date at `index` or `0` if it is _St. Tib's Day_.
+   */
+  public int season(long index) {
+    return DiscordianDateFile.unpackSeason(fields(index));
+  }
+
+  /**
+   * @return the day-of-season of the date at `index` or `0` if it is
+   * _St. Tib's Day_.
+   */
+  public int dayOfSeason(long index) {
+    return DiscordianDateFile.unpackDayOfSeason(fields(index));
+  }
+
+  /**
+   * @return the day-of-week of the date at `index` or `0` if it is
+   * _St. Tib's Day_.
+   */
+  public int dayOfWeek(long index) {
+    return DiscordianDateFile.unpackDayOfWeek(fields(index));
+  }
+
+  private int fields(long index) {
+    checkIndex(index);
+    return fieldsAt(index);
+  }
+
+  private long epochDayAt(long index) {
+    return epochDayChunks[(int) (index >>> chunkShift)].getLong((int) (index & chunkMask) * DiscordianDateFile.EPOCH_DAY_LENGTH);
+  }
+
+  private int fieldsAt(long index) {
+    if (fieldsChunks == null) {
+      return DiscordianDateFile.packFields(epochDayAt(index));
+    }
+    return fieldsChunks[(int) (index >>> chunkShift)].getShort((int) (index & chunkMask) * DiscordianDateFile.FIELDS_LENGTH);
+  }
+
+  private void checkIndex(long index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " is out of range for a file of " + size + " dates");
+    }
+  }
+
+  /**
+   * @return a cursor positioned before the first date.
+   */
+  public Cursor cursor() {
+    return new Cursor();
+  }
+
+  public LongStream epochDays() {
+    return StreamSupport.longStream(new EpochDaySpliterator(0, size), false);
+  }
+
+  /**
+   * @return the season of each date, `0` for _St. Tib's Day_.
+   */
+  public IntStream seasons() {
+    return StreamSupport.intStream(new FieldSpliterator(0, size, SEASON), false);
+  }
+
+  /**
+   * @return the day-of-season of each date, `0` for _St. Tib's Day_.
+   */
+  public IntStream daysOfSeason() {
+    return StreamSupport.intStream(new FieldSpliterator(0, size, DAY_OF_SEASON), false);
+  }
+
+  /**
+   * @return the day-of-week of each date, `0` for _St. Tib's Day_.
+   */
+  public IntStream daysOfWeek() {
+    return StreamSupport.intStream(new FieldSpliterator(0, size, DAY_OF_WEEK), false);
+  }
+
+  /**
+   * @return each date in the file, created as the stream is consumed.
+   */
+  public Stream<DiscordianDate> dates() {
+    return StreamSupport.stream(new DateSpliterator(0, size), false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Steps through the dates in the file in order. A new cursor is positioned
+   * before the first date so {@link #next()} must be called before reading
+   * any values.
+   */
+  public final class Cursor {
+    private long index = -1;
+    private int fields = -1;
+
+    private Cursor() {
+    }
+
+    /**
+     * Moves to the next date.
+     *
+     * @return `false` if there are no more dates.
+     */
+    public boolean next() {
+      if (index + 1 >= size) {
+        index = size;
+        return false;
+      }
+      index++;
+      fields = -1;
+      return true;
+    }
+
+    /**
+     * @return the index of the current date.
+     */
+    public long index() {
+      return index;
+    }
+
+    public long epochDay() {
+      checkIndex(index);
+      return epochDayAt(index);
+    }
+
+    public DiscordianDate date() {
+      return DiscordianDate.ofEpochDay(epochDay());
+    }
+
+    public int season() {
+      return DiscordianDateFile.unpackSeason(fields());
+    }
+
+    public int dayOfSeason() {
+      return DiscordianDateFile.unpackDayOfSeason(fields());
+    }
+
+    public int dayOfWeek() {
+      return DiscordianDateFile.unpackDayOfWeek(fields());
+    }
+
+    private int fields() {
+      if (fields < 0) {
+        checkIndex(index);
+        fields = fieldsAt(index);
+      }
+      return fields;
+    }
+  }
+
+  /**
+   * The base of the spliterators below that visits the indices `index`
+   * (inclusive) to `fence` (exclusive) and splits in half.
+   */
+  private abstract static class IndexSpliterator {
+    protected long index;
+    protected final long fence;
+
+    IndexSpliterator(long index, long fence) {
+      this.index = index;
+      this.fence = fence;
+    }
+
+    /**
+     * @return the index to split at or `-1` if the remaining range is too
+     * small to split.
+     */
+    protected long split() {
+      long middle = index + ((fence - index) >>> 1);
+      if (middle <= index) {
+        return -1;
+      }
+      long prefixStart = index;
+      index = middle;
+      return prefixStart;
+    }
+
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    public int characteristics() {
+      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+    }
+  }
+
+  private final class EpochDaySpliterator extends IndexSpliterator implements Spliterator.OfLong {
+    EpochDaySpliterator(long index, long fence) {
+      super(index, fence);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (index < fence) {
+        action.accept(epochDayAt(index++));
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      long i = index;
+      index = fence;
+      for (; i < fence; i++) {
+        action.accept(epochDayAt(i));
+      }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+      long prefixStart = split();
+      return prefixStart < 0 ? null : new EpochDaySpliterator(prefixStart, index);
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+      throw new IllegalStateException();
+    }
+  }
+
+  private final class FieldSpliterator extends IndexSpliterator implements Spliterator.OfInt {
+    private final int field;
+
+    FieldSpliterator(long index, long fence, int field) {
+      super(index, fence);
+      this.field = field;
+    }
+
+    private int valueAt(long i) {
+      int fields = fieldsAt(i);
+      switch (field) {
+        case SEASON:
+          return DiscordianDateFile.unpackSeason(fields);
+        case DAY_OF_SEASON:
+          return DiscordianDateFile.unpackDayOfSeason(fields);
+        default:
+          return DiscordianDateFile.unpackDayOfWeek(fields);
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      if (index < fence) {
+        action.accept(valueAt(index++));
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      long i = index;
+      index = fence;
+      for (; i < fence; i++) {
+        action.accept(valueAt(i));
+      }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+      long prefixStart = split();
+      return prefixStart < 0 ? null : new FieldSpliterator(prefixStart, index, field);
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator() {
+      throw new IllegalStateException();
+    }
+  }
+
+  private final class DateSpliterator extends IndexSpliterator implements Spliterator<DiscordianDate> {
+    DateSpliterator(long index, long fence) {
+      super(index, fence);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super DiscordianDate> action) {
+      if (index < fence) {
+        action.accept(DiscordianDate.ofEpochDay(epochDayAt(index++)));
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super DiscordianDate> action) {
+      long i = index;
+      index = fence;
+      for (; i < fence; i++) {
+        action.accept(DiscordianDate.ofEpochDay(epochDayAt(i)));
+      }
+    }
+
+    @Override
+    public Spliterator<DiscordianDate> trySplit() {
+      long prefixStart = split();
+      return prefixStart < 0 ? null : new DateSpliterator(prefixStart, index);
+    }
+
+    @Override
+    public Comparator<? super DiscordianDate> getComparator() {
+      throw new IllegalStateException();
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package co.freeside.time.chrono;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.temporal.ChronoField;
+
+/**
+ * Writes a series of dates to a columnar file that can be read by
+ * {@link DiscordianDateFileReader}.
+ *
+ * Dates are appended in order. If the file is created with the season,
+ * day-of-season and day-of-week column that column is written to a temporary
+ * file alongside the output and appended when the writer is closed. The file
+ * is not valid until the writer has been closed.
+ *
+ * Instances are not thread safe.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianDateFileWriter implements Closeable {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final FileChannel channel;
+  private final FileChannel fieldsChannel;
+  private final ByteBuffer epochDayBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(DiscordianDateFile.BYTE_ORDER);
+  private final ByteBuffer fieldsBuffer;
+  private long count;
+  private boolean closed;
+
+  /**
+   * Creates or replaces the file at `path`.
+   *
+   * @param path       the file to write.
+   * @param withFields whether to include the precomputed season,
+   *                   day-of-season and day-of-week column.
+   */
+  public static DiscordianDateFileWriter create(Path path, boolean withFields) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    FileChannel fieldsChannel = null;
+    try {
+      if (withFields) {
+        Path directory = path.toAbsolutePath().getParent();
+        Path fieldsPath = Files.createTempFile(directory, path.getFileName().toString(), ".fields");
+        fieldsChannel = FileChannel.open(fieldsPath, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+      }
+      return new DiscordianDateFileWriter(channel, fieldsChannel);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private DiscordianDateFileWriter(FileChannel channel, FileChannel fieldsChannel) throws IOException {
+    this.channel = channel;
+    this.fieldsChannel = fieldsChannel;
+    this.fieldsBuffer = fieldsChannel == null ? null : ByteBuffer.allocateDirect(BUFFER_SIZE).order(DiscordianDateFile.BYTE_ORDER);
+    channel.position(DiscordianDateFile.HEADER_LENGTH);
+  }
+
+  /**
+   * Appends the date with `epochDay`.
+   *
+   * @throws DateTimeException if `epochDay` is out of range.
+   */
+  public void write(long epochDay) throws IOException {
+    ChronoField.EPOCH_DAY.checkValidValue(epochDay);
+    append(epochDay, fieldsBuffer == null ? 0 : DiscordianDateFile.packFields(epochDay));
+  }
+
+  public void write(DiscordianDate date) throws IOException {
+    append(date.toEpochDay(), DiscordianDateFile.packFields(date.getSeason(), date.getDayOfSeason(), date.getDayOfWeek()));
+  }
+
+  /**
+   * Appends `length` dates from `epochDays` starting at `offset`.
+   *
+   * @throws DateTimeException if any epoch day is out of range.
+   */
+  public void writeAll(long[] epochDays, int offset, int length) throws IOException {
+    if (offset < 0 || length < 0 || length > epochDays.length - offset) {
+      throw new IndexOutOfBoundsException("Invalid range " + offset + " to " + ((long) offset + length) + " of array of length " + epochDays.length);
+    }
+    for (int i = offset; i < offset + length; i++) {
+      write(epochDays[i]);
+    }
+  }
+
+  /**
+   * @return the number of dates written so far.
+   */
+  public long size() {
+    return count;
+  }
+
+  private void append(long epochDay, int fields) throws IOException {
+    if (closed) {
+      throw new IOException("Writer is closed");
+    }
+    if (!epochDayBuffer.hasRemaining()) {
+      drain(epochDayBuffer, channel);
+    }
+    epochDayBuffer.putLong(epochDay);
+    if (fieldsBuffer != null) {
+      if (!fieldsBuffer.hasRemaining()) {
+        drain(fieldsBuffer, fieldsChannel);
+      }
+      fieldsBuffer.putShort((short) fields);
+    }
+    count++;
+  }
+
+  private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Appends the season, day-of-season and day-of-week column, if any, and
+   * writes the header.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      drain(epochDayBuffer, channel);
+      int flags = 0;
+      if (fieldsChannel != null) {
+        flags |= DiscordianDateFile.FLAG_FIELDS;
+        drain(fieldsBuffer, fieldsChannel);
+        // the channel is positioned at the end of the epoch day column
+        long size = fieldsChannel.size();
+        for (long transferred = 0; transferred < size; ) {
+          transferred += fieldsChannel.transferTo(transferred, size - transferred, channel);
+        }
+      }
+      ByteBuffer header = ByteBuffer.allocate(DiscordianDateFile.HEADER_LENGTH).order(DiscordianDateFile.BYTE_ORDER);
+      header.putInt(DiscordianDateFile.MAGIC).putInt(DiscordianDateFile.VERSION).putInt(flags).putInt(0).putLong(count);
+      header.clear();
+      while (header.hasRemaining()) {
+        channel.write(header, header.position());
+      }
+    } finally {
+      try {
+        if (fieldsChannel != null) {
+          fieldsChannel.close();
+        }
+      } finally {
+        channel.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,298 @@
+package co.freeside.time.chrono;
+
+import java.time.DateTimeException;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A range of Discordian dates from a start date (inclusive) to an end date
+ * (exclusive) stepping by a number of days, Discordian weeks or seasons.
+ *
+ * Steps use the same semantics as {@link DiscordianDate#plus(long,
+ * java.time.temporal.TemporalUnit)} so a week is always 5 days and a season
+ * always 73 days. Every step is therefore a fixed number of days and the range
+ * is represented by nothing more than its first epoch day, step and size.
+ * Dates are only created as they are consumed and the {@link Spliterator}
+ * splits evenly so parallel streams scale across cores.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianDateRange implements Iterable<DiscordianDate> {
+
+  private final DiscordianDate start;
+  private final DiscordianDate end;
+  private final long amount;
+  private final ChronoUnit unit;
+  private final long stepDays;
+  private final long size;
+
+  /**
+   * Obtains a range of every day from `start` (inclusive) to `end`
+   * (exclusive). If `end` is not after `start` the range is empty.
+   */
+  public static DiscordianDateRange of(DiscordianDate start, DiscordianDate end) {
+    return new DiscordianDateRange(start, end, 1, ChronoUnit.DAYS);
+  }
+
+  private DiscordianDateRange(DiscordianDate start, DiscordianDate end, long amount, ChronoUnit unit) {
+    if (amount < 1) {
+      throw new IllegalArgumentException("Step must be positive but was " + amount);
+    }
+    this.start = start;
+    this.end = end;
+    this.amount = amount;
+    this.unit = unit;
+    this.stepDays = Math.multiplyExact(amount, daysIn(unit));
+    long days = end.toEpochDay() - start.toEpochDay();
+    this.size = days > 0 ? ((days - 1) / stepDays) + 1 : 0;
+  }
+
+  private static long daysIn(ChronoUnit unit) {
+    switch (unit) {
+      case DAYS:
+        return 1;
+      case WEEKS:
+        return DiscordianChronology.DAYS_PER_WEEK;
+      case MONTHS:
+        return DiscordianChronology.DAYS_PER_SEASON;
+      default:
+        throw new DateTimeException("Unsupported step unit " + unit + ". Only days, weeks and months (seasons) have a fixed length");
+    }
+  }
+
+  /**
+   * Returns a copy of this range stepping by `amount` of `unit`.
+   *
+   * @param amount the size of the step, must be positive.
+   * @param unit   one of {@link ChronoUnit#DAYS}, {@link ChronoUnit#WEEKS} or
+   *               {@link ChronoUnit#MONTHS}.
+   */
+  public DiscordianDateRange by(long amount, ChronoUnit unit) {
+    return new DiscordianDateRange(start, end, amount, unit);
+  }
+
+  public DiscordianDate getStart() {
+    return start;
+  }
+
+  public DiscordianDate getEnd() {
+    return end;
+  }
+
+  /**
+   * @return the number of dates in this range.
+   */
+  public long size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @return the epoch day of each date in this range.
+   */
+  public LongStream epochDays() {
+    return StreamSupport.longStream(epochDaySpliterator(), false);
+  }
+
+  public Stream<DiscordianDate> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  public Stream<DiscordianDate> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /**
+   * @return a spliterator over the epoch days in this range.
+   */
+  public Spliterator.OfLong epochDaySpliterator() {
+    return new EpochDaySpliterator(start.toEpochDay(), stepDays, 0, size);
+  }
+
+  @Override
+  public Spliterator<DiscordianDate> spliterator() {
+    return new DateSpliterator(start.toEpochDay(), stepDays, 0, size);
+  }
+
+  @Override
+  public Iterator<DiscordianDate> iterator() {
+    return new Iterator<DiscordianDate>() {
+      private long index;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public DiscordianDate next() {
+        if (index >= size) {
+          throw new NoSuchElementException();
+        }
+        return DiscordianDate.ofEpochDay(start.toEpochDay() + (index++ * stepDays));
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof DiscordianDateRange)) {
+      return false;
+    }
+    DiscordianDateRange other = (DiscordianDateRange) obj;
+    return start.equals(other.start) && end.equals(other.end) && amount == other.amount && unit == other.unit;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = start.hashCode();
+    result = 31 * result + end.hashCode();
+    result = 31 * result + (int) (amount ^ (amount >>> 32));
+    return 31 * result + unit.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return start + " to " + end + " by " + amount + " " + unit;
+  }
+
+  /**
+   * Produces `origin + (i * step)` for `i` in the range `index` (inclusive) to
+   * `fence` (exclusive). Splits in half by index.
+   */
+  private static final class EpochDaySpliterator implements Spliterator.OfLong {
+    private final long origin;
+    private final long step;
+    private long index;
+    private final long fence;
+
+    EpochDaySpliterator(long origin, long step, long index, long fence) {
+      this.origin = origin;
+      this.step = step;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (index < fence) {
+        action.accept(origin + (index++ * step));
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      long i = index;
+      index = fence;
+      for (; i < fence; i++) {
+        action.accept(origin + (i * step));
+      }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+      long middle = index + ((fence - index) >>> 1);
+      if (middle <= index) {
+        return null;
+      }
+      Spliterator.OfLong prefix = new EpochDaySpliterator(origin, step, index, middle);
+      index = middle;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT | SORTED;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+      // natural ordering
+      return null;
+    }
+  }
+
+  /**
+   * The equivalent of {@link EpochDaySpliterator} that creates a date from
+   * each epoch day.
+   */
+  private static final class DateSpliterator implements Spliterator<DiscordianDate> {
+    private final long origin;
+    private final long step;
+    private long index;
+    private final long fence;
+
+    DateSpliterator(long origin, long step, long index, long fence) {
+      this.origin = origin;
+      this.step = step;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super DiscordianDate> action) {
+      if (index < fence) {
+        action.accept(DiscordianDate.ofEpochDay(origin + (index++ * step)));
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super DiscordianDate> action) {
+      long i = index;
+      index = fence;
+      for (; i < fence; i++) {
+        action.accept(DiscordianDate.ofEpochDay(origin + (i * step)));
+      }
+    }
+
+    @Override
+    public Spliterator<DiscordianDate> trySplit() {
+      long middle = index + ((fence - index) >>> 1);
+      if (middle <= index) {
+        return null;
+      }
+      Spliterator<DiscordianDate> prefix = new DateSpliterator(origin, step, index, middle);
+      index = middle;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT | SORTED;
+    }
+
+    @Override
+    public Comparator<? super DiscordianDate> getComparator() {
+      // natural ordering
+      return null;
+    }
+  }
+}
@@ -0,0 +1,303 @@
+package co.freeside.time.chrono;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+import java.util.Objects;
+
+/**
+ * A date-time without a time-zone in the Discordian calendar system.
+ *
+ * This is the equivalent of {@link java.time.LocalDateTime} for the
+ * Discordian calendar, a {@link DiscordianDate} combined with a
+ * {@link LocalTime}. Date fields are handled by the {@link DiscordianDate} and
+ * time fields by the {@link LocalTime} so no ISO date is created when fields
+ * are read or the date-time is adjusted.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianDateTime implements ChronoLocalDateTime<DiscordianDate>, Serializable {
+
+  private static final long serialVersionUID = -8137291826317216428L;
+
+  static final long SECONDS_PER_DAY = 86400L;
+  static final long MILLIS_PER_DAY = SECONDS_PER_DAY * 1000L;
+  static final long NANOS_PER_SECOND = 1000000000L;
+  static final long NANOS_PER_DAY = SECONDS_PER_DAY * NANOS_PER_SECOND;
+
+  private final DiscordianDate date;
+  private final LocalTime time;
+
+  public static DiscordianDateTime of(DiscordianDate date, LocalTime time) {
+    Objects.requireNonNull(date, "date");
+    Objects.requireNonNull(time, "time");
+    return new DiscordianDateTime(date, time);
+  }
+
+  /**
+   * @return the local date-time at `offset` of the instant `epochSecond`
+   * seconds and `nanoOfSecond` nanoseconds after the epoch.
+   * @throws DateTimeException if the result is out of range.
+   */
+  public static DiscordianDateTime ofEpochSecond(long epochSecond, int nanoOfSecond, ZoneOffset offset) {
+    ChronoField.NANO_OF_SECOND.checkValidValue(nanoOfSecond);
+    long localSecond = Math.addExact(epochSecond, offset.getTotalSeconds());
+    long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+    long secondOfDay = Math.floorMod(localSecond, SECONDS_PER_DAY);
+    return new DiscordianDateTime(DiscordianDate.ofEpochDay(epochDay), LocalTime.ofNanoOfDay((secondOfDay * NANOS_PER_SECOND) + nanoOfSecond));
+  }
+
+  /**
+   * @return the local date-time in `zone` of the instant `epochMilli`
+   * milliseconds after the epoch. The offset of `zone` is cached as described
+   * in {@link DiscordianZonedDateTime#ofEpochMilli(long, ZoneId)}.
+   * @throws DateTimeException if the result is out of range.
+   */
+  public static DiscordianDateTime ofEpochMilli(long epochMilli, ZoneId zone) {
+    long epochSecond = Math.floorDiv(epochMilli, 1000L);
+    int nanoOfSecond = (int) Math.floorMod(epochMilli, 1000L) * 1000000;
+    return ofEpochSecond(epochSecond, nanoOfSecond, DiscordianZoneOffsets.offsetAt(zone, epochSecond));
+  }
+
+  /**
+   * Obtains a Discordian date-time from any temporal object that has both a
+   * date and a time, such as a {@link java.time.LocalDateTime}.
+   *
+   * @throws DateTimeException if `temporal` does not have a date and time.
+   */
+  public static DiscordianDateTime from(TemporalAccessor temporal) {
+    if (temporal instanceof DiscordianDateTime) {
+      return (DiscordianDateTime) temporal;
+    }
+    if (temporal instanceof DiscordianZonedDateTime) {
+      return ((DiscordianZonedDateTime) temporal).toLocalDateTime();
+    }
+    try {
+      return new DiscordianDateTime(DiscordianChronology.INSTANCE.date(temporal), LocalTime.from(temporal));
+    } catch (DateTimeException e) {
+      throw new DateTimeException("Unable to obtain DiscordianDateTime from TemporalAccessor: " + temporal + " of type " + temporal.getClass().getName(), e);
+    }
+  }
+
+  private DiscordianDateTime(DiscordianDate date, LocalTime time) {
+    this.date = date;
+    this.time = time;
+  }
+
+  private DiscordianDateTime with(DiscordianDate newDate, LocalTime newTime) {
+    if (date == newDate && time == newTime) {
+      return this;
+    }
+    return new DiscordianDateTime(newDate, newTime);
+  }
+
+  @Override
+  public DiscordianDate toLocalDate() {
+    return date;
+  }
+
+  @Override
+  public LocalTime toLocalTime() {
+    return time;
+  }
+
+  @Override
+  public boolean isSupported(TemporalField field) {
+    if (field instanceof ChronoField) {
+      return field.isDateBased() || field.isTimeBased();
+    }
+    return field != null && field.isSupportedBy(this);
+  }
+
+  @Override
+  public ValueRange range(TemporalField field) {
+    if (field instanceof ChronoField) {
+      return field.isTimeBased() ? time.range(field) : date.range(field);
+    }
+    return field.rangeRefinedBy(this);
+  }
+
+  @Override
+  public int get(TemporalField field) {
+    if (field instanceof ChronoField) {
+      return field.isTimeBased() ? time.get(field) : date.get(field);
+    }
+    return ChronoLocalDateTime.super.get(field);
+  }
+
+  @Override
+  public long getLong(TemporalField field) {
+    if (field instanceof ChronoField) {
+      return field.isTimeBased() ? time.getLong(field) : date.getLong(field);
+    }
+    return field.getFrom(this);
+  }
+
+  @Override
+  public DiscordianDateTime with(TemporalAdjuster adjuster) {
+    if (adjuster instanceof DiscordianDate) {
+      return with((DiscordianDate) adjuster, time);
+    }
+    if (adjuster instanceof LocalTime) {
+      return with(date, (LocalTime) adjuster);
+    }
+    if (adjuster instanceof DiscordianDateTime) {
+      return (DiscordianDateTime) adjuster;
+    }
+    return (DiscordianDateTime) adjuster.adjustInto(this);
+  }
+
+  @Override
+  public DiscordianDateTime with(TemporalField field, long newValue) {
+    if (field instanceof ChronoField) {
+      if (field.isTimeBased()) {
+        return with(date, time.with(field, newValue));
+      }
+      return with((DiscordianDate) date.with(field, newValue), time);
+    }
+    return field.adjustInto(this, newValue);
+  }
+
+  @Override
+  public DiscordianDateTime plus(TemporalAmount amount) {
+    return (DiscordianDateTime) amount.addTo(this);
+  }
+
+  @Override
+  public DiscordianDateTime plus(long amountToAdd, TemporalUnit unit) {
+    if (unit instanceof ChronoUnit) {
+      if (unit.isTimeBased()) {
+        long unitNanos = nanosOf((ChronoUnit) unit);
+        long unitsPerDay = NANOS_PER_DAY / unitNanos;
+        return plusNanos(amountToAdd / unitsPerDay, (amountToAdd % unitsPerDay) * unitNanos);
+      }
+      return with((DiscordianDate) date.plus(amountToAdd, unit), time);
+    }
+    return unit.addTo(this, amountToAdd);
+  }
+
+  @Override
+  public DiscordianDateTime minus(TemporalAmount amount) {
+    return (DiscordianDateTime) amount.subtractFrom(this);
+  }
+
+  @Override
+  public DiscordianDateTime minus(long amountToSubtract, TemporalUnit unit) {
+    if (amountToSubtract == Long.MIN_VALUE) {
+      return plus(Long.MAX_VALUE, unit).plus(1, unit);
+    }
+    return plus(-amountToSubtract, unit);
+  }
+
+  DiscordianDateTime plusSeconds(long seconds) {
+    return plus(seconds, ChronoUnit.SECONDS);
+  }
+
+  /**
+   * Adds `days` and `nanos`, where `nanos` is less than a day, carrying into
+   * the date if the time wraps.
+   */
+  private DiscordianDateTime plusNanos(long days, long nanos) {
+    if (days == 0 && nanos == 0) {
+      return this;
+    }
+    long nanoOfDay = time.toNanoOfDay() + nanos;
+    days += Math.floorDiv(nanoOfDay, NANOS_PER_DAY);
+    nanoOfDay = Math.floorMod(nanoOfDay, NANOS_PER_DAY);
+    DiscordianDate newDate = days == 0 ? date : DiscordianDate.ofEpochDay(Math.addExact(date.toEpochDay(), days));
+    return with(newDate, nanoOfDay == time.toNanoOfDay() ? time : LocalTime.ofNanoOfDay(nanoOfDay));
+  }
+
+  @Override
+  public long until(Temporal endExclusive, TemporalUnit unit) {
+    DiscordianDateTime end = from(endExclusive);
+    if (unit instanceof ChronoUnit) {
+      if (unit.isTimeBased()) {
+        long days = end.date.toEpochDay() - date.toEpochDay();
+        long nanos = end.time.toNanoOfDay() - time.toNanoOfDay();
+        if (days > 0 && nanos < 0) {
+          days--;
+          nanos += NANOS_PER_DAY;
+        } else if (days < 0 && nanos > 0) {
+          days++;
+          nanos -= NANOS_PER_DAY;
+        }
+        long unitNanos = nanosOf((ChronoUnit) unit);
+        return Math.addExact(Math.multiplyExact(days, NANOS_PER_DAY / unitNanos), nanos / unitNanos);
+      }
+      long endEpochDay = end.date.toEpochDay();
+      if (endEpochDay > date.toEpochDay() && end.time.isBefore(time)) {
+        endEpochDay--;
+      } else if (endEpochDay < date.toEpochDay() && end.time.isAfter(time)) {
+        endEpochDay++;
+      }
+      return date.until(DiscordianDate.ofEpochDay(endEpochDay), unit);
+    }
+    return unit.between(this, end);
+  }
+
+  private static long nanosOf(ChronoUnit unit) {
+    switch (unit) {
+      case NANOS:
+        return 1L;
+      case MICROS:
+        return 1000L;
+      case MILLIS:
+        return 1000000L;
+      case SECONDS:
+        return NANOS_PER_SECOND;
+      case MINUTES:
+        return 60L * NANOS_PER_SECOND;
+      case HOURS:
+        return 3600L * NANOS_PER_SECOND;
+      case HALF_DAYS:
+        return 12L * 3600L * NANOS_PER_SECOND;
+      default:
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+  }
+
+  @Override
+  public DiscordianZonedDateTime atZone(ZoneId zone) {
+    return DiscordianZonedDateTime.ofLocal(this, zone, null);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof DiscordianDateTime) {
+      DiscordianDateTime other = (DiscordianDateTime) obj;
+      return date.equals(other.date) && time.equals(other.time);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return date.hashCode() ^ time.hashCode();
+  }
+
+  /**
+   * Returns the date in the same format as {@link DiscordianDate#toString()}
+   * followed by the time in ISO-8601 format.
+   */
+  @Override
+  public String toString() {
+    return date.toString() + ' ' + time.toString();
+  }
+}
@@ -0,0 +1,67 @@
+package co.freeside.time.chrono;
+
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoField;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@link DateTimeFormatter} instances for Discordian dates built from
+ * {@link DiscordianField}.
+ *
+ * Each formatter is built once and is immutable so can be shared. They use the
+ * Discordian chronology so any temporal with a date, such as a
+ * {@link java.time.LocalDate}, is converted to a Discordian date when
+ * formatted, and parsing produces a {@link DiscordianDate}.
+ *
+ * {@link DiscordianFormatter} is faster for formatting alone. These
+ * formatters are for use where a `DateTimeFormatter` is required or text must
+ * be parsed, and as examples of building a formatter with
+ * {@link DiscordianField}.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianDateTimeFormatters {
+
+  /**
+   * Formats and parses text in the same form as
+   * {@link DiscordianDate#toString()}, for example
+   * `Prickle-Prickle, Discord 16, 3179 YOLD` or `St. Tib's Day! 3178 YOLD`.
+   */
+  public static final DateTimeFormatter DEFAULT = build(TextStyle.FULL);
+
+  /**
+   * Formats and parses text with abbreviated names, for example
+   * `PP, Dsc 16, 3179 YOLD` or `St. Tib's Day! 3178 YOLD`.
+   */
+  public static final DateTimeFormatter SHORT = build(TextStyle.SHORT);
+
+  private DiscordianDateTimeFormatters() {
+  }
+
+  private static DateTimeFormatter build(TextStyle style) {
+    // an empty text for days other than St. Tib's Day lets the optional
+    // section print on those days and nothing else
+    Map<Long, String> stTibsText = new HashMap<>();
+    stTibsText.put(0L, "");
+    stTibsText.put(1L, "St. Tib's Day!");
+    return new DateTimeFormatterBuilder()
+        .optionalStart()
+        .appendText(DiscordianField.DAY_OF_WEEK, DiscordianField.DAY_OF_WEEK.getTextMap(style))
+        .appendLiteral(", ")
+        .appendText(DiscordianField.SEASON, DiscordianField.SEASON.getTextMap(style))
+        .appendLiteral(' ')
+        .appendValue(DiscordianField.DAY_OF_SEASON)
+        .appendLiteral(',')
+        .optionalEnd()
+        .appendText(DiscordianField.ST_TIBS_DAY, stTibsText)
+        .appendLiteral(' ')
+        .appendValue(ChronoField.YEAR)
+        .appendLiteral(" YOLD")
+        .toFormatter(Locale.ROOT)
+        .withChronology(DiscordianChronology.INSTANCE);
+  }
+}
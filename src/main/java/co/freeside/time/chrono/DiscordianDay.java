@@ -0,0 +1,59 @@
+package co.freeside.time.chrono;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * A date in a particular zone along with its formatted text and the instants
+ * at which the day starts and ends. Used by classes that repeatedly need the
+ * date of an instant that rarely changes day.
+ *
+ * @author Rob Fletcher
+ */
+final class DiscordianDay {
+
+  final DiscordianDate date;
+  final String text;
+  final byte[] bytes;
+
+  /**
+   * The start of the day in epoch milliseconds, inclusive.
+   */
+  final long start;
+
+  /**
+   * The end of the day in epoch milliseconds, exclusive.
+   */
+  final long end;
+
+  private DiscordianDay(DiscordianDate date, String text, byte[] bytes, long start, long end) {
+    this.date = date;
+    this.text = text;
+    this.bytes = bytes;
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * @return the day in `zone` containing the instant `millis` with its text
+   * rendered by `formatter`.
+   */
+  static DiscordianDay at(long millis, ZoneId zone, DiscordianFormatter formatter) {
+    long epochSecond = Math.floorDiv(millis, 1000L);
+    long localSecond = epochSecond + DiscordianZoneOffsets.offsetAt(zone, epochSecond).getTotalSeconds();
+    long epochDay = Math.floorDiv(localSecond, DiscordianDateTime.SECONDS_PER_DAY);
+    DiscordianDate date = DiscordianDate.ofEpochDay(epochDay);
+    byte[] buffer = new byte[formatter.maxLength()];
+    byte[] bytes = Arrays.copyOf(buffer, formatter.formatTo(date, buffer, 0));
+    return new DiscordianDay(date, formatter.format(date), bytes, startOfDay(epochDay, zone), startOfDay(epochDay + 1, zone));
+  }
+
+  boolean contains(long millis) {
+    return millis >= start && millis < end;
+  }
+
+  private static long startOfDay(long epochDay, ZoneId zone) {
+    return LocalDate.ofEpochDay(epochDay).atStartOfDay(zone).toInstant().toEpochMilli();
+  }
+}
@@ -4,7 +4,6 @@ import java.time.DateTimeException;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.Chronology;
 import java.time.chrono.Era;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.TextStyle;
 import java.time.temporal.*;
 import java.util.Locale;
@@ -42,9 +41,13 @@ public enum DiscordianEra implements Era {
     return getChronology().dateYearDay(this, yearOfEra, dayOfYear);
   }
 
+  /**
+   * @return _Year of Our Lady of Discord_ for the full text styles or _YOLD_
+   * for any other. The name is the same in every locale.
+   */
   @Override
   public String getDisplayName(TextStyle style, Locale locale) {
-    return new DateTimeFormatterBuilder().appendText(ERA, style).toFormatter(locale).format(this);
+    return style.asNormal() == TextStyle.FULL ? "Year of Our Lady of Discord" : "YOLD";
   }
 
   @Override
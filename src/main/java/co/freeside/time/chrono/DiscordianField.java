@@ -0,0 +1,307 @@
+package co.freeside.time.chrono;
+
+import java.time.DateTimeException;
+import java.time.chrono.Chronology;
+import java.time.format.ResolverStyle;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Fields of the Discordian calendar that can be read from any temporal object
+ * with an epoch day, such as a {@link DiscordianDate} or a
+ * {@link java.time.LocalDate}, and used with
+ * {@link java.time.format.DateTimeFormatterBuilder}.
+ *
+ * Unlike the {@link ChronoField} values that {@link DiscordianDate} maps to
+ * seasons and weeks, which are `0` on _St. Tib's Day_, {@link #SEASON},
+ * {@link #DAY_OF_SEASON} and {@link #DAY_OF_WEEK} are not supported at all on
+ * _St. Tib's Day_. An optional section of a formatter containing them is
+ * therefore skipped on the leap day. {@link #ST_TIBS_DAY} is `1` on the leap
+ * day and `0` otherwise.
+ *
+ * The names of seasons and days of the week are available as maps from value
+ * to text for {@link java.time.format.DateTimeFormatterBuilder#appendText(TemporalField, Map)}
+ * from {@link #getTextMap(TextStyle)}. The maps are created once when this
+ * class is initialized. The JDK's own text lookup cannot be used as it
+ * depends on {@link Chronology#getCalendarType()} and there is no calendar
+ * type for the Discordian calendar.
+ *
+ * When a formatter parses a year and either a season and day-of-season or a
+ * {@link #ST_TIBS_DAY} of `1` these fields resolve to a date in the
+ * formatter's chronology. The year is always the Discordian year. See
+ * {@link DiscordianDateTimeFormatters} for formatters that are ready to use.
+ *
+ * @author Rob Fletcher
+ */
+public enum DiscordianField implements TemporalField {
+
+  /**
+   * The season from 1 to 5.
+   */
+  SEASON("Season", ChronoUnit.MONTHS, ChronoUnit.YEARS, ValueRange.of(1, DiscordianChronology.SEASONS_PER_YEAR),
+      seasonNames(), new String[] {"Chs", "Dsc", "Cfn", "Bcy", "Afm"}),
+
+  /**
+   * The day-of-season from 1 to 73.
+   */
+  DAY_OF_SEASON("DayOfSeason", ChronoUnit.DAYS, ChronoUnit.MONTHS, ValueRange.of(1, DiscordianChronology.DAYS_PER_SEASON),
+      new String[0], new String[0]),
+
+  /**
+   * The day of the 5 day Discordian week, from 1 (_Sweetmorn_) to 5 (_Setting
+   * Orange_).
+   */
+  DAY_OF_WEEK("DayOfWeek", ChronoUnit.DAYS, ChronoUnit.WEEKS, ValueRange.of(1, DiscordianChronology.DAYS_PER_WEEK),
+      dayNames(), new String[] {"SM", "BT", "PD", "PP", "SO"}),
+
+  /**
+   * `1` on _St. Tib's Day_ and `0` on any other day.
+   */
+  ST_TIBS_DAY("StTibsDay", ChronoUnit.DAYS, ChronoUnit.YEARS, ValueRange.of(0, 1),
+      new String[] {"St. Tib's Day"}, new String[] {"St. Tib's"});
+
+  private final String name;
+  private final TemporalUnit baseUnit;
+  private final TemporalUnit rangeUnit;
+  private final ValueRange range;
+  private final Map<Long, String> fullText;
+  private final Map<Long, String> shortText;
+
+  DiscordianField(String name, TemporalUnit baseUnit, TemporalUnit rangeUnit, ValueRange range, String[] fullText, String[] shortText) {
+    this.name = name;
+    this.baseUnit = baseUnit;
+    this.rangeUnit = rangeUnit;
+    this.range = range;
+    this.fullText = textMap(range, fullText);
+    this.shortText = textMap(range, shortText);
+  }
+
+  private static String[] seasonNames() {
+    String[] names = new String[DiscordianChronology.SEASONS_PER_YEAR];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = DiscordianChronology.INSTANCE.getSeasonName(i + 1);
+    }
+    return names;
+  }
+
+  private static String[] dayNames() {
+    String[] names = new String[DiscordianChronology.DAYS_PER_WEEK];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = DiscordianChronology.INSTANCE.getDayName(i + 1);
+    }
+    return names;
+  }
+
+  /**
+   * Maps `texts` to values counting down from the maximum of `range` so the
+   * single text of {@link #ST_TIBS_DAY} is for `1`.
+   */
+  private static Map<Long, String> textMap(ValueRange range, String[] texts) {
+    Map<Long, String> map = new LinkedHashMap<>();
+    long first = range.getMaximum() - texts.length + 1;
+    for (int i = 0; i < texts.length; i++) {
+      map.put(first + i, texts[i]);
+    }
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * @return the text of each value of this field in `style`, for example
+   * _Chaos_ or _Chs_ for season 1. {@link TextStyle#NARROW} uses the same
+   * text as {@link TextStyle#SHORT}. The map is empty for
+   * {@link #DAY_OF_SEASON} which has no text.
+   */
+  public Map<Long, String> getTextMap(TextStyle style) {
+    return style.asNormal() == TextStyle.FULL ? fullText : shortText;
+  }
+
+  /**
+   * @return the text of `value` in `style` or `null` if there is none.
+   */
+  public String getText(long value, TextStyle style) {
+    return getTextMap(style).get(value);
+  }
+
+  @Override
+  public String getDisplayName(Locale locale) {
+    return name;
+  }
+
+  @Override
+  public TemporalUnit getBaseUnit() {
+    return baseUnit;
+  }
+
+  @Override
+  public TemporalUnit getRangeUnit() {
+    return rangeUnit;
+  }
+
+  @Override
+  public ValueRange range() {
+    return range;
+  }
+
+  @Override
+  public boolean isDateBased() {
+    return true;
+  }
+
+  @Override
+  public boolean isTimeBased() {
+    return false;
+  }
+
+  @Override
+  public boolean isSupportedBy(TemporalAccessor temporal) {
+    if (!temporal.isSupported(ChronoField.EPOCH_DAY)) {
+      return false;
+    }
+    return this == ST_TIBS_DAY || dateOf(temporal).getSeason() != 0;
+  }
+
+  @Override
+  public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+    if (!isSupportedBy(temporal)) {
+      throw new UnsupportedTemporalTypeException("Unsupported field: " + this);
+    }
+    return range;
+  }
+
+  @Override
+  public long getFrom(TemporalAccessor temporal) {
+    if (!temporal.isSupported(ChronoField.EPOCH_DAY)) {
+      throw new UnsupportedTemporalTypeException("Unsupported field: " + this);
+    }
+    DiscordianDate date = dateOf(temporal);
+    if (this == ST_TIBS_DAY) {
+      return date.getSeason() == 0 ? 1 : 0;
+    }
+    if (date.getSeason() == 0) {
+      throw new UnsupportedTemporalTypeException("Unsupported field on St. Tib's Day: " + this);
+    }
+    switch (this) {
+      case SEASON:
+        return date.getSeason();
+      case DAY_OF_SEASON:
+        return date.getDayOfSeason();
+      default:
+        return date.getDayOfWeek();
+    }
+  }
+
+  /**
+   * Setting {@link #SEASON}, {@link #DAY_OF_SEASON} or {@link #DAY_OF_WEEK}
+   * keeps the other fields of the date the same. Setting {@link #ST_TIBS_DAY}
+   * to `1` moves to _St. Tib's Day_ in the same year. A date cannot be moved
+   * off _St. Tib's Day_ by this field as there is no obvious day to move to.
+   *
+   * @throws DateTimeException if the result is not a valid date.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+    range.checkValidValue(newValue, this);
+    DiscordianDate date = dateOf(temporal);
+    if (getFrom(date) == newValue) {
+      return temporal;
+    }
+    DiscordianDate adjusted;
+    switch (this) {
+      case SEASON:
+        adjusted = DiscordianDate.of(date.getYear(), (int) newValue, date.getDayOfSeason());
+        break;
+      case DAY_OF_SEASON:
+        adjusted = DiscordianDate.of(date.getYear(), date.getSeason(), (int) newValue);
+        break;
+      case DAY_OF_WEEK:
+        adjusted = DiscordianDate.ofEpochDay(date.toEpochDay() + newValue - date.getDayOfWeek());
+        break;
+      default:
+        if (newValue == 0) {
+          throw new DateTimeException("Cannot move a date off St. Tib's Day");
+        }
+        adjusted = leapDay(date.getYear());
+        break;
+    }
+    if (temporal instanceof DiscordianDate) {
+      return (R) adjusted;
+    }
+    return (R) temporal.with(ChronoField.EPOCH_DAY, adjusted.toEpochDay());
+  }
+
+  /**
+   * Resolves a year with either {@link #SEASON} and {@link #DAY_OF_SEASON} or
+   * a {@link #ST_TIBS_DAY} of `1` to a date. {@link #DAY_OF_WEEK}, if present,
+   * must match the date unless `resolverStyle` is lenient. A lenient
+   * resolver also allows the season and day-of-season to overflow.
+   */
+  @Override
+  public TemporalAccessor resolve(Map<TemporalField, Long> fieldValues, TemporalAccessor partialTemporal, ResolverStyle resolverStyle) {
+    TemporalField yearField = fieldValues.containsKey(ChronoField.YEAR) ? ChronoField.YEAR : ChronoField.YEAR_OF_ERA;
+    Long year = fieldValues.get(yearField);
+    if (year == null) {
+      return null;
+    }
+    Long stTibsDay = fieldValues.get(ST_TIBS_DAY);
+    Long season = fieldValues.get(SEASON);
+    Long dayOfSeason = fieldValues.get(DAY_OF_SEASON);
+    int validYear = DiscordianChronology.YEAR_RANGE.checkValidIntValue(year, yearField);
+    DiscordianDate date;
+    if (stTibsDay != null && ST_TIBS_DAY.range.checkValidIntValue(stTibsDay, ST_TIBS_DAY) == 1) {
+      if (season != null || dayOfSeason != null) {
+        throw new DateTimeException("St. Tib's Day has no season or day-of-season");
+      }
+      date = leapDay(validYear);
+    } else if (season != null && dayOfSeason != null) {
+      if (resolverStyle == ResolverStyle.LENIENT) {
+        date = (DiscordianDate) DiscordianDate.of(validYear, 1, 1)
+            .plus(Math.subtractExact(season, 1), ChronoUnit.MONTHS)
+            .plus(Math.subtractExact(dayOfSeason, 1), ChronoUnit.DAYS);
+      } else {
+        date = DiscordianDate.of(validYear, SEASON.range.checkValidIntValue(season, SEASON), DAY_OF_SEASON.range.checkValidIntValue(dayOfSeason, DAY_OF_SEASON));
+      }
+    } else {
+      return null;
+    }
+    Long dayOfWeek = fieldValues.remove(DAY_OF_WEEK);
+    if (dayOfWeek != null && resolverStyle != ResolverStyle.LENIENT && dayOfWeek != date.getDayOfWeek()) {
+      throw new DateTimeException("Conflict found: Field " + DAY_OF_WEEK + " " + date.getDayOfWeek() + " differs from " + DAY_OF_WEEK + " " + dayOfWeek + " derived from " + date);
+    }
+    fieldValues.remove(yearField);
+    fieldValues.remove(SEASON);
+    fieldValues.remove(DAY_OF_SEASON);
+    fieldValues.remove(ST_TIBS_DAY);
+    return Chronology.from(partialTemporal).date(date);
+  }
+
+  private static DiscordianDate dateOf(TemporalAccessor temporal) {
+    if (temporal instanceof DiscordianDate) {
+      return (DiscordianDate) temporal;
+    }
+    return DiscordianDate.ofEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+  }
+
+  private static DiscordianDate leapDay(int year) {
+    if (!DiscordianYearTable.isLeapYear(year)) {
+      throw new DateTimeException("Invalid date 'St. Tib's Day' as '" + year + "' is not a leap year");
+    }
+    return DiscordianDate.ofLeapDay(year);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
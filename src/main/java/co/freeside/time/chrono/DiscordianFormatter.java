@@ -0,0 +1,564 @@
+package co.freeside.time.chrono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Formats {@link DiscordianDate} instances using the directives of
+ * http://linuxcommand.org/man_pages/ddate1.html[the UNIX _ddate_ command].
+ *
+ * A pattern is compiled once by {@link #ofPattern(String)} into an immutable
+ * program that can be shared between threads. Formatting appends directly to a
+ * {@link StringBuilder}, {@link CharBuffer}, any other {@link Appendable} or a
+ * `byte[]` without creating intermediate strings. Season and day names are
+ * encoded to bytes when this class is initialized.
+ *
+ * The supported directives are:
+ *
+ * `%A`:: the name of the day of the week, e.g. _Sweetmorn_.
+ * `%a`:: the abbreviated name of the day of the week, e.g. _SM_.
+ * `%B`:: the name of the season, e.g. _Chaos_.
+ * `%b`:: the abbreviated name of the season, e.g. _Chs_.
+ * `%d`:: the day of the season, e.g. _23_.
+ * `%e`:: the day of the season as an ordinal, e.g. _23rd_.
+ * `%H`:: the name of the holyday, if any.
+ * `%N`:: nothing after this directive is output unless the date is a holyday.
+ * `%Y`:: the year.
+ * `%.`:: a salutation. Unlike _ddate_ the salutation is chosen from the date
+ * rather than at random so the output of a formatter is repeatable.
+ * `%{` ... `%}`:: the enclosed text is replaced with _St. Tib's Day_ if the
+ * date is the leap day.
+ * `%n`, `%t`, `%%`:: a newline, tab and percent sign respectively.
+ *
+ * On _St. Tib's Day_ directives for the day of the week, season and day of
+ * season output nothing as the leap day has none of those.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianFormatter {
+
+  private static final String ST_TIBS_DAY_TEXT = "St. Tib's Day";
+
+  private static final String[] DAY_ABBREVIATIONS = DiscordianField.DAY_OF_WEEK.getTextMap(TextStyle.SHORT).values().toArray(new String[0]);
+  private static final String[] SEASON_ABBREVIATIONS = DiscordianField.SEASON.getTextMap(TextStyle.SHORT).values().toArray(new String[0]);
+  private static final String[] SALUTATIONS = {
+      "Hail Eris!", "All Hail Discordia!", "Kallisti!", "Fnord.", "Or not.",
+      "Wibble.", "Pzat!", "P'tang!", "Frink!", "Slack!", "Praise \"Bob\"!",
+      "Or kill me.", "Grudnuk demand sustenance!", "Keep the Lasagna flying!",
+      "You are what you see.", "Or is it?", "This statement is false.",
+      "Lies and slander, sire!", "Hee hee hee!"
+  };
+  private static final String[] ORDINAL_SUFFIXES = {"th", "st", "nd", "rd"};
+
+  private static final String[] DAY_NAMES = new String[DiscordianChronology.DAYS_PER_WEEK];
+  private static final String[] SEASON_NAMES = new String[DiscordianChronology.SEASONS_PER_YEAR];
+  /**
+   * Indexed by {@link DiscordianHolyday#ordinal()}.
+   */
+  private static final String[] HOLYDAY_NAMES = new String[DiscordianHolyday.values().length];
+
+  static {
+    for (int i = 0; i < DAY_NAMES.length; i++) {
+      DAY_NAMES[i] = DiscordianChronology.INSTANCE.getDayName(i + 1);
+    }
+    for (int i = 0; i < SEASON_NAMES.length; i++) {
+      SEASON_NAMES[i] = DiscordianChronology.INSTANCE.getSeasonName(i + 1);
+    }
+    for (DiscordianHolyday holyday : DiscordianHolyday.values()) {
+      HOLYDAY_NAMES[holyday.ordinal()] = holyday.getDisplayName();
+    }
+  }
+
+  private static final byte[][] DAY_NAME_BYTES = encode(DAY_NAMES);
+  private static final byte[][] DAY_ABBREVIATION_BYTES = encode(DAY_ABBREVIATIONS);
+  private static final byte[][] SEASON_NAME_BYTES = encode(SEASON_NAMES);
+  private static final byte[][] SEASON_ABBREVIATION_BYTES = encode(SEASON_ABBREVIATIONS);
+  private static final byte[][] HOLYDAY_NAME_BYTES = encode(HOLYDAY_NAMES);
+  private static final byte[][] SALUTATION_BYTES = encode(SALUTATIONS);
+  private static final byte[][] ORDINAL_SUFFIX_BYTES = encode(ORDINAL_SUFFIXES);
+
+  // these must be declared after the encoded names they depend on
+  /**
+   * The format used by {@link DiscordianDate#toString()}.
+   */
+  public static final DiscordianFormatter DEFAULT = ofPattern("%{%A, %B %d,%} %Y YOLD").withStTibsText("St. Tib's Day!");
+
+  /**
+   * The format output by _ddate_ when run with no arguments.
+   */
+  public static final DiscordianFormatter DDATE = ofPattern("Today is %{%A, the %e day of %B%} in the YOLD %Y%N%nCelebrate %H");
+
+  private static final int OP_LITERAL = 0;
+  private static final int OP_DAY_NAME = 1;
+  private static final int OP_DAY_ABBREVIATION = 2;
+  private static final int OP_SEASON_NAME = 3;
+  private static final int OP_SEASON_ABBREVIATION = 4;
+  private static final int OP_DAY_OF_SEASON = 5;
+  private static final int OP_DAY_OF_SEASON_ORDINAL = 6;
+  private static final int OP_HOLYDAY = 7;
+  private static final int OP_HOLYDAY_ONLY = 8;
+  private static final int OP_YEAR = 9;
+  private static final int OP_SALUTATION = 10;
+  private static final int OP_ST_TIBS_START = 11;
+  private static final int OP_ST_TIBS_END = 12;
+
+  /**
+   * The longest text a year can produce, i.e. `-2147483648`.
+   */
+  private static final int MAX_YEAR_LENGTH = 11;
+
+  private final String pattern;
+  /**
+   * Pairs of opcode and argument. The argument of {@link #OP_LITERAL} is an
+   * index into the literal arrays and the argument of
+   * {@link #OP_ST_TIBS_START} is the index of the matching end instruction.
+   */
+  private final int[] program;
+  private final String[] literals;
+  private final byte[][] literalBytes;
+  private final String stTibsText;
+  private final byte[] stTibsBytes;
+  private final int maxLength;
+
+  /**
+   * Compiles a _ddate_ style format pattern.
+   *
+   * @param pattern the pattern, see the class documentation for the supported
+   *                directives.
+   * @return a formatter, never null.
+   * @throws IllegalArgumentException if the pattern is invalid.
+   */
+  public static DiscordianFormatter ofPattern(String pattern) {
+    List<String> literals = new ArrayList<>();
+    int[] program = new int[16];
+    int length = 0;
+    int stTibsStart = -1;
+    StringBuilder literal = new StringBuilder();
+    for (int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      if (c != '%') {
+        literal.append(c);
+        continue;
+      }
+      if (++i == pattern.length()) {
+        throw new IllegalArgumentException("Incomplete directive at end of pattern: " + pattern);
+      }
+      char directive = pattern.charAt(i);
+      if (directive == '%') {
+        literal.append('%');
+        continue;
+      } else if (directive == 'n') {
+        literal.append('\n');
+        continue;
+      } else if (directive == 't') {
+        literal.append('\t');
+        continue;
+      }
+      int op = opcodeOf(directive);
+      if (op < 0) {
+        throw new IllegalArgumentException(String.format("Unknown directive %%%s at index %d in pattern: %s", directive, i - 1, pattern));
+      }
+      if (program.length < length + 4) {
+        program = Arrays.copyOf(program, program.length * 2);
+      }
+      if (literal.length() > 0) {
+        program[length++] = OP_LITERAL;
+        program[length++] = literals.size();
+        literals.add(literal.toString());
+        literal.setLength(0);
+      }
+      int arg = 0;
+      if (op == OP_ST_TIBS_START) {
+        if (stTibsStart >= 0) {
+          throw new IllegalArgumentException("Nested %{ at index " + (i - 1) + " in pattern: " + pattern);
+        }
+        stTibsStart = length;
+      } else if (op == OP_ST_TIBS_END) {
+        if (stTibsStart < 0) {
+          throw new IllegalArgumentException("Unmatched %} at index " + (i - 1) + " in pattern: " + pattern);
+        }
+        program[stTibsStart + 1] = length;
+        stTibsStart = -1;
+      }
+      program[length++] = op;
+      program[length++] = arg;
+    }
+    if (stTibsStart >= 0) {
+      throw new IllegalArgumentException("Unmatched %{ in pattern: " + pattern);
+    }
+    if (literal.length() > 0) {
+      program = Arrays.copyOf(program, length + 2);
+      program[length++] = OP_LITERAL;
+      program[length++] = literals.size();
+      literals.add(literal.toString());
+    }
+    return new DiscordianFormatter(pattern, Arrays.copyOf(program, length), literals.toArray(new String[literals.size()]), ST_TIBS_DAY_TEXT);
+  }
+
+  private static int opcodeOf(char directive) {
+    switch (directive) {
+      case 'A':
+        return OP_DAY_NAME;
+      case 'a':
+        return OP_DAY_ABBREVIATION;
+      case 'B':
+        return OP_SEASON_NAME;
+      case 'b':
+        return OP_SEASON_ABBREVIATION;
+      case 'd':
+        return OP_DAY_OF_SEASON;
+      case 'e':
+        return OP_DAY_OF_SEASON_ORDINAL;
+      case 'H':
+        return OP_HOLYDAY;
+      case 'N':
+        return OP_HOLYDAY_ONLY;
+      case 'Y':
+        return OP_YEAR;
+      case '.':
+        return OP_SALUTATION;
+      case '{':
+        return OP_ST_TIBS_START;
+      case '}':
+        return OP_ST_TIBS_END;
+      default:
+        return -1;
+    }
+  }
+
+  private DiscordianFormatter(String pattern, int[] program, String[] literals, String stTibsText) {
+    this.pattern = pattern;
+    this.program = program;
+    this.literals = literals;
+    this.literalBytes = encode(literals);
+    this.stTibsText = stTibsText;
+    this.stTibsBytes = stTibsText.getBytes(StandardCharsets.UTF_8);
+    this.maxLength = calculateMaxLength();
+  }
+
+  /**
+   * Returns a copy of this formatter that substitutes `text` rather than
+   * _St. Tib's Day_ for the section enclosed in `%{` and `%}` on the leap day.
+   */
+  public DiscordianFormatter withStTibsText(String text) {
+    return new DiscordianFormatter(pattern, program, literals, text);
+  }
+
+  /**
+   * @return the maximum number of bytes (and therefore characters) this
+   * formatter can output for any date. Use this to size buffers passed to
+   * {@link #formatTo(DiscordianDate, byte[], int)}.
+   */
+  public int maxLength() {
+    return maxLength;
+  }
+
+  public String format(DiscordianDate date) {
+    return formatTo(date, new StringBuilder(48)).toString();
+  }
+
+  public StringBuilder formatTo(DiscordianDate date, StringBuilder buffer) {
+    try {
+      formatTo(date, (Appendable) buffer);
+    } catch (IOException e) {
+      // StringBuilder does not throw IOException
+      throw new UncheckedIOException(e);
+    }
+    return buffer;
+  }
+
+  /**
+   * Formats `date` into `buffer` at its current position.
+   *
+   * @throws java.nio.BufferOverflowException if there is insufficient space
+   *                                          remaining in `buffer`.
+   */
+  public CharBuffer formatTo(DiscordianDate date, CharBuffer buffer) {
+    try {
+      formatTo(date, (Appendable) buffer);
+    } catch (IOException e) {
+      // CharBuffer does not throw IOException
+      throw new UncheckedIOException(e);
+    }
+    return buffer;
+  }
+
+  public void formatTo(DiscordianDate date, Appendable out) throws IOException {
+    DiscordianMetrics.recordFormat();
+    boolean leapDay = date.getSeason() == 0;
+    for (int pc = 0; pc < program.length; pc += 2) {
+      switch (program[pc]) {
+        case OP_LITERAL:
+          out.append(literals[program[pc + 1]]);
+          break;
+        case OP_DAY_NAME:
+          if (!leapDay) {
+            out.append(DAY_NAMES[date.getDayOfWeek() - 1]);
+          }
+          break;
+        case OP_DAY_ABBREVIATION:
+          if (!leapDay) {
+            out.append(DAY_ABBREVIATIONS[date.getDayOfWeek() - 1]);
+          }
+          break;
+        case OP_SEASON_NAME:
+          if (!leapDay) {
+            out.append(SEASON_NAMES[date.getSeason() - 1]);
+          }
+          break;
+        case OP_SEASON_ABBREVIATION:
+          if (!leapDay) {
+            out.append(SEASON_ABBREVIATIONS[date.getSeason() - 1]);
+          }
+          break;
+        case OP_DAY_OF_SEASON:
+          if (!leapDay) {
+            appendInt(out, date.getDayOfSeason());
+          }
+          break;
+        case OP_DAY_OF_SEASON_ORDINAL:
+          if (!leapDay) {
+            appendInt(out, date.getDayOfSeason());
+            out.append(ORDINAL_SUFFIXES[ordinalSuffix(date.getDayOfSeason())]);
+          }
+          break;
+        case OP_HOLYDAY:
+          DiscordianHolyday holyday = holydayOf(date);
+          if (holyday != null) {
+            out.append(HOLYDAY_NAMES[holyday.ordinal()]);
+          }
+          break;
+        case OP_HOLYDAY_ONLY:
+          if (holydayOf(date) == null) {
+            return;
+          }
+          break;
+        case OP_YEAR:
+          appendInt(out, date.getYear());
+          break;
+        case OP_SALUTATION:
+          out.append(SALUTATIONS[salutation(date)]);
+          break;
+        case OP_ST_TIBS_START:
+          if (leapDay) {
+            out.append(stTibsText);
+            pc = program[pc + 1];
+          }
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
+  /**
+   * Formats `date` into `buffer` starting at `offset` using UTF-8 encoding.
+   *
+   * @return the offset in `buffer` following the last byte written.
+   * @throws IndexOutOfBoundsException if there is insufficient space in
+   *                                   `buffer`, see {@link #maxLength()}.
+   */
+  public int formatTo(DiscordianDate date, byte[] buffer, int offset) {
+    DiscordianMetrics.recordFormat();
+    boolean leapDay = date.getSeason() == 0;
+    int position = offset;
+    for (int pc = 0; pc < program.length; pc += 2) {
+      switch (program[pc]) {
+        case OP_LITERAL:
+          position = put(literalBytes[program[pc + 1]], buffer, position);
+          break;
+        case OP_DAY_NAME:
+          if (!leapDay) {
+            position = put(DAY_NAME_BYTES[date.getDayOfWeek() - 1], buffer, position);
+          }
+          break;
+        case OP_DAY_ABBREVIATION:
+          if (!leapDay) {
+            position = put(DAY_ABBREVIATION_BYTES[date.getDayOfWeek() - 1], buffer, position);
+          }
+          break;
+        case OP_SEASON_NAME:
+          if (!leapDay) {
+            position = put(SEASON_NAME_BYTES[date.getSeason() - 1], buffer, position);
+          }
+          break;
+        case OP_SEASON_ABBREVIATION:
+          if (!leapDay) {
+            position = put(SEASON_ABBREVIATION_BYTES[date.getSeason() - 1], buffer, position);
+          }
+          break;
+        case OP_DAY_OF_SEASON:
+          if (!leapDay) {
+            position = putInt(date.getDayOfSeason(), buffer, position);
+          }
+          break;
+        case OP_DAY_OF_SEASON_ORDINAL:
+          if (!leapDay) {
+            position = putInt(date.getDayOfSeason(), buffer, position);
+            position = put(ORDINAL_SUFFIX_BYTES[ordinalSuffix(date.getDayOfSeason())], buffer, position);
+          }
+          break;
+        case OP_HOLYDAY:
+          DiscordianHolyday holyday = holydayOf(date);
+          if (holyday != null) {
+            position = put(HOLYDAY_NAME_BYTES[holyday.ordinal()], buffer, position);
+          }
+          break;
+        case OP_HOLYDAY_ONLY:
+          if (holydayOf(date) == null) {
+            return position;
+          }
+          break;
+        case OP_YEAR:
+          position = putInt(date.getYear(), buffer, position);
+          break;
+        case OP_SALUTATION:
+          position = put(SALUTATION_BYTES[salutation(date)], buffer, position);
+          break;
+        case OP_ST_TIBS_START:
+          if (leapDay) {
+            position = put(stTibsBytes, buffer, position);
+            pc = program[pc + 1];
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    return position;
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+
+  private int calculateMaxLength() {
+    int length = 0;
+    for (int pc = 0; pc < program.length; pc += 2) {
+      switch (program[pc]) {
+        case OP_LITERAL:
+          length += literalBytes[program[pc + 1]].length;
+          break;
+        case OP_DAY_NAME:
+          length += maxLength(DAY_NAME_BYTES);
+          break;
+        case OP_DAY_ABBREVIATION:
+          length += maxLength(DAY_ABBREVIATION_BYTES);
+          break;
+        case OP_SEASON_NAME:
+          length += maxLength(SEASON_NAME_BYTES);
+          break;
+        case OP_SEASON_ABBREVIATION:
+          length += maxLength(SEASON_ABBREVIATION_BYTES);
+          break;
+        case OP_DAY_OF_SEASON:
+          length += 2;
+          break;
+        case OP_DAY_OF_SEASON_ORDINAL:
+          length += 2 + maxLength(ORDINAL_SUFFIX_BYTES);
+          break;
+        case OP_HOLYDAY:
+          length += maxLength(HOLYDAY_NAME_BYTES);
+          break;
+        case OP_YEAR:
+          length += MAX_YEAR_LENGTH;
+          break;
+        case OP_SALUTATION:
+          length += maxLength(SALUTATION_BYTES);
+          break;
+        case OP_ST_TIBS_START:
+          // the leap day text replaces everything up to the end of the section
+          length += stTibsBytes.length;
+          break;
+        default:
+          break;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Like _ddate_ the `%H` and `%N` directives only recognize the apostle and
+   * season holydays as _St. Tib's Day_ is handled by `%{` and `%}`.
+   */
+  private static DiscordianHolyday holydayOf(DiscordianDate date) {
+    DiscordianHolyday holyday = DiscordianHolyday.of(date);
+    return holyday == DiscordianHolyday.ST_TIBS_DAY ? null : holyday;
+  }
+
+  private static int salutation(DiscordianDate date) {
+    return (int) Math.floorMod(date.toEpochDay(), (long) SALUTATIONS.length);
+  }
+
+  /**
+   * @return the index into {@link #ORDINAL_SUFFIXES} for `n`.
+   */
+  private static int ordinalSuffix(int n) {
+    int tens = n % 100;
+    int units = n % 10;
+    if ((tens >= 11 && tens <= 13) || units > 3) {
+      return 0;
+    }
+    return units;
+  }
+
+  private static void appendInt(Appendable out, int value) throws IOException {
+    long n = value;
+    if (n < 0) {
+      out.append('-');
+      n = -n;
+    }
+    long divisor = 1;
+    while (divisor * 10 <= n) {
+      divisor *= 10;
+    }
+    for (; divisor > 0; divisor /= 10) {
+      out.append((char) ('0' + (n / divisor) % 10));
+    }
+  }
+
+  private static int putInt(int value, byte[] buffer, int offset) {
+    int position = offset;
+    long n = value;
+    if (n < 0) {
+      buffer[position++] = '-';
+      n = -n;
+    }
+    long divisor = 1;
+    while (divisor * 10 <= n) {
+      divisor *= 10;
+    }
+    for (; divisor > 0; divisor /= 10) {
+      buffer[position++] = (byte) ('0' + (n / divisor) % 10);
+    }
+    return position;
+  }
+
+  private static int put(byte[] bytes, byte[] buffer, int offset) {
+    System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+    return offset + bytes.length;
+  }
+
+  private static int maxLength(byte[][] values) {
+    int max = 0;
+    for (byte[] value : values) {
+      max = Math.max(max, value.length);
+    }
+    return max;
+  }
+
+  private static byte[][] encode(String[] values) {
+    byte[][] encoded = new byte[values.length][];
+    for (int i = 0; i < values.length; i++) {
+      encoded[i] = values[i].getBytes(StandardCharsets.UTF_8);
+    }
+    return encoded;
+  }
+}
@@ -0,0 +1,216 @@
+package co.freeside.time.chrono;
+
+import java.time.DateTimeException;
+
+/**
+ * The holydays of the Discordian calendar.
+ *
+ * Each season has two holydays; an apostle holyday on the 5th day of the
+ * season and a season holyday on the 50th. _St. Tib's Day_ is also a holyday
+ * in leap years. The constants are declared in the order they occur within a
+ * year.
+ *
+ * Holydays are found using tables indexed by the position of a day within the
+ * year so looking up the holyday on, after or before any date is a constant
+ * time operation.
+ *
+ * @author Rob Fletcher
+ */
+public enum DiscordianHolyday {
+
+  MUNGDAY("Mungday", 1, 5),
+  CHAOFLUX("Chaoflux", 1, 50),
+  ST_TIBS_DAY("St. Tib's Day", 0, 0),
+  MOJODAY("Mojoday", 2, 5),
+  DISCOFLUX("Discoflux", 2, 50),
+  SYADAY("Syaday", 3, 5),
+  CONFUFLUX("Confuflux", 3, 50),
+  ZARADAY("Zaraday", 4, 5),
+  BUREFLUX("Bureflux", 4, 50),
+  MALADAY("Maladay", 5, 5),
+  AFFLUX("Afflux", 5, 50);
+
+  private static final DiscordianHolyday[] VALUES = values();
+
+  /**
+   * The maximum value of {@link DiscordianChronology#daySlot(int)}.
+   */
+  private static final int MAX_SLOT = DiscordianChronology.SEASONS_PER_YEAR * DiscordianChronology.DAYS_PER_SEASON * 2;
+
+  /**
+   * Indexed by day slot. The holyday on that day, the index of the first
+   * holyday after it (or `VALUES.length` if there is none later in the year)
+   * and the index of the last holyday before it (or `-1`).
+   */
+  private static final DiscordianHolyday[] ON = new DiscordianHolyday[MAX_SLOT + 1];
+  private static final byte[] NEXT = new byte[MAX_SLOT + 1];
+  private static final byte[] PREVIOUS = new byte[MAX_SLOT + 1];
+
+  static {
+    int next = 0;
+    for (int slot = 0; slot <= MAX_SLOT; slot++) {
+      if (next < VALUES.length && VALUES[next].slot == slot) {
+        ON[slot] = VALUES[next];
+        PREVIOUS[slot] = (byte) (next - 1);
+        next++;
+      } else {
+        PREVIOUS[slot] = (byte) (next - 1);
+      }
+      NEXT[slot] = (byte) next;
+    }
+  }
+
+  private final String displayName;
+  private final int season;
+  private final int dayOfSeason;
+  private final int slot;
+
+  DiscordianHolyday(String displayName, int season, int dayOfSeason) {
+    this.displayName = displayName;
+    this.season = season;
+    this.dayOfSeason = dayOfSeason;
+    this.slot = slotOf(season, dayOfSeason);
+  }
+
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  /**
+   * @return the season of this holyday or `0` for _St. Tib's Day_.
+   */
+  public int getSeason() {
+    return season;
+  }
+
+  /**
+   * @return the day-of-season of this holyday or `0` for _St. Tib's Day_.
+   */
+  public int getDayOfSeason() {
+    return dayOfSeason;
+  }
+
+  /**
+   * @return this holyday in `year`.
+   * @throws DateTimeException if this is _St. Tib's Day_ and `year` is not a
+   *                           leap year.
+   */
+  public DiscordianDate dateIn(int year) {
+    if (this == ST_TIBS_DAY) {
+      if (!DiscordianYearTable.isLeapYear(year)) {
+        throw new DateTimeException("Invalid date 'St. Tib's Day' as '" + year + "' is not a leap year");
+      }
+      return DiscordianDate.ofLeapDay(year);
+    }
+    return DiscordianDate.of(year, season, dayOfSeason);
+  }
+
+  /**
+   * @return the holyday on `date` or `null` if it is not a holyday.
+   */
+  public static DiscordianHolyday of(DiscordianDate date) {
+    return ON[slotOf(date.getSeason(), date.getDayOfSeason())];
+  }
+
+  /**
+   * Obtains a holyday from its display name, for example `Mungday` or
+   * `St. Tib's Day`.
+   *
+   * @throws IllegalArgumentException if `name` is not the name of a holyday.
+   */
+  public static DiscordianHolyday ofName(String name) {
+    for (DiscordianHolyday holyday : VALUES) {
+      if (holyday.displayName.equals(name)) {
+        return holyday;
+      }
+    }
+    throw new IllegalArgumentException("No holyday named " + name);
+  }
+
+  /**
+   * @return the epoch day of the first holyday strictly after the day in
+   * `year` with the day slot `slot`.
+   */
+  static long nextEpochDay(int year, int slot) {
+    boolean leapYear = DiscordianYearTable.isLeapYear(year);
+    int index = NEXT[slot];
+    if (index == ST_TIBS_DAY.ordinal() && !leapYear) {
+      index++;
+    }
+    if (index == VALUES.length) {
+      return VALUES[0].epochDayIn(year + 1);
+    }
+    return VALUES[index].epochDayIn(year, leapYear);
+  }
+
+  /**
+   * @return the epoch day of the last holyday strictly before the day in
+   * `year` with the day slot `slot`.
+   */
+  static long previousEpochDay(int year, int slot) {
+    boolean leapYear = DiscordianYearTable.isLeapYear(year);
+    int index = PREVIOUS[slot];
+    if (index == ST_TIBS_DAY.ordinal() && !leapYear) {
+      index--;
+    }
+    if (index < 0) {
+      return VALUES[VALUES.length - 1].epochDayIn(year - 1);
+    }
+    return VALUES[index].epochDayIn(year, leapYear);
+  }
+
+  /**
+   * @return the epoch day of the first occurrence of this holyday strictly
+   * after the day in `year` with the day slot `slot`.
+   */
+  long nextOccurrenceEpochDay(int year, int slot) {
+    long nextYear = this.slot > slot ? year : (long) year + 1;
+    if (this == ST_TIBS_DAY) {
+      // leap years are never more than 8 years apart
+      while (!DiscordianYearTable.isLeapYear(nextYear)) {
+        nextYear++;
+      }
+    }
+    return epochDayIn(nextYear);
+  }
+
+  /**
+   * @return the epoch day of the last occurrence of this holyday strictly
+   * before the day in `year` with the day slot `slot`.
+   */
+  long previousOccurrenceEpochDay(int year, int slot) {
+    long previousYear = this.slot < slot ? year : (long) year - 1;
+    if (this == ST_TIBS_DAY) {
+      while (!DiscordianYearTable.isLeapYear(previousYear)) {
+        previousYear--;
+      }
+    }
+    return epochDayIn(previousYear);
+  }
+
+  private long epochDayIn(long year) {
+    return epochDayIn(year, DiscordianYearTable.isLeapYear(year));
+  }
+
+  private long epochDayIn(long year, boolean leapYear) {
+    int dayOfYear;
+    if (this == ST_TIBS_DAY) {
+      dayOfYear = DiscordianDate.ST_TIBS_DAY;
+    } else {
+      dayOfYear = ((season - 1) * DiscordianChronology.DAYS_PER_SEASON) + dayOfSeason;
+      if (leapYear && dayOfYear >= DiscordianDate.ST_TIBS_DAY) {
+        dayOfYear++;
+      }
+    }
+    return DiscordianYearTable.yearStartEpochDay(year) + dayOfYear - 1;
+  }
+
+  /**
+   * @return the day slot of a day with `season` and `dayOfSeason` where both
+   * are `0` for _St. Tib's Day_.
+   */
+  static int slotOf(int season, int dayOfSeason) {
+    int leapAdjustedDayOfYear = season == 0 ? 0 : ((season - 1) * DiscordianChronology.DAYS_PER_SEASON) + dayOfSeason;
+    return DiscordianChronology.daySlot(leapAdjustedDayOfYear);
+  }
+}
@@ -0,0 +1,97 @@
+package co.freeside.time.chrono;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.ZoneId;
+import java.util.logging.Formatter;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@link java.util.logging.Formatter} that prefixes each log record with a
+ * Discordian timestamp rendered by a {@link DiscordianTimestampRenderer}.
+ *
+ * Records are formatted as:
+ *
+ * ----
+ * Sweetmorn, Chaos 1, 3179 YOLD 09:30:00.000 INFO com.example.Logger: message
+ * ----
+ *
+ * followed by the stack trace of the record's exception, if any. Each thread
+ * formats into its own reusable buffer so formatting a record allocates little
+ * beyond the resulting string.
+ *
+ * When created by the `LogManager` the zone used for timestamps can be set with
+ * the `co.freeside.time.chrono.DiscordianLogFormatter.zone` property. The
+ * system default zone is used otherwise.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianLogFormatter extends Formatter {
+
+  static final String ZONE_PROPERTY = DiscordianLogFormatter.class.getName() + ".zone";
+
+  /**
+   * Buffers that grow beyond this size formatting a large record are not
+   * retained for the next record.
+   */
+  private static final int MAX_RETAINED_BUFFER = 1 << 13;
+
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private final DiscordianTimestampRenderer renderer;
+  private final ThreadLocal<StringBuilder> buffers = new ThreadLocal<StringBuilder>() {
+    @Override
+    protected StringBuilder initialValue() {
+      return new StringBuilder(256);
+    }
+  };
+
+  public DiscordianLogFormatter() {
+    this(DiscordianTimestampRenderer.of(configuredZone()));
+  }
+
+  public DiscordianLogFormatter(DiscordianTimestampRenderer renderer) {
+    this.renderer = renderer;
+  }
+
+  private static ZoneId configuredZone() {
+    String zone = LogManager.getLogManager().getProperty(ZONE_PROPERTY);
+    return zone == null || zone.trim().isEmpty() ? ZoneId.systemDefault() : ZoneId.of(zone.trim());
+  }
+
+  @Override
+  public String format(LogRecord record) {
+    StringBuilder buffer = buffers.get();
+    buffer.setLength(0);
+    renderer.formatTo(record.getMillis(), buffer);
+    buffer.append(' ').append(record.getLevel().getName()).append(' ');
+    if (record.getLoggerName() != null) {
+      buffer.append(record.getLoggerName()).append(": ");
+    }
+    buffer.append(formatMessage(record)).append(LINE_SEPARATOR);
+    if (record.getThrown() != null) {
+      StringWriter stackTrace = new StringWriter();
+      record.getThrown().printStackTrace(new PrintWriter(stackTrace));
+      buffer.append(stackTrace);
+    }
+    String result = buffer.toString();
+    if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+      buffers.remove();
+    }
+    return result;
+  }
+
+  /**
+   * Avoids the synchronized {@link Formatter#formatMessage(LogRecord)} when
+   * the message has no parameters and does not need to be localized.
+   */
+  @Override
+  public String formatMessage(LogRecord record) {
+    Object[] parameters = record.getParameters();
+    if (record.getResourceBundle() == null && (parameters == null || parameters.length == 0)) {
+      return record.getMessage();
+    }
+    return super.formatMessage(record);
+  }
+}
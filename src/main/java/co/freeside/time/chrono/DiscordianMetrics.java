@@ -0,0 +1,311 @@
+package co.freeside.time.chrono;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Optional counters for how the Discordian calendar is used: how many dates
+ * are created by each factory method, how many of them are _St. Tib's Day_,
+ * how many values fail validation and how many dates are formatted.
+ *
+ * Metrics are disabled unless the system property {@value #ENABLED_PROPERTY}
+ * is `true` when this class is loaded. The flag is a `static final` field so
+ * when metrics are disabled the JIT compiler removes the checks entirely and
+ * recording costs nothing. When enabled each counter is a {@link LongAdder}
+ * so concurrent threads creating dates do not contend on a single value.
+ *
+ * Counters can be read with {@link #snapshot()} or, when metrics are enabled,
+ * through the MXBean registered with the platform MBean server as
+ * {@value #OBJECT_NAME}.
+ *
+ * Dates are counted once for the public factory method that was called so
+ * {@link DiscordianChronology#date(java.time.temporal.TemporalAccessor)} is
+ * not also counted as {@link DiscordianDate#ofEpochDay(long)}. Dates created
+ * by arithmetic on an existing date are counted as
+ * {@link DiscordianDate#ofEpochDay(long)}.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianMetrics {
+
+  public static final String ENABLED_PROPERTY = "co.freeside.time.chrono.metrics";
+  public static final String OBJECT_NAME = "co.freeside.time.chrono:type=DiscordianMetrics";
+
+  static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  private static final LongAdder OF = new LongAdder();
+  private static final LongAdder OF_LEAP_DAY = new LongAdder();
+  private static final LongAdder OF_EPOCH_DAY = new LongAdder();
+  private static final LongAdder FROM_TEMPORAL = new LongAdder();
+  private static final LongAdder ST_TIBS_DAYS = new LongAdder();
+  private static final LongAdder VALIDATION_FAILURES = new LongAdder();
+  private static final LongAdder FORMAT_CALLS = new LongAdder();
+
+  static {
+    if (ENABLED) {
+      try {
+        registerMBean();
+      } catch (RuntimeException e) {
+        // counters are still available from snapshot()
+      }
+    }
+  }
+
+  private DiscordianMetrics() {
+  }
+
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  /**
+   * @return the current value of every counter. Counters that are updated
+   * while the snapshot is taken may or may not be included.
+   */
+  public static Snapshot snapshot() {
+    return new Snapshot(
+        OF.sum(),
+        OF_LEAP_DAY.sum(),
+        OF_EPOCH_DAY.sum(),
+        FROM_TEMPORAL.sum(),
+        ST_TIBS_DAYS.sum(),
+        VALIDATION_FAILURES.sum(),
+        FORMAT_CALLS.sum()
+    );
+  }
+
+  /**
+   * Sets every counter back to zero.
+   */
+  public static void reset() {
+    OF.reset();
+    OF_LEAP_DAY.reset();
+    OF_EPOCH_DAY.reset();
+    FROM_TEMPORAL.reset();
+    ST_TIBS_DAYS.reset();
+    VALIDATION_FAILURES.reset();
+    FORMAT_CALLS.reset();
+  }
+
+  /**
+   * Registers the metrics MXBean with the platform MBean server if it is not
+   * already registered. This happens automatically when metrics are enabled.
+   *
+   * @throws IllegalStateException if the MXBean cannot be registered.
+   */
+  public static void registerMBean() {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      server.registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+    } catch (InstanceAlreadyExistsException e) {
+      // already registered
+    } catch (JMException e) {
+      throw new IllegalStateException("Unable to register " + OBJECT_NAME, e);
+    }
+  }
+
+  public static void unregisterMBean() {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      server.unregisterMBean(new ObjectName(OBJECT_NAME));
+    } catch (InstanceNotFoundException e) {
+      // not registered
+    } catch (JMException e) {
+      throw new IllegalStateException("Unable to unregister " + OBJECT_NAME, e);
+    }
+  }
+
+  static void recordOf(DiscordianDate date) {
+    if (ENABLED) {
+      OF.increment();
+      recordStTibsDay(date);
+    }
+  }
+
+  static void recordOfLeapDay(DiscordianDate date) {
+    if (ENABLED) {
+      OF_LEAP_DAY.increment();
+      recordStTibsDay(date);
+    }
+  }
+
+  static void recordOfEpochDay(DiscordianDate date) {
+    if (ENABLED) {
+      OF_EPOCH_DAY.increment();
+      recordStTibsDay(date);
+    }
+  }
+
+  static void recordFromTemporal(DiscordianDate date) {
+    if (ENABLED) {
+      FROM_TEMPORAL.increment();
+      recordStTibsDay(date);
+    }
+  }
+
+  static void recordValidationFailure() {
+    if (ENABLED) {
+      VALIDATION_FAILURES.increment();
+    }
+  }
+
+  static void recordFormat() {
+    if (ENABLED) {
+      FORMAT_CALLS.increment();
+    }
+  }
+
+  private static void recordStTibsDay(DiscordianDate date) {
+    if (date.getSeason() == 0) {
+      ST_TIBS_DAYS.increment();
+    }
+  }
+
+  /**
+   * The values of the metrics counters at a point in time.
+   */
+  public static final class Snapshot {
+
+    private final long datesCreatedByOf;
+    private final long datesCreatedByOfLeapDay;
+    private final long datesCreatedByOfEpochDay;
+    private final long datesCreatedFromTemporal;
+    private final long stTibsDays;
+    private final long validationFailures;
+    private final long formatCalls;
+
+    private Snapshot(long datesCreatedByOf, long datesCreatedByOfLeapDay, long datesCreatedByOfEpochDay, long datesCreatedFromTemporal, long stTibsDays, long validationFailures, long formatCalls) {
+      this.datesCreatedByOf = datesCreatedByOf;
+      this.datesCreatedByOfLeapDay = datesCreatedByOfLeapDay;
+      this.datesCreatedByOfEpochDay = datesCreatedByOfEpochDay;
+      this.datesCreatedFromTemporal = datesCreatedFromTemporal;
+      this.stTibsDays = stTibsDays;
+      this.validationFailures = validationFailures;
+      this.formatCalls = formatCalls;
+    }
+
+    /**
+     * @return dates created by {@link DiscordianDate#of(int, int, int)} or
+     * {@link DiscordianDate#of(int, int)}.
+     */
+    public long getDatesCreatedByOf() {
+      return datesCreatedByOf;
+    }
+
+    public long getDatesCreatedByOfLeapDay() {
+      return datesCreatedByOfLeapDay;
+    }
+
+    public long getDatesCreatedByOfEpochDay() {
+      return datesCreatedByOfEpochDay;
+    }
+
+    /**
+     * @return dates created by
+     * {@link DiscordianChronology#date(java.time.temporal.TemporalAccessor)}.
+     */
+    public long getDatesCreatedFromTemporal() {
+      return datesCreatedFromTemporal;
+    }
+
+    /**
+     * @return dates created by any factory method.
+     */
+    public long getDatesCreated() {
+      return datesCreatedByOf + datesCreatedByOfLeapDay + datesCreatedByOfEpochDay + datesCreatedFromTemporal;
+    }
+
+    /**
+     * @return dates created by any factory method that are _St. Tib's Day_.
+     */
+    public long getStTibsDays() {
+      return stTibsDays;
+    }
+
+    /**
+     * @return season, day-of-season or day-of-week values rejected by the
+     * `checkValid` methods of {@link DiscordianChronology}.
+     */
+    public long getValidationFailures() {
+      return validationFailures;
+    }
+
+    /**
+     * @return dates formatted by any {@link DiscordianFormatter}.
+     */
+    public long getFormatCalls() {
+      return formatCalls;
+    }
+
+    @Override
+    public String toString() {
+      return "DiscordianMetrics{"
+          + "of=" + datesCreatedByOf
+          + ", ofLeapDay=" + datesCreatedByOfLeapDay
+          + ", ofEpochDay=" + datesCreatedByOfEpochDay
+          + ", fromTemporal=" + datesCreatedFromTemporal
+          + ", stTibsDays=" + stTibsDays
+          + ", validationFailures=" + validationFailures
+          + ", formatCalls=" + formatCalls
+          + '}';
+    }
+  }
+
+  private static final class MXBean implements DiscordianMetricsMXBean {
+
+    @Override
+    public boolean isEnabled() {
+      return ENABLED;
+    }
+
+    @Override
+    public long getDatesCreatedByOf() {
+      return OF.sum();
+    }
+
+    @Override
+    public long getDatesCreatedByOfLeapDay() {
+      return OF_LEAP_DAY.sum();
+    }
+
+    @Override
+    public long getDatesCreatedByOfEpochDay() {
+      return OF_EPOCH_DAY.sum();
+    }
+
+    @Override
+    public long getDatesCreatedFromTemporal() {
+      return FROM_TEMPORAL.sum();
+    }
+
+    @Override
+    public long getDatesCreated() {
+      return snapshot().getDatesCreated();
+    }
+
+    @Override
+    public long getStTibsDays() {
+      return ST_TIBS_DAYS.sum();
+    }
+
+    @Override
+    public long getValidationFailures() {
+      return VALIDATION_FAILURES.sum();
+    }
+
+    @Override
+    public long getFormatCalls() {
+      return FORMAT_CALLS.sum();
+    }
+
+    @Override
+    public void reset() {
+      DiscordianMetrics.reset();
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package co.freeside.time.chrono;
+
+/**
+ * The JMX view of {@link DiscordianMetrics}, registered as
+ * {@value DiscordianMetrics#OBJECT_NAME}.
+ *
+ * @author Rob Fletcher
+ */
+public interface DiscordianMetricsMXBean {
+
+  boolean isEnabled();
+
+  long getDatesCreatedByOf();
+
+  long getDatesCreatedByOfLeapDay();
+
+  long getDatesCreatedByOfEpochDay();
+
+  long getDatesCreatedFromTemporal();
+
+  long getDatesCreated();
+
+  long getStTibsDays();
+
+  long getValidationFailures();
+
+  long getFormatCalls();
+
+  void reset();
+}
@@ -0,0 +1,265 @@
+package co.freeside.time.chrono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+
+/**
+ * Parses text in the format output by {@link DiscordianDate#toString()}, for
+ * example `Sweetmorn, Chaos 1, 3180 YOLD` or `St. Tib's Day! 3178 YOLD`.
+ *
+ * Parsing works directly on a region of a {@link CharSequence} or a US-ASCII
+ * / UTF-8 encoded `byte[]` and does not allocate. Failure is reported by
+ * returning {@link #INVALID} (or `null` from the methods that return a date)
+ * rather than by throwing an exception. Only {@link #parse(CharSequence)}
+ * throws, for convenience when input is expected to be valid.
+ *
+ * Season and day names are matched with a perfect hash of their first
+ * character and length followed by a single comparison against the expected
+ * name.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianParser {
+
+  /**
+   * The value returned by the `parseEpochDay` methods if the text is not a
+   * valid date, the same as {@link DiscordianDate#INVALID_EPOCH_DAY}.
+   */
+  public static final long INVALID = DiscordianDate.INVALID_EPOCH_DAY;
+
+  private static final String ST_TIBS_DAY_PREFIX = "St. Tib's Day! ";
+  private static final String ERA_SUFFIX = " YOLD";
+
+  /**
+   * The maximum number of digits in a year, enough for any year supported by
+   * {@link java.time.LocalDate}.
+   */
+  private static final int MAX_YEAR_DIGITS = 10;
+
+  private static final int HASH_MASK = 15;
+
+  /**
+   * Names indexed by {@link #hash(int, int)} with the corresponding day or
+   * season number from 1 to 5 in the parallel `int[]`.
+   */
+  private static final byte[][] DAY_NAMES = new byte[HASH_MASK + 1][];
+  private static final int[] DAY_VALUES = new int[HASH_MASK + 1];
+  private static final byte[][] SEASON_NAMES = new byte[HASH_MASK + 1][];
+  private static final int[] SEASON_VALUES = new int[HASH_MASK + 1];
+
+  static {
+    for (int i = 1; i <= DiscordianChronology.DAYS_PER_WEEK; i++) {
+      index(DiscordianChronology.INSTANCE.getDayName(i), i, DAY_NAMES, DAY_VALUES);
+    }
+    for (int i = 1; i <= DiscordianChronology.SEASONS_PER_YEAR; i++) {
+      index(DiscordianChronology.INSTANCE.getSeasonName(i), i, SEASON_NAMES, SEASON_VALUES);
+    }
+  }
+
+  private DiscordianParser() {
+  }
+
+  /**
+   * Parses `text` throwing an exception if it is not a valid date.
+   *
+   * @throws DateTimeParseException if `text` is not a valid date.
+   */
+  public static DiscordianDate parse(CharSequence text) {
+    long epochDay = parseEpochDay(text, 0, text.length());
+    if (epochDay == INVALID) {
+      throw new DateTimeParseException("Text '" + text + "' is not a valid Discordian date", text, 0);
+    }
+    return DiscordianDate.ofEpochDay(epochDay);
+  }
+
+  /**
+   * @return the date represented by `text` between `start` (inclusive) and
+   * `end` (exclusive) or `null` if it is not a valid date.
+   */
+  public static DiscordianDate parse(CharSequence text, int start, int end) {
+    long epochDay = parseEpochDay(text, start, end);
+    return epochDay == INVALID ? null : DiscordianDate.ofEpochDay(epochDay);
+  }
+
+  /**
+   * @return the date represented by `bytes` between `start` (inclusive) and
+   * `end` (exclusive) or `null` if it is not a valid date.
+   */
+  public static DiscordianDate parse(byte[] bytes, int start, int end) {
+    long epochDay = parseEpochDay(bytes, start, end);
+    return epochDay == INVALID ? null : DiscordianDate.ofEpochDay(epochDay);
+  }
+
+  /**
+   * @return the epoch day of the date represented by `text` between `start`
+   * (inclusive) and `end` (exclusive) or {@link #INVALID} if it is not a valid
+   * date.
+   */
+  public static long parseEpochDay(CharSequence text, int start, int end) {
+    return parseEpochDay(text, null, start, end);
+  }
+
+  /**
+   * @return the epoch day of the date represented by `bytes` between `start`
+   * (inclusive) and `end` (exclusive) or {@link #INVALID} if it is not a valid
+   * date.
+   */
+  public static long parseEpochDay(byte[] bytes, int start, int end) {
+    return parseEpochDay(null, bytes, start, end);
+  }
+
+  /**
+   * Reads from whichever of `text` or `bytes` is not null.
+   */
+  private static long parseEpochDay(CharSequence text, byte[] bytes, int start, int end) {
+    if (start < 0 || end < start || end > (text != null ? text.length() : bytes.length)) {
+      return INVALID;
+    }
+    if (matches(text, bytes, start, end, ST_TIBS_DAY_PREFIX)) {
+      long year = parseYear(text, bytes, start + ST_TIBS_DAY_PREFIX.length(), end);
+      if (year == INVALID) {
+        return INVALID;
+      }
+      return DiscordianYearTable.stTibsDayEpochDay(year);
+    }
+
+    // day name up to the first comma
+    int position = start;
+    while (position < end && charAt(text, bytes, position) != ',') {
+      position++;
+    }
+    int dayOfWeek = lookup(text, bytes, start, position, DAY_NAMES, DAY_VALUES);
+    if (dayOfWeek == 0 || position + 2 >= end || charAt(text, bytes, position + 1) != ' ') {
+      return INVALID;
+    }
+
+    // season name up to the first digit, which must be preceded by a space
+    int seasonStart = position + 2;
+    position = seasonStart;
+    while (position < end && !isDigit(charAt(text, bytes, position))) {
+      position++;
+    }
+    if (position == end || charAt(text, bytes, position - 1) != ' ') {
+      return INVALID;
+    }
+    int season = lookup(text, bytes, seasonStart, position - 1, SEASON_NAMES, SEASON_VALUES);
+    if (season == 0) {
+      return INVALID;
+    }
+
+    // day of season up to the next comma
+    int dayOfSeason = 0;
+    for (int digits = 0; position < end && isDigit(charAt(text, bytes, position)); digits++, position++) {
+      if (digits == 2) {
+        return INVALID;
+      }
+      dayOfSeason = dayOfSeason * 10 + (charAt(text, bytes, position) - '0');
+    }
+    if (dayOfSeason < 1 || dayOfSeason > DiscordianChronology.DAYS_PER_SEASON
+        || position + 2 >= end || charAt(text, bytes, position) != ',' || charAt(text, bytes, position + 1) != ' ') {
+      return INVALID;
+    }
+    int leapAdjustedDayOfYear = (season - 1) * DiscordianChronology.DAYS_PER_SEASON + dayOfSeason;
+    if ((leapAdjustedDayOfYear - 1) % DiscordianChronology.DAYS_PER_WEEK + 1 != dayOfWeek) {
+      return INVALID;
+    }
+
+    long year = parseYear(text, bytes, position + 2, end);
+    if (year == INVALID) {
+      return INVALID;
+    }
+    int dayOfYear = leapAdjustedDayOfYear;
+    if (dayOfYear >= DiscordianDate.ST_TIBS_DAY && DiscordianYearTable.isLeapYear(year)) {
+      dayOfYear++;
+    }
+    return DiscordianYearTable.yearStartEpochDay(year) + dayOfYear - 1;
+  }
+
+  /**
+   * Parses a Discordian year followed by the era suffix that must end at
+   * `end`.
+   *
+   * @return the year or {@link #INVALID}.
+   */
+  private static long parseYear(CharSequence text, byte[] bytes, int start, int end) {
+    int yearEnd = end - ERA_SUFFIX.length();
+    if (yearEnd <= start || !matches(text, bytes, yearEnd, end, ERA_SUFFIX)) {
+      return INVALID;
+    }
+    int position = start;
+    boolean negative = charAt(text, bytes, position) == '-';
+    if (negative) {
+      position++;
+    }
+    if (position == yearEnd || yearEnd - position > MAX_YEAR_DIGITS) {
+      return INVALID;
+    }
+    long year = 0;
+    for (; position < yearEnd; position++) {
+      char c = charAt(text, bytes, position);
+      if (!isDigit(c)) {
+        return INVALID;
+      }
+      year = year * 10 + (c - '0');
+    }
+    if (negative) {
+      year = -year;
+    }
+    return ChronoField.YEAR.range().isValidValue(year - DiscordianChronology.ISO_YEAR_OFFSET) ? year : INVALID;
+  }
+
+  /**
+   * @return the value of the name between `start` and `end` or `0` if it is
+   * not one of the names in `names`.
+   */
+  private static int lookup(CharSequence text, byte[] bytes, int start, int end, byte[][] names, int[] values) {
+    if (end <= start) {
+      return 0;
+    }
+    int slot = hash(charAt(text, bytes, start), end - start);
+    byte[] name = names[slot];
+    if (name == null || name.length != end - start) {
+      return 0;
+    }
+    for (int i = 0; i < name.length; i++) {
+      if (charAt(text, bytes, start + i) != name[i]) {
+        return 0;
+      }
+    }
+    return values[slot];
+  }
+
+  private static boolean matches(CharSequence text, byte[] bytes, int start, int end, String expected) {
+    if (end - start < expected.length()) {
+      return false;
+    }
+    for (int i = 0; i < expected.length(); i++) {
+      if (charAt(text, bytes, start + i) != expected.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static char charAt(CharSequence text, byte[] bytes, int index) {
+    return text != null ? text.charAt(index) : (char) (bytes[index] & 0xff);
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static int hash(int firstChar, int length) {
+    return (firstChar + length) & HASH_MASK;
+  }
+
+  private static void index(String name, int value, byte[][] names, int[] values) {
+    int slot = hash(name.charAt(0), name.length());
+    if (names[slot] != null) {
+      throw new IllegalStateException("Hash collision for " + name);
+    }
+    names[slot] = name.getBytes(StandardCharsets.US_ASCII);
+    values[slot] = value;
+  }
+}
@@ -0,0 +1,368 @@
+package co.freeside.time.chrono;
+
+import java.time.DateTimeException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjuster;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A rule for a recurring Discordian date such as "every Setting Orange",
+ * "day 23 of every season", "every 5th Boomtime" or "every St. Tib's Day".
+ *
+ * Every Discordian year has 365 days other than _St. Tib's Day_ and both the
+ * 5 day week and the 73 day season divide it exactly. Numbering those days
+ * consecutively from _Chaos 1, 0 YOLD_ and skipping _St. Tib's Day_ each rule
+ * other than {@link #everyStTibsDay()} is simply every day whose number has a
+ * fixed remainder when divided by the rule's period. The next occurrence of a
+ * rule is found with modular arithmetic on that number rather than by
+ * stepping through days and {@link #occurrencesBetween(DiscordianDate,
+ * DiscordianDate)} is a sized, evenly splitting stream that creates dates only
+ * as they are consumed.
+ *
+ * Instances are immutable and safe to share. A rule is also a
+ * {@link TemporalAdjuster} that moves to the next occurrence after the date
+ * being adjusted, so it works with {@link java.time.LocalDate} as well as
+ * {@link DiscordianDate}.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianRecurrence implements TemporalAdjuster {
+
+  private static final int DAYS_PER_YEAR = DiscordianChronology.SEASONS_PER_YEAR * DiscordianChronology.DAYS_PER_SEASON;
+
+  /**
+   * The day number of the day after _St. Tib's Day_ relative to the start of
+   * the year.
+   */
+  private static final int AFTER_ST_TIBS_DAY = DiscordianDate.ST_TIBS_DAY - 1;
+
+  private static final DiscordianRecurrence ST_TIBS_DAY = new DiscordianRecurrence(0, 0, "every St. Tib's Day");
+
+  /**
+   * The number of days between occurrences excluding _St. Tib's Day_ or `0`
+   * for {@link #ST_TIBS_DAY}.
+   */
+  private final long period;
+  private final long remainder;
+  private final String description;
+
+  private DiscordianRecurrence(long period, long remainder, String description) {
+    this.period = period;
+    this.remainder = remainder;
+    this.description = description;
+  }
+
+  /**
+   * @param dayOfWeek the day of the week from 1 (_Sweetmorn_) to 5 (_Setting
+   *                  Orange_).
+   * @return a rule for every occurrence of `dayOfWeek`.
+   * @throws DateTimeException if `dayOfWeek` is invalid.
+   */
+  public static DiscordianRecurrence everyDayOfWeek(int dayOfWeek) {
+    DiscordianChronology.INSTANCE.checkDayOfWeekNumber(dayOfWeek);
+    return new DiscordianRecurrence(DiscordianChronology.DAYS_PER_WEEK, dayOfWeek - 1, "every " + DiscordianChronology.INSTANCE.getDayName(dayOfWeek));
+  }
+
+  /**
+   * @return a rule for `dayOfSeason` in every season.
+   * @throws DateTimeException if `dayOfSeason` is invalid.
+   */
+  public static DiscordianRecurrence everyDayOfSeason(int dayOfSeason) {
+    DiscordianChronology.INSTANCE.checkDayOfSeasonNumber(dayOfSeason);
+    return new DiscordianRecurrence(DiscordianChronology.DAYS_PER_SEASON, dayOfSeason - 1, "day " + dayOfSeason + " of every season");
+  }
+
+  /**
+   * @return a rule for `dayOfSeason` of `season` in every year.
+   * @throws DateTimeException if `season` or `dayOfSeason` is invalid.
+   */
+  public static DiscordianRecurrence everyYearOn(int season, int dayOfSeason) {
+    DiscordianChronology.INSTANCE.checkSeasonNumber(season);
+    DiscordianChronology.INSTANCE.checkDayOfSeasonNumber(dayOfSeason);
+    return new DiscordianRecurrence(DAYS_PER_YEAR, ((season - 1) * DiscordianChronology.DAYS_PER_SEASON) + dayOfSeason - 1, "every " + DiscordianChronology.INSTANCE.getSeasonName(season) + " " + dayOfSeason);
+  }
+
+  /**
+   * @return a rule for _St. Tib's Day_ in every leap year.
+   */
+  public static DiscordianRecurrence everyStTibsDay() {
+    return ST_TIBS_DAY;
+  }
+
+  /**
+   * @return a rule for every occurrence of `holyday`.
+   */
+  public static DiscordianRecurrence every(DiscordianHolyday holyday) {
+    if (holyday == DiscordianHolyday.ST_TIBS_DAY) {
+      return ST_TIBS_DAY;
+    }
+    return everyYearOn(holyday.getSeason(), holyday.getDayOfSeason());
+  }
+
+  /**
+   * Returns a rule for every `interval`th occurrence of this rule counting
+   * from the first occurrence on or after `start`. For example
+   * `everyDayOfWeek(2).withInterval(5, start)` is every 5th _Boomtime_.
+   *
+   * @throws DateTimeException if `interval` is not positive or this is the
+   *                           rule for _St. Tib's Day_, which does not recur
+   *                           at a fixed interval.
+   */
+  public DiscordianRecurrence withInterval(int interval, DiscordianDate start) {
+    if (period == 0) {
+      throw new DateTimeException("St. Tib's Day does not recur at a fixed interval");
+    }
+    if (interval < 1) {
+      throw new DateTimeException("Interval must be positive but was " + interval);
+    }
+    if (interval == 1) {
+      return this;
+    }
+    long newPeriod = Math.multiplyExact(period, interval);
+    long first = firstDayNumberOnOrAfter(dayNumberOnOrAfter(start.toEpochDay()));
+    return new DiscordianRecurrence(newPeriod, Math.floorMod(first, newPeriod), description + " by " + interval + " from " + start);
+  }
+
+  /**
+   * @return `true` if `date` is an occurrence of this rule.
+   */
+  public boolean matches(DiscordianDate date) {
+    if (period == 0) {
+      return date.getSeason() == 0;
+    }
+    if (date.getSeason() == 0) {
+      return false;
+    }
+    return Math.floorMod(dayNumberOnOrAfter(date.toEpochDay()), period) == remainder;
+  }
+
+  /**
+   * @return the first occurrence of this rule after `date`.
+   * @throws DateTimeException if the occurrence is beyond the supported range.
+   */
+  public DiscordianDate nextAfter(DiscordianDate date) {
+    return DiscordianDate.ofEpochDay(nextEpochDayAfter(date.toEpochDay()));
+  }
+
+  /**
+   * The equivalent of {@link #nextAfter(DiscordianDate)} that works with
+   * epoch days and does not create any objects.
+   *
+   * @return the epoch day of the first occurrence of this rule after
+   * `epochDay`.
+   */
+  public long nextEpochDayAfter(long epochDay) {
+    if (period == 0) {
+      return nextStTibsDayAfter(epochDay);
+    }
+    return epochDayOf(firstDayNumberOnOrAfter(dayNumberOnOrAfter(epochDay + 1)));
+  }
+
+  /**
+   * @return the occurrences of this rule from `start` (inclusive) to `end`
+   * (exclusive) in order.
+   */
+  public Stream<DiscordianDate> occurrencesBetween(DiscordianDate start, DiscordianDate end) {
+    return epochDaysBetween(start.toEpochDay(), end.toEpochDay()).mapToObj(new LongFunction<DiscordianDate>() {
+      @Override
+      public DiscordianDate apply(long epochDay) {
+        return DiscordianDate.ofEpochDay(epochDay);
+      }
+    });
+  }
+
+  /**
+   * The equivalent of {@link #occurrencesBetween(DiscordianDate,
+   * DiscordianDate)} that produces epoch days.
+   */
+  public LongStream epochDaysBetween(final long startEpochDay, final long endEpochDay) {
+    if (endEpochDay <= startEpochDay) {
+      return LongStream.empty();
+    }
+    if (period == 0) {
+      return stTibsDaysBetween(startEpochDay, endEpochDay);
+    }
+    long first = firstDayNumberOnOrAfter(dayNumberOnOrAfter(startEpochDay));
+    long fence = dayNumberOnOrAfter(endEpochDay);
+    long size = first < fence ? ((fence - 1 - first) / period) + 1 : 0;
+    return StreamSupport.longStream(new OccurrenceSpliterator(first, period, 0, size), false);
+  }
+
+  /**
+   * Moves `temporal` to the first occurrence of this rule after it.
+   */
+  @Override
+  public Temporal adjustInto(Temporal temporal) {
+    return temporal.with(ChronoField.EPOCH_DAY, nextEpochDayAfter(temporal.getLong(ChronoField.EPOCH_DAY)));
+  }
+
+  /**
+   * @return the first day number on or after `dayNumber` with the remainder
+   * of this rule.
+   */
+  private long firstDayNumberOnOrAfter(long dayNumber) {
+    return dayNumber + Math.floorMod(remainder - dayNumber, period);
+  }
+
+  /**
+   * @return the number of the first day on or after `epochDay` counting from
+   * _Chaos 1, 0 YOLD_ and skipping _St. Tib's Day_.
+   */
+  private static long dayNumberOnOrAfter(long epochDay) {
+    long isoYearDay = DiscordianYearTable.isoYearDayOfEpochDay(epochDay);
+    long year = (long) DiscordianChronology.unpackIsoYear(isoYearDay) + DiscordianChronology.ISO_YEAR_OFFSET;
+    int dayOfYear = DiscordianChronology.unpackDayOfYear(isoYearDay);
+    int adjusted = DiscordianChronology.leapAdjustedDayOfYear(dayOfYear, DiscordianYearTable.isLeapYear(year));
+    // St. Tib's Day has the number of the day after it
+    int index = adjusted == 0 ? AFTER_ST_TIBS_DAY : adjusted - 1;
+    return (year * DAYS_PER_YEAR) + index;
+  }
+
+  /**
+   * The inverse of {@link #dayNumberOnOrAfter(long)}.
+   */
+  private static long epochDayOf(long dayNumber) {
+    long year = Math.floorDiv(dayNumber, DAYS_PER_YEAR);
+    int index = (int) Math.floorMod(dayNumber, DAYS_PER_YEAR);
+    long epochDay = DiscordianYearTable.yearStartEpochDay(year) + index;
+    if (index >= AFTER_ST_TIBS_DAY && DiscordianYearTable.isLeapYear(year)) {
+      epochDay++;
+    }
+    return epochDay;
+  }
+
+  private static long yearOf(long epochDay) {
+    return DiscordianChronology.unpackIsoYear(DiscordianYearTable.isoYearDayOfEpochDay(epochDay)) + (long) DiscordianChronology.ISO_YEAR_OFFSET;
+  }
+
+  /**
+   * Leap years are at most 8 years apart so this checks no more than 9
+   * years.
+   */
+  private static long nextStTibsDayAfter(long epochDay) {
+    long year = yearOf(epochDay);
+    long stTibsDay = DiscordianYearTable.stTibsDayEpochDay(year);
+    while (stTibsDay == DiscordianDate.INVALID_EPOCH_DAY || stTibsDay <= epochDay) {
+      stTibsDay = DiscordianYearTable.stTibsDayEpochDay(++year);
+    }
+    return stTibsDay;
+  }
+
+  private static LongStream stTibsDaysBetween(final long startEpochDay, final long endEpochDay) {
+    return LongStream.rangeClosed(yearOf(startEpochDay), yearOf(endEpochDay - 1))
+        .filter(new LongPredicate() {
+          @Override
+          public boolean test(long year) {
+            return DiscordianYearTable.isLeapYear(year);
+          }
+        })
+        .map(new LongUnaryOperator() {
+          @Override
+          public long applyAsLong(long year) {
+            return DiscordianYearTable.stTibsDayEpochDay(year);
+          }
+        })
+        .filter(new LongPredicate() {
+          @Override
+          public boolean test(long epochDay) {
+            return epochDay >= startEpochDay && epochDay < endEpochDay;
+          }
+        });
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof DiscordianRecurrence)) {
+      return false;
+    }
+    DiscordianRecurrence other = (DiscordianRecurrence) obj;
+    return period == other.period && remainder == other.remainder;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = (int) (period ^ (period >>> 32));
+    return 31 * result + (int) (remainder ^ (remainder >>> 32));
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+
+  /**
+   * Produces the epoch day of `origin + (i * step)` for `i` in the range
+   * `index` (inclusive) to `fence` (exclusive) where `origin` and `step` are
+   * day numbers. Splits in half by index.
+   */
+  private static final class OccurrenceSpliterator implements Spliterator.OfLong {
+    private final long origin;
+    private final long step;
+    private long index;
+    private final long fence;
+
+    OccurrenceSpliterator(long origin, long step, long index, long fence) {
+      this.origin = origin;
+      this.step = step;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (index < fence) {
+        action.accept(epochDayOf(origin + (index++ * step)));
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      long i = index;
+      index = fence;
+      for (; i < fence; i++) {
+        action.accept(epochDayOf(origin + (i * step)));
+      }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+      long middle = index + ((fence - index) >>> 1);
+      if (middle <= index) {
+        return null;
+      }
+      Spliterator.OfLong prefix = new OccurrenceSpliterator(origin, step, index, middle);
+      index = middle;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT | SORTED;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+      // natural ordering
+      return null;
+    }
+  }
+}
@@ -0,0 +1,261 @@
+package co.freeside.time.chrono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+
+/**
+ * Fixed width keys for {@link DiscordianDate} instances that sort in date
+ * order as unsigned bytes, as ASCII text or as `long` values.
+ *
+ * The string form of a date is not sortable because _St. Tib's Day_ has no
+ * season or day-of-season. A key is {@link #KEY_LENGTH} big endian bytes:
+ *
+ * . the Discordian year as an `int` with the sign bit flipped so negative years
+ * sort first.
+ * . the season.
+ * . twice the day-of-season.
+ *
+ * _St. Tib's Day_ has a season of `1` and a day of `119` so that it sorts
+ * between _Chaos 59_ and _Chaos 60_. As a `long` a key occupies the low 48
+ * bits and is never negative. The ASCII form is the key in
+ * {@link #ASCII_KEY_LENGTH} upper case hexadecimal digits.
+ *
+ * Keys and epoch days can also be sorted in place with a radix sort that
+ * does not box values or go through a `Comparator`.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianSortKey {
+
+  public static final int KEY_LENGTH = 6;
+  public static final int ASCII_KEY_LENGTH = KEY_LENGTH * 2;
+
+  private static final int ST_TIBS_DAY_SEASON = 1;
+  private static final int ST_TIBS_DAY_SLOT = (DiscordianDate.ST_TIBS_DAY * 2) - 1;
+  private static final long KEY_MASK = (1L << (KEY_LENGTH * 8)) - 1;
+
+  /**
+   * Ranges shorter than this are sorted with {@link Arrays#sort(long[])}
+   * rather than by radix.
+   */
+  private static final int RADIX_THRESHOLD = 256;
+
+  private static final byte[] HEX_DIGITS = {
+      '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+  };
+
+  private DiscordianSortKey() {
+  }
+
+  public static long of(DiscordianDate date) {
+    if (date.getSeason() == 0) {
+      return pack(date.getYear(), ST_TIBS_DAY_SEASON, ST_TIBS_DAY_SLOT);
+    }
+    return pack(date.getYear(), date.getSeason(), date.getDayOfSeason() * 2);
+  }
+
+  /**
+   * @return the key of the date with `epochDay` without creating the date.
+   * @throws DateTimeException if `epochDay` is out of range.
+   */
+  public static long ofEpochDay(long epochDay) {
+    ChronoField.EPOCH_DAY.checkValidValue(epochDay);
+    long isoYearDay = DiscordianYearTable.isoYearDayOfEpochDay(epochDay);
+    int year = DiscordianChronology.unpackIsoYear(isoYearDay) + DiscordianChronology.ISO_YEAR_OFFSET;
+    int adjusted = DiscordianChronology.leapAdjustedDayOfYear(DiscordianChronology.unpackDayOfYear(isoYearDay), DiscordianYearTable.isLeapYear(year));
+    if (adjusted == 0) {
+      return pack(year, ST_TIBS_DAY_SEASON, ST_TIBS_DAY_SLOT);
+    }
+    return pack(year, DiscordianChronology.seasonOf(adjusted), DiscordianChronology.dayOfSeasonOf(adjusted) * 2);
+  }
+
+  /**
+   * @return the epoch day of the date with `key`.
+   * @throws DateTimeException if `key` is not a valid key.
+   */
+  public static long toEpochDay(long key) {
+    if ((key & ~KEY_MASK) != 0) {
+      throw invalidKey(key);
+    }
+    long year = (int) (key >>> 16) ^ Integer.MIN_VALUE;
+    int season = (int) (key >>> 8) & 0xff;
+    int slot = (int) key & 0xff;
+    if (!DiscordianChronology.YEAR_RANGE.isValidValue(year)) {
+      throw invalidKey(key);
+    }
+    boolean leapYear = DiscordianYearTable.isLeapYear(year);
+    int dayOfYear;
+    if (season == ST_TIBS_DAY_SEASON && slot == ST_TIBS_DAY_SLOT && leapYear) {
+      dayOfYear = DiscordianDate.ST_TIBS_DAY;
+    } else if (season >= 1 && season <= DiscordianChronology.SEASONS_PER_YEAR && (slot & 1) == 0 && slot >= 2 && slot <= DiscordianChronology.DAYS_PER_SEASON * 2) {
+      dayOfYear = ((season - 1) * DiscordianChronology.DAYS_PER_SEASON) + (slot / 2);
+      if (leapYear && dayOfYear >= DiscordianDate.ST_TIBS_DAY) {
+        dayOfYear++;
+      }
+    } else {
+      throw invalidKey(key);
+    }
+    return DiscordianYearTable.yearStartEpochDay(year) + dayOfYear - 1;
+  }
+
+  /**
+   * @return the date with `key`.
+   * @throws DateTimeException if `key` is not a valid key.
+   */
+  public static DiscordianDate toDate(long key) {
+    return DiscordianDate.ofEpochDay(toEpochDay(key));
+  }
+
+  /**
+   * Writes the {@link #KEY_LENGTH} bytes of `key` at the current position of
+   * `buffer`.
+   */
+  public static void put(ByteBuffer buffer, long key) {
+    buffer.putShort((short) (key >>> 32)).putInt((int) key);
+  }
+
+  /**
+   * Reads a key written by {@link #put(ByteBuffer, long)}. The key is not
+   * validated until it is converted to a date.
+   */
+  public static long get(ByteBuffer buffer) {
+    return ((buffer.getShort() & 0xffffL) << 32) | (buffer.getInt() & 0xffffffffL);
+  }
+
+  public static byte[] toBytes(long key) {
+    byte[] bytes = new byte[KEY_LENGTH];
+    for (int i = KEY_LENGTH - 1; i >= 0; i--) {
+      bytes[i] = (byte) key;
+      key >>>= 8;
+    }
+    return bytes;
+  }
+
+  public static long fromBytes(byte[] bytes, int offset) {
+    long key = 0;
+    for (int i = offset; i < offset + KEY_LENGTH; i++) {
+      key = (key << 8) | (bytes[i] & 0xff);
+    }
+    return key;
+  }
+
+  /**
+   * Writes the {@link #ASCII_KEY_LENGTH} hexadecimal digits of `key` to
+   * `out` starting at `offset`.
+   */
+  public static void putAscii(byte[] out, int offset, long key) {
+    for (int i = offset + ASCII_KEY_LENGTH - 1; i >= offset; i--) {
+      out[i] = HEX_DIGITS[(int) key & 0xf];
+      key >>>= 4;
+    }
+  }
+
+  public static String toAscii(long key) {
+    byte[] bytes = new byte[ASCII_KEY_LENGTH];
+    putAscii(bytes, 0, key);
+    return new String(bytes, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Parses a key written by {@link #toAscii(long)}. The key is not validated
+   * until it is converted to a date.
+   *
+   * @throws DateTimeException if `text` is not {@link #ASCII_KEY_LENGTH}
+   *                           hexadecimal digits.
+   */
+  public static long parseAscii(CharSequence text) {
+    if (text.length() != ASCII_KEY_LENGTH) {
+      throw new DateTimeException("Sort key '" + text + "' should be " + ASCII_KEY_LENGTH + " hexadecimal digits");
+    }
+    long key = 0;
+    for (int i = 0; i < ASCII_KEY_LENGTH; i++) {
+      int digit = Character.digit(text.charAt(i), 16);
+      if (digit < 0) {
+        throw new DateTimeException("Sort key '" + text + "' should be " + ASCII_KEY_LENGTH + " hexadecimal digits");
+      }
+      key = (key << 4) | digit;
+    }
+    return key;
+  }
+
+  /**
+   * Sorts the keys in `keys` from `from` (inclusive) to `to` (exclusive).
+   */
+  public static void sort(long[] keys, int from, int to) {
+    radixSort(keys, from, to, 0L, KEY_LENGTH);
+  }
+
+  /**
+   * Sorts the epoch days in `epochDays` from `from` (inclusive) to `to`
+   * (exclusive). As keys are in date order this is the same order as sorting
+   * the equivalent keys.
+   */
+  public static void sortEpochDays(long[] epochDays, int from, int to) {
+    radixSort(epochDays, from, to, Long.MIN_VALUE, 8);
+  }
+
+  /**
+   * A least significant digit first radix sort on the low `digits` bytes of
+   * each value xor `flip`. All the byte counts are taken in a single pass and
+   * any byte that is the same in every value is skipped, so epoch days that
+   * span a few centuries take 3 passes rather than 8.
+   */
+  private static void radixSort(long[] values, int from, int to, long flip, int digits) {
+    if (from < 0 || to > values.length || from > to) {
+      throw new IndexOutOfBoundsException("Invalid range " + from + " to " + to + " of array of length " + values.length);
+    }
+    int length = to - from;
+    if (length < RADIX_THRESHOLD) {
+      Arrays.sort(values, from, to);
+      return;
+    }
+    int[][] counts = new int[digits][256];
+    for (int i = from; i < to; i++) {
+      long value = values[i] ^ flip;
+      for (int digit = 0; digit < digits; digit++) {
+        counts[digit][(int) (value >>> (digit * 8)) & 0xff]++;
+      }
+    }
+    long[] source = values;
+    int sourceOffset = from;
+    long[] target = new long[length];
+    int targetOffset = 0;
+    for (int digit = 0; digit < digits; digit++) {
+      int[] count = counts[digit];
+      int shift = digit * 8;
+      if (count[(int) ((source[sourceOffset] ^ flip) >>> shift) & 0xff] == length) {
+        continue;
+      }
+      int position = targetOffset;
+      for (int b = 0; b < 256; b++) {
+        int n = count[b];
+        count[b] = position;
+        position += n;
+      }
+      for (int i = sourceOffset; i < sourceOffset + length; i++) {
+        long value = source[i];
+        target[count[(int) ((value ^ flip) >>> shift) & 0xff]++] = value;
+      }
+      long[] swap = source;
+      source = target;
+      target = swap;
+      int swapOffset = sourceOffset;
+      sourceOffset = targetOffset;
+      targetOffset = swapOffset;
+    }
+    if (source != values) {
+      System.arraycopy(source, sourceOffset, values, from, length);
+    }
+  }
+
+  private static long pack(int year, int season, int slot) {
+    return ((long) (year ^ Integer.MIN_VALUE) & 0xffffffffL) << 16 | (season << 8) | slot;
+  }
+
+  private static DateTimeException invalidKey(long key) {
+    return new DateTimeException("Invalid sort key " + Long.toHexString(key));
+  }
+}
@@ -0,0 +1,134 @@
+package co.freeside.time.chrono;
+
+import java.time.ZoneId;
+
+/**
+ * Renders instants as a Discordian date followed by the time of day, e.g.
+ * _Sweetmorn, Chaos 1, 3179 YOLD 09:30:00.000_, for use in log output.
+ *
+ * The rendered date is memoized and only recalculated when an instant falls
+ * on a different day from the last one rendered so the cost of rendering a
+ * timestamp is little more than copying the text of the date and appending
+ * the time digits. This class is used by {@link DiscordianLogFormatter} and
+ * can be used to implement the equivalent for other logging frameworks, such
+ * as a _Logback_ converter or _Log4j_ pattern converter.
+ *
+ * Instances are thread safe.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianTimestampRenderer {
+
+  /**
+   * The length of the time appended after the date, ` HH:mm:ss.SSS`.
+   */
+  private static final int TIME_LENGTH = 13;
+
+  private final ZoneId zone;
+  private final DiscordianFormatter formatter;
+  private volatile DiscordianDay day;
+
+  public static DiscordianTimestampRenderer of(ZoneId zone) {
+    return of(zone, DiscordianFormatter.DEFAULT);
+  }
+
+  /**
+   * @return a renderer that uses `formatter` to render the date part of each
+   * timestamp.
+   */
+  public static DiscordianTimestampRenderer of(ZoneId zone, DiscordianFormatter formatter) {
+    return new DiscordianTimestampRenderer(zone, formatter);
+  }
+
+  public static DiscordianTimestampRenderer systemDefaultZone() {
+    return of(ZoneId.systemDefault());
+  }
+
+  private DiscordianTimestampRenderer(ZoneId zone, DiscordianFormatter formatter) {
+    this.zone = zone;
+    this.formatter = formatter;
+  }
+
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  /**
+   * @return the maximum number of bytes {@link #formatTo(long, byte[], int)}
+   * can write.
+   */
+  public int maxLength() {
+    return formatter.maxLength() + TIME_LENGTH;
+  }
+
+  /**
+   * Appends the timestamp of the instant `epochMilli` to `out`.
+   */
+  public StringBuilder formatTo(long epochMilli, StringBuilder out) {
+    out.append(dayOf(epochMilli).text).append(' ');
+    int millisOfDay = millisOfDay(epochMilli);
+    appendTwoDigits(out, millisOfDay / 3600000);
+    out.append(':');
+    appendTwoDigits(out, (millisOfDay / 60000) % 60);
+    out.append(':');
+    appendTwoDigits(out, (millisOfDay / 1000) % 60);
+    out.append('.');
+    int millis = millisOfDay % 1000;
+    out.append((char) ('0' + (millis / 100)));
+    appendTwoDigits(out, millis % 100);
+    return out;
+  }
+
+  /**
+   * Writes the timestamp of the instant `epochMilli` to `buffer` starting at
+   * `offset` using UTF-8 encoding.
+   *
+   * @return the offset in `buffer` following the last byte written.
+   * @throws IndexOutOfBoundsException if there is insufficient space in
+   *                                   `buffer`, see {@link #maxLength()}.
+   */
+  public int formatTo(long epochMilli, byte[] buffer, int offset) {
+    byte[] date = dayOf(epochMilli).bytes;
+    System.arraycopy(date, 0, buffer, offset, date.length);
+    int position = offset + date.length;
+    int millisOfDay = millisOfDay(epochMilli);
+    buffer[position++] = ' ';
+    position = putTwoDigits(buffer, position, millisOfDay / 3600000);
+    buffer[position++] = ':';
+    position = putTwoDigits(buffer, position, (millisOfDay / 60000) % 60);
+    buffer[position++] = ':';
+    position = putTwoDigits(buffer, position, (millisOfDay / 1000) % 60);
+    buffer[position++] = '.';
+    int millis = millisOfDay % 1000;
+    buffer[position++] = (byte) ('0' + (millis / 100));
+    return putTwoDigits(buffer, position, millis % 100);
+  }
+
+  public String format(long epochMilli) {
+    return formatTo(epochMilli, new StringBuilder(maxLength())).toString();
+  }
+
+  private DiscordianDay dayOf(long epochMilli) {
+    DiscordianDay current = day;
+    if (current == null || !current.contains(epochMilli)) {
+      current = DiscordianDay.at(epochMilli, zone, formatter);
+      day = current;
+    }
+    return current;
+  }
+
+  private int millisOfDay(long epochMilli) {
+    int offsetSeconds = DiscordianZoneOffsets.offsetAt(zone, Math.floorDiv(epochMilli, 1000L)).getTotalSeconds();
+    return (int) Math.floorMod(epochMilli + (offsetSeconds * 1000L), DiscordianDateTime.MILLIS_PER_DAY);
+  }
+
+  private static void appendTwoDigits(StringBuilder out, int value) {
+    out.append((char) ('0' + (value / 10))).append((char) ('0' + (value % 10)));
+  }
+
+  private static int putTwoDigits(byte[] buffer, int position, int value) {
+    buffer[position] = (byte) ('0' + (value / 10));
+    buffer[position + 1] = (byte) ('0' + (value % 10));
+    return position + 2;
+  }
+}
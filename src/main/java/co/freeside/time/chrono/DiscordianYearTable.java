@@ -0,0 +1,135 @@
+package co.freeside.time.chrono;
+
+/**
+ * A lookup table of per-year metadata, the leap year flag and epoch day of
+ * _Chaos 1_, for a window of Discordian years.
+ *
+ * The table is built the first time it is used. It covers YOLD 3066 to 3366
+ * (ISO 1900 to 2200) by default. The window can be changed with the system
+ * properties `co.freeside.time.chrono.yearTable.min` and
+ * `co.freeside.time.chrono.yearTable.max`, which must be set before the table
+ * is first used. If they give an empty window or one of more than
+ * {@link #MAX_WINDOW_YEARS} years the default window is used instead. Years
+ * outside the window fall back to calculating the values.
+ *
+ * @author Rob Fletcher
+ */
+final class DiscordianYearTable {
+
+  static final String MIN_YEAR_PROPERTY = "co.freeside.time.chrono.yearTable.min";
+  static final String MAX_YEAR_PROPERTY = "co.freeside.time.chrono.yearTable.max";
+
+  private static final int DEFAULT_MIN_YEAR = 3066;
+  private static final int DEFAULT_MAX_YEAR = 3366;
+
+  /**
+   * The largest window that can be set with the system properties.
+   */
+  static final int MAX_WINDOW_YEARS = 100000;
+
+  private final int minYear;
+  private final int maxYear;
+  /**
+   * The epoch day of Chaos 1 in each year from `minYear` to `maxYear + 1`.
+   * The extra entry marks the end of the last year.
+   */
+  private final long[] yearStarts;
+  private final boolean[] leapYears;
+
+  private static final class Holder {
+    static final DiscordianYearTable INSTANCE = create(
+        Integer.getInteger(MIN_YEAR_PROPERTY, DEFAULT_MIN_YEAR),
+        Integer.getInteger(MAX_YEAR_PROPERTY, DEFAULT_MAX_YEAR)
+    );
+
+    /**
+     * A bad window must not leave the table, and everything that uses it,
+     * unable to initialize so it falls back to the default window.
+     */
+    private static DiscordianYearTable create(int minYear, int maxYear) {
+      if (maxYear < minYear || (long) maxYear - minYear >= MAX_WINDOW_YEARS) {
+        return new DiscordianYearTable(DEFAULT_MIN_YEAR, DEFAULT_MAX_YEAR);
+      }
+      return new DiscordianYearTable(minYear, maxYear);
+    }
+  }
+
+  DiscordianYearTable(int minYear, int maxYear) {
+    if (maxYear < minYear) {
+      throw new IllegalArgumentException("Invalid year table window " + minYear + ".." + maxYear);
+    }
+    this.minYear = minYear;
+    this.maxYear = maxYear;
+    int size = maxYear - minYear + 1;
+    yearStarts = new long[size + 1];
+    leapYears = new boolean[size];
+    for (int i = 0; i <= size; i++) {
+      yearStarts[i] = DiscordianChronology.isoYearStartEpochDay((long) minYear + i - DiscordianChronology.ISO_YEAR_OFFSET);
+    }
+    for (int i = 0; i < size; i++) {
+      leapYears[i] = yearStarts[i + 1] - yearStarts[i] == 366;
+    }
+  }
+
+  static DiscordianYearTable getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * @return `true` if the Discordian `year` is a leap year.
+   */
+  static boolean isLeapYear(long year) {
+    DiscordianYearTable table = getInstance();
+    if (year >= table.minYear && year <= table.maxYear) {
+      return table.leapYears[(int) (year - table.minYear)];
+    }
+    return DiscordianChronology.isIsoLeapYear(year - DiscordianChronology.ISO_YEAR_OFFSET);
+  }
+
+  /**
+   * @return the epoch day of _Chaos 1_ in the Discordian `year`.
+   */
+  static long yearStartEpochDay(long year) {
+    DiscordianYearTable table = getInstance();
+    if (year >= table.minYear && year <= table.maxYear) {
+      return table.yearStarts[(int) (year - table.minYear)];
+    }
+    return DiscordianChronology.isoYearStartEpochDay(year - DiscordianChronology.ISO_YEAR_OFFSET);
+  }
+
+  /**
+   * @return the epoch day of _St. Tib's Day_ in the Discordian `year` or
+   * {@link DiscordianDate#INVALID_EPOCH_DAY} if `year` is not a leap year.
+   */
+  static long stTibsDayEpochDay(long year) {
+    if (!isLeapYear(year)) {
+      return DiscordianDate.INVALID_EPOCH_DAY;
+    }
+    return yearStartEpochDay(year) + DiscordianDate.ST_TIBS_DAY - 1;
+  }
+
+  /**
+   * The equivalent of {@link DiscordianChronology#isoYearDayOfEpochDay(long)}
+   * that uses the table if `epochDay` falls inside its window.
+   */
+  static long isoYearDayOfEpochDay(long epochDay) {
+    DiscordianYearTable table = getInstance();
+    long[] starts = table.yearStarts;
+    long first = starts[0];
+    if (epochDay < first || epochDay >= starts[starts.length - 1]) {
+      return DiscordianChronology.isoYearDayOfEpochDay(epochDay);
+    }
+    // estimate from the average year length then correct by at most a year
+    int i = (int) ((epochDay - first) * 400 / DiscordianChronology.DAYS_PER_CYCLE);
+    if (i >= table.leapYears.length) {
+      i = table.leapYears.length - 1;
+    }
+    if (starts[i] > epochDay) {
+      i--;
+    } else if (starts[i + 1] <= epochDay) {
+      i++;
+    }
+    long isoYear = (long) table.minYear + i - DiscordianChronology.ISO_YEAR_OFFSET;
+    return (isoYear << 9) | (epochDay - starts[i] + 1);
+  }
+}
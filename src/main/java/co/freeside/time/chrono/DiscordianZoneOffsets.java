@@ -0,0 +1,92 @@
+package co.freeside.time.chrono;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the offset of each time-zone for the interval between the transitions
+ * either side of the most recently converted instant.
+ *
+ * Looking up an offset in {@link ZoneRules} means a binary search of the
+ * zone's transitions or, for instants after the last transition, calculating
+ * the transitions for the year from the zone's rules. Instants converted in
+ * bulk are usually close together so this class remembers the interval that
+ * contains the last instant converted in each zone and only goes back to the
+ * rules when an instant falls outside it.
+ *
+ * @author Rob Fletcher
+ */
+final class DiscordianZoneOffsets {
+
+  private static final ConcurrentMap<ZoneId, Interval> INTERVALS = new ConcurrentHashMap<>();
+
+  private DiscordianZoneOffsets() {
+  }
+
+  /**
+   * @return the offset from UTC in `zone` at `epochSecond`.
+   * @throws java.time.DateTimeException if `epochSecond` is outside the range
+   *                                     of {@link Instant}.
+   */
+  static ZoneOffset offsetAt(ZoneId zone, long epochSecond) {
+    if (zone instanceof ZoneOffset) {
+      return (ZoneOffset) zone;
+    }
+    Interval interval = INTERVALS.get(zone);
+    if (interval == null || epochSecond < interval.start || epochSecond >= interval.end) {
+      interval = Interval.of(zone.getRules(), epochSecond);
+      INTERVALS.put(zone, interval);
+    }
+    return interval.offset;
+  }
+
+  /**
+   * A period of time from `start` (inclusive) to `end` (exclusive), both in
+   * epoch seconds, during which a zone has a single offset.
+   */
+  private static final class Interval {
+    final long start;
+    final long end;
+    final ZoneOffset offset;
+
+    private Interval(long start, long end, ZoneOffset offset) {
+      this.start = start;
+      this.end = end;
+      this.offset = offset;
+    }
+
+    static Interval of(ZoneRules rules, long epochSecond) {
+      Instant instant = Instant.ofEpochSecond(epochSecond);
+      if (rules.isFixedOffset()) {
+        return new Interval(Long.MIN_VALUE, Long.MAX_VALUE, rules.getOffset(instant));
+      }
+      ZoneOffsetTransition previous = previousTransitionAtOrBefore(rules, instant);
+      ZoneOffsetTransition next = rules.nextTransition(instant);
+      return new Interval(
+          previous == null ? Long.MIN_VALUE : previous.toEpochSecond(),
+          next == null ? Long.MAX_VALUE : next.toEpochSecond(),
+          rules.getOffset(instant)
+      );
+    }
+
+    /**
+     * The previous transition is the last one strictly before its argument so
+     * look one second later unless that is beyond the maximum instant.
+     */
+    private static ZoneOffsetTransition previousTransitionAtOrBefore(ZoneRules rules, Instant instant) {
+      if (instant.getEpochSecond() < Instant.MAX.getEpochSecond()) {
+        return rules.previousTransition(instant.plusSeconds(1));
+      }
+      ZoneOffsetTransition at = rules.nextTransition(instant.minusSeconds(1));
+      if (at != null && at.getInstant().equals(instant)) {
+        return at;
+      }
+      return rules.previousTransition(instant);
+    }
+  }
+}
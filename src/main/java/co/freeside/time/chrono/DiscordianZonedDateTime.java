@@ -0,0 +1,301 @@
+package co.freeside.time.chrono;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A date-time with a time-zone in the Discordian calendar system.
+ *
+ * This is the equivalent of {@link java.time.ZonedDateTime} for the Discordian
+ * calendar and follows the same rules for resolving local date-times that fall
+ * in a gap or overlap in the zone's offsets.
+ *
+ * Converting an instant with {@link #ofEpochMilli(long, ZoneId)},
+ * {@link #ofEpochSecond(long, int, ZoneId)} or {@link #ofInstant(Instant, ZoneId)}
+ * does not create any intermediate ISO objects. The zone's offset for the
+ * interval between the transitions either side of the instant is cached so
+ * converting a stream of instants that are close together only consults the
+ * zone's rules when the stream crosses a transition.
+ *
+ * @author Rob Fletcher
+ */
+public final class DiscordianZonedDateTime implements ChronoZonedDateTime<DiscordianDate>, Serializable {
+
+  private static final long serialVersionUID = 4315813574137621957L;
+
+  private final DiscordianDateTime dateTime;
+  private final ZoneOffset offset;
+  private final ZoneId zone;
+
+  /**
+   * @return `dateTime` in `zone`, resolved in the same way as
+   * {@link java.time.ZonedDateTime#of(LocalDateTime, ZoneId)}.
+   */
+  public static DiscordianZonedDateTime of(DiscordianDateTime dateTime, ZoneId zone) {
+    return ofLocal(dateTime, zone, null);
+  }
+
+  /**
+   * @return `dateTime` in `zone` using `preferredOffset` if the local
+   * date-time falls in an overlap and `preferredOffset` is one of the valid
+   * offsets.
+   */
+  public static DiscordianZonedDateTime ofLocal(DiscordianDateTime dateTime, ZoneId zone, ZoneOffset preferredOffset) {
+    Objects.requireNonNull(dateTime, "dateTime");
+    Objects.requireNonNull(zone, "zone");
+    if (zone instanceof ZoneOffset) {
+      return new DiscordianZonedDateTime(dateTime, (ZoneOffset) zone, zone);
+    }
+    ZoneRules rules = zone.getRules();
+    if (rules.isFixedOffset()) {
+      return new DiscordianZonedDateTime(dateTime, rules.getOffset(Instant.EPOCH), zone);
+    }
+    LocalDateTime isoDateTime = toIsoDateTime(dateTime);
+    List<ZoneOffset> validOffsets = rules.getValidOffsets(isoDateTime);
+    ZoneOffset offset;
+    if (validOffsets.size() == 1) {
+      offset = validOffsets.get(0);
+    } else if (validOffsets.isEmpty()) {
+      // a gap, move the date-time forward by the length of the gap
+      ZoneOffsetTransition transition = rules.getTransition(isoDateTime);
+      dateTime = dateTime.plusSeconds(transition.getDuration().getSeconds());
+      offset = transition.getOffsetAfter();
+    } else if (preferredOffset != null && validOffsets.contains(preferredOffset)) {
+      offset = preferredOffset;
+    } else {
+      offset = validOffsets.get(0);
+    }
+    return new DiscordianZonedDateTime(dateTime, offset, zone);
+  }
+
+  public static DiscordianZonedDateTime ofInstant(Instant instant, ZoneId zone) {
+    return ofEpochSecond(instant.getEpochSecond(), instant.getNano(), zone);
+  }
+
+  /**
+   * @return the date-time in `zone` of the instant `epochSecond` seconds and
+   * `nanoOfSecond` nanoseconds after the epoch.
+   * @throws DateTimeException if the result is out of range.
+   */
+  public static DiscordianZonedDateTime ofEpochSecond(long epochSecond, int nanoOfSecond, ZoneId zone) {
+    ZoneOffset offset = DiscordianZoneOffsets.offsetAt(zone, epochSecond);
+    return new DiscordianZonedDateTime(DiscordianDateTime.ofEpochSecond(epochSecond, nanoOfSecond, offset), offset, zone);
+  }
+
+  /**
+   * @return the date-time in `zone` of the instant `epochMilli` milliseconds
+   * after the epoch, such as a value from {@link System#currentTimeMillis()}.
+   * @throws DateTimeException if the result is out of range.
+   */
+  public static DiscordianZonedDateTime ofEpochMilli(long epochMilli, ZoneId zone) {
+    long epochSecond = Math.floorDiv(epochMilli, 1000L);
+    int nanoOfSecond = (int) Math.floorMod(epochMilli, 1000L) * 1000000;
+    return ofEpochSecond(epochSecond, nanoOfSecond, zone);
+  }
+
+  /**
+   * Obtains a Discordian date-time from any temporal object that has a zone
+   * and either an instant or a date and time, such as a
+   * {@link java.time.ZonedDateTime}.
+   *
+   * @throws DateTimeException if `temporal` cannot be converted.
+   */
+  public static DiscordianZonedDateTime from(TemporalAccessor temporal) {
+    if (temporal instanceof DiscordianZonedDateTime) {
+      return (DiscordianZonedDateTime) temporal;
+    }
+    try {
+      ZoneId zone = ZoneId.from(temporal);
+      if (temporal.isSupported(ChronoField.INSTANT_SECONDS)) {
+        return ofEpochSecond(temporal.getLong(ChronoField.INSTANT_SECONDS), temporal.get(ChronoField.NANO_OF_SECOND), zone);
+      }
+      return ofLocal(DiscordianDateTime.from(temporal), zone, null);
+    } catch (DateTimeException e) {
+      throw new DateTimeException("Unable to obtain DiscordianZonedDateTime from TemporalAccessor: " + temporal + " of type " + temporal.getClass().getName(), e);
+    }
+  }
+
+  private DiscordianZonedDateTime(DiscordianDateTime dateTime, ZoneOffset offset, ZoneId zone) {
+    this.dateTime = dateTime;
+    this.offset = offset;
+    this.zone = zone;
+  }
+
+  private static LocalDateTime toIsoDateTime(DiscordianDateTime dateTime) {
+    return LocalDateTime.of(LocalDate.ofEpochDay(dateTime.toLocalDate().toEpochDay()), dateTime.toLocalTime());
+  }
+
+  @Override
+  public DiscordianDateTime toLocalDateTime() {
+    return dateTime;
+  }
+
+  @Override
+  public DiscordianDate toLocalDate() {
+    return dateTime.toLocalDate();
+  }
+
+  @Override
+  public ZoneOffset getOffset() {
+    return offset;
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  @Override
+  public DiscordianZonedDateTime withEarlierOffsetAtOverlap() {
+    return withOffsetAtOverlap(true);
+  }
+
+  @Override
+  public DiscordianZonedDateTime withLaterOffsetAtOverlap() {
+    return withOffsetAtOverlap(false);
+  }
+
+  private DiscordianZonedDateTime withOffsetAtOverlap(boolean earlier) {
+    if (zone instanceof ZoneOffset) {
+      return this;
+    }
+    ZoneOffsetTransition transition = zone.getRules().getTransition(toIsoDateTime(dateTime));
+    if (transition != null && transition.isOverlap()) {
+      ZoneOffset newOffset = earlier ? transition.getOffsetBefore() : transition.getOffsetAfter();
+      if (!newOffset.equals(offset)) {
+        return new DiscordianZonedDateTime(dateTime, newOffset, zone);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public DiscordianZonedDateTime withZoneSameLocal(ZoneId zone) {
+    return this.zone.equals(zone) ? this : ofLocal(dateTime, zone, offset);
+  }
+
+  @Override
+  public DiscordianZonedDateTime withZoneSameInstant(ZoneId zone) {
+    return this.zone.equals(zone) ? this : ofEpochSecond(toEpochSecond(), dateTime.toLocalTime().getNano(), zone);
+  }
+
+  @Override
+  public boolean isSupported(TemporalField field) {
+    return field instanceof ChronoField || (field != null && field.isSupportedBy(this));
+  }
+
+  @Override
+  public DiscordianZonedDateTime with(TemporalAdjuster adjuster) {
+    if (adjuster instanceof DiscordianDate || adjuster instanceof LocalTime || adjuster instanceof DiscordianDateTime) {
+      return ofLocal(dateTime.with(adjuster), zone, offset);
+    }
+    return (DiscordianZonedDateTime) adjuster.adjustInto(this);
+  }
+
+  @Override
+  public DiscordianZonedDateTime with(TemporalField field, long newValue) {
+    if (field instanceof ChronoField) {
+      switch ((ChronoField) field) {
+        case INSTANT_SECONDS:
+          return ofEpochSecond(newValue, dateTime.toLocalTime().getNano(), zone);
+        case OFFSET_SECONDS:
+          return ofLocal(dateTime, zone, ZoneOffset.ofTotalSeconds(ChronoField.OFFSET_SECONDS.checkValidIntValue(newValue)));
+        default:
+          return ofLocal(dateTime.with(field, newValue), zone, offset);
+      }
+    }
+    return field.adjustInto(this, newValue);
+  }
+
+  @Override
+  public DiscordianZonedDateTime plus(TemporalAmount amount) {
+    return (DiscordianZonedDateTime) amount.addTo(this);
+  }
+
+  /**
+   * Date units are added to the local date-time, as with
+   * {@link java.time.ZonedDateTime}, while time units are added to the instant.
+   */
+  @Override
+  public DiscordianZonedDateTime plus(long amountToAdd, TemporalUnit unit) {
+    if (unit instanceof ChronoUnit) {
+      if (unit.isDateBased()) {
+        return ofLocal(dateTime.plus(amountToAdd, unit), zone, offset);
+      }
+      DiscordianDateTime newDateTime = dateTime.plus(amountToAdd, unit);
+      return ofEpochSecond(newDateTime.toEpochSecond(offset), newDateTime.toLocalTime().getNano(), zone);
+    }
+    return unit.addTo(this, amountToAdd);
+  }
+
+  @Override
+  public DiscordianZonedDateTime minus(TemporalAmount amount) {
+    return (DiscordianZonedDateTime) amount.subtractFrom(this);
+  }
+
+  @Override
+  public DiscordianZonedDateTime minus(long amountToSubtract, TemporalUnit unit) {
+    if (amountToSubtract == Long.MIN_VALUE) {
+      return plus(Long.MAX_VALUE, unit).plus(1, unit);
+    }
+    return plus(-amountToSubtract, unit);
+  }
+
+  @Override
+  public long until(Temporal endExclusive, TemporalUnit unit) {
+    DiscordianZonedDateTime end = from(endExclusive);
+    if (unit instanceof ChronoUnit) {
+      if (unit.isDateBased()) {
+        return dateTime.until(end.withZoneSameInstant(zone).dateTime, unit);
+      }
+      DiscordianDateTime endAtOffset = DiscordianDateTime.ofEpochSecond(end.toEpochSecond(), end.dateTime.toLocalTime().getNano(), offset);
+      return dateTime.until(endAtOffset, unit);
+    }
+    return unit.between(this, end);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof DiscordianZonedDateTime) {
+      DiscordianZonedDateTime other = (DiscordianZonedDateTime) obj;
+      return dateTime.equals(other.dateTime) && offset.equals(other.offset) && zone.equals(other.zone);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return dateTime.hashCode() ^ offset.hashCode() ^ Integer.rotateLeft(zone.hashCode(), 3);
+  }
+
+  @Override
+  public String toString() {
+    String string = dateTime.toString() + offset.toString();
+    if (offset != zone) {
+      string += '[' + zone.toString() + ']';
+    }
+    return string;
+  }
+}
@@ -0,0 +1,158 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.channels.Channels
+import java.time.LocalDate
+import java.time.temporal.ChronoField
+import java.util.concurrent.Executors
+
+import static co.freeside.time.chrono.DiscordianBatchConverter.Input.EPOCH_DAY
+import static co.freeside.time.chrono.DiscordianBatchConverter.Input.ISO_DATE
+
+class DiscordianBatchConverterSpec extends Specification {
+
+  static final long MAX_EPOCH_DAY = ChronoField.EPOCH_DAY.range().maximum
+
+  @Shared executor = Executors.newFixedThreadPool(4)
+
+  def converter = DiscordianBatchConverter.of(DiscordianFormatter.DEFAULT)
+
+  void cleanupSpec() {
+    executor.shutdown()
+  }
+
+  private String convert(DiscordianBatchConverter converter, String input) {
+    def out = new ByteArrayOutputStream()
+    converter.convert(Channels.newChannel(new ByteArrayInputStream(input.getBytes("UTF-8"))), Channels.newChannel(out))
+    out.toString("UTF-8")
+  }
+
+  def "converts each line of ISO dates"() {
+    expect:
+    convert(converter, "2013-03-30\n2012-02-29\n1970-01-01\n") == """\
+Prickle-Prickle, Discord 16, 3179 YOLD
+St. Tib's Day! 3178 YOLD
+Sweetmorn, Chaos 1, 3136 YOLD
+"""
+  }
+
+  def "converts a final line without a line break"() {
+    expect:
+    convert(converter, "2013-03-30\n1970-01-01") == """\
+Prickle-Prickle, Discord 16, 3179 YOLD
+Sweetmorn, Chaos 1, 3136 YOLD
+"""
+  }
+
+  def "converts epoch days"() {
+    expect:
+    convert(converter.withInput(EPOCH_DAY), "0\n-1\n15794\n") == """\
+Sweetmorn, Chaos 1, 3136 YOLD
+Setting Orange, The Aftermath 73, 3135 YOLD
+Prickle-Prickle, Discord 16, 3179 YOLD
+"""
+  }
+
+  def "an invalid line is output as an empty line and counted"() {
+    given:
+    def out = new ByteArrayOutputStream()
+    def input = "2013-03-30\nfnord\n2013-02-29\n\n1970-01-01\n"
+
+    when:
+    def invalid = converter.convert(Channels.newChannel(new ByteArrayInputStream(input.bytes)), Channels.newChannel(out))
+
+    then:
+    invalid == 3
+    out.toString() == """\
+Prickle-Prickle, Discord 16, 3179 YOLD
+
+
+
+Sweetmorn, Chaos 1, 3136 YOLD
+"""
+  }
+
+  @Unroll
+  def "ISO date '#line' is #expectation"() {
+    given:
+    def bytes = line.getBytes("US-ASCII")
+
+    expect:
+    converter.parseLine(bytes, 0, bytes.length) == expected
+
+    where:
+    line                | expected
+    "2013-03-30"        | LocalDate.of(2013, 3, 30).toEpochDay()
+    " 2013-03-30\r"     | LocalDate.of(2013, 3, 30).toEpochDay()
+    "0000-01-01"        | LocalDate.of(0, 1, 1).toEpochDay()
+    "-0001-12-31"       | LocalDate.of(-1, 12, 31).toEpochDay()
+    "+12013-01-01"      | LocalDate.of(12013, 1, 1).toEpochDay()
+    "+999999999-12-31"  | LocalDate.MAX.toEpochDay()
+    "-999999999-01-01"  | LocalDate.MIN.toEpochDay()
+    "1900-02-29"        | DiscordianDate.INVALID_EPOCH_DAY
+    "2000-02-29"        | LocalDate.of(2000, 2, 29).toEpochDay()
+    "2013-13-01"        | DiscordianDate.INVALID_EPOCH_DAY
+    "2013-04-31"        | DiscordianDate.INVALID_EPOCH_DAY
+    "2013-00-10"        | DiscordianDate.INVALID_EPOCH_DAY
+    "2013-1-10"         | DiscordianDate.INVALID_EPOCH_DAY
+    "12013-01-01"       | DiscordianDate.INVALID_EPOCH_DAY
+    "+1000000000-01-01" | DiscordianDate.INVALID_EPOCH_DAY
+    "+2013-01-01"       | DiscordianDate.INVALID_EPOCH_DAY
+    "-0000-01-01"       | DiscordianDate.INVALID_EPOCH_DAY
+    "2013/03/30"        | DiscordianDate.INVALID_EPOCH_DAY
+    ""                  | DiscordianDate.INVALID_EPOCH_DAY
+
+    expectation = expected == DiscordianDate.INVALID_EPOCH_DAY ? "invalid" : "epoch day $expected"
+  }
+
+  @Unroll
+  def "epoch day '#line' is #expectation"() {
+    given:
+    def bytes = line.getBytes("US-ASCII")
+
+    expect:
+    converter.withInput(EPOCH_DAY).parseLine(bytes, 0, bytes.length) == expected
+
+    where:
+    line                     | expected
+    "0"                      | 0
+    "-42"                    | -42
+    "$MAX_EPOCH_DAY"         | MAX_EPOCH_DAY
+    "${MAX_EPOCH_DAY + 1}"   | DiscordianDate.INVALID_EPOCH_DAY
+    "-"                      | DiscordianDate.INVALID_EPOCH_DAY
+    "12x"                    | DiscordianDate.INVALID_EPOCH_DAY
+    "99999999999999999999"   | DiscordianDate.INVALID_EPOCH_DAY
+
+    expectation = expected == DiscordianDate.INVALID_EPOCH_DAY ? "invalid" : "epoch day $expected"
+  }
+
+  @Unroll
+  def "output is in input order with a chunk size of #chunkSize"() {
+    given:
+    def random = new Random(chunkSize)
+    def epochDays = (1..5000).collect { random.nextInt(200000) - 100000 }
+    def input = epochDays.collect { LocalDate.ofEpochDay(it).toString() }.join("\n")
+    def expected = epochDays.collect { DiscordianDate.ofEpochDay(it).toString() + "\n" }.join("")
+
+    and:
+    def parallel = converter.withExecutor(executor, 4).withChunkSize(chunkSize)
+
+    expect:
+    convert(parallel, input) == expected
+
+    where:
+    chunkSize << [1, 7, 64, 4096, DiscordianBatchConverter.DEFAULT_CHUNK_SIZE]
+  }
+
+  def "uses the formatter"() {
+    given:
+    def ddate = DiscordianBatchConverter.of(DiscordianFormatter.ofPattern("%a %e %b"))
+
+    expect:
+    convert(ddate, "2013-03-30\n") == "PP 16th Dsc\n"
+    ddate.input == ISO_DATE
+  }
+}
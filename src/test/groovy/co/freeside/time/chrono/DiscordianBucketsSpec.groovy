@@ -0,0 +1,206 @@
+package co.freeside.time.chrono
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.DateTimeException
+import java.time.LocalDate
+import java.time.ZoneOffset
+import java.util.concurrent.ForkJoinPool
+
+import static co.freeside.time.chrono.DiscordianBuckets.StTibsDay.MERGE
+import static co.freeside.time.chrono.DiscordianBuckets.StTibsDay.SEPARATE
+import static java.time.temporal.ChronoField.ALIGNED_WEEK_OF_YEAR
+import static java.time.temporal.ChronoUnit.*
+
+class DiscordianBucketsSpec extends Specification {
+
+  @Unroll
+  def "#unit buckets with #policy St. Tib's Day have #size buckets for 4 years"() {
+    expect:
+    DiscordianBuckets.of(unit, policy, 3176, 3180).size() == size
+
+    where:
+    unit   | policy   | size
+    WEEKS  | MERGE    | 73 * 4
+    WEEKS  | SEPARATE | 74 * 4
+    MONTHS | MERGE    | 5 * 4
+    MONTHS | SEPARATE | 6 * 4
+    YEARS  | MERGE    | 4
+    YEARS  | SEPARATE | 8
+  }
+
+  @Unroll
+  def "#date is in the #unit bucket #expected"() {
+    given:
+    def buckets = DiscordianBuckets.of(unit, policy, 3178, 3180)
+
+    expect:
+    buckets.bucketOfEpochDay(date.toEpochDay()) == expected
+
+    where:
+    date                            | unit   | policy   | expected
+    DiscordianDate.of(3178, 1, 1)   | WEEKS  | MERGE    | 0
+    DiscordianDate.of(3178, 1, 59)  | WEEKS  | MERGE    | 11
+    DiscordianDate.ofLeapDay(3178)  | WEEKS  | MERGE    | 11
+    DiscordianDate.of(3178, 1, 60)  | WEEKS  | MERGE    | 11
+    DiscordianDate.of(3178, 1, 61)  | WEEKS  | MERGE    | 12
+    DiscordianDate.of(3178, 5, 73)  | WEEKS  | MERGE    | 72
+    DiscordianDate.of(3179, 1, 1)   | WEEKS  | MERGE    | 73
+    DiscordianDate.ofLeapDay(3178)  | WEEKS  | SEPARATE | 73
+    DiscordianDate.of(3179, 1, 1)   | WEEKS  | SEPARATE | 74
+    DiscordianDate.ofLeapDay(3178)  | MONTHS | MERGE    | 0
+    DiscordianDate.of(3178, 2, 1)   | MONTHS | MERGE    | 1
+    DiscordianDate.ofLeapDay(3178)  | MONTHS | SEPARATE | 5
+    DiscordianDate.of(3179, 3, 10)  | MONTHS | SEPARATE | 8
+    DiscordianDate.ofLeapDay(3178)  | YEARS  | SEPARATE | 1
+    DiscordianDate.of(3179, 3, 10)  | YEARS  | SEPARATE | 2
+  }
+
+  def "merged weeks match the aligned week of the date"() {
+    given:
+    def buckets = DiscordianBuckets.of(WEEKS, MERGE, 3170, 3190)
+    def start = DiscordianDate.of(3170, 1, 1).toEpochDay()
+    def end = DiscordianDate.of(3190, 1, 1).toEpochDay()
+
+    expect:
+    (start..<end).every { epochDay ->
+      def date = DiscordianDate.ofEpochDay(epochDay)
+      buckets.bucketOfEpochDay(epochDay) == (date.year - 3170) * 73 + date.getLong(ALIGNED_WEEK_OF_YEAR) - 1
+    }
+  }
+
+  def "each bucket starts on its first day"() {
+    given:
+    def buckets = DiscordianBuckets.of(unit, SEPARATE, 3177, 3180)
+
+    expect:
+    (0..<buckets.size()).every { bucket ->
+      def start = buckets.getStartEpochDay(bucket)
+      start == DiscordianDate.INVALID_EPOCH_DAY ? buckets.isStTibsDay(bucket) && buckets.getYear(bucket) != 3178
+          : buckets.bucketOfEpochDay(start) == bucket && (bucket == 0 || buckets.isStTibsDay(bucket) || buckets.bucketOfEpochDay(start - 1) != bucket)
+    }
+
+    where:
+    unit << [WEEKS, MONTHS, YEARS]
+  }
+
+  def "accumulates count, sum, min and max"() {
+    given:
+    def buckets = DiscordianBuckets.of(MONTHS, SEPARATE, 3179, 3180)
+    def chaos = DiscordianDate.of(3179, 1, 10).toEpochDay()
+    def discord = DiscordianDate.of(3179, 2, 10).toEpochDay()
+
+    when:
+    buckets.add(chaos, 3)
+    buckets.add(chaos + 1, -7)
+    buckets.add(chaos + 2, 10)
+    buckets.add(discord, 5)
+
+    then:
+    buckets.getCount(0) == 3
+    buckets.getSum(0) == 6
+    buckets.getMin(0) == -7
+    buckets.getMax(0) == 10
+    buckets.getCount(1) == 1
+    buckets.getMin(1) == 5
+
+    and:
+    buckets.getCount(2) == 0
+    buckets.getMin(2) == Long.MAX_VALUE
+    buckets.getMax(2) == Long.MIN_VALUE
+    buckets.counts == [3, 1, 0, 0, 0, 0] as long[]
+  }
+
+  def "buckets epoch millis by UTC day"() {
+    given:
+    def buckets = DiscordianBuckets.of(YEARS, SEPARATE, 3177, 3180)
+    def stTibs = LocalDate.of(2012, 2, 29).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli()
+
+    when:
+    buckets.addEpochMilli(stTibs, 1)
+    buckets.addEpochMilli(stTibs + 86_399_999, 2)
+    buckets.addEpochMilli(stTibs - 1, 4)
+
+    then:
+    buckets.getCount(3) == 2
+    buckets.getSum(3) == 3
+    buckets.getCount(2) == 1
+  }
+
+  def "parallel aggregation gives the same result as sequential"() {
+    given:
+    def random = new Random(3179)
+    def start = DiscordianDate.of(3100, 1, 1).toEpochDay()
+    def end = DiscordianDate.of(3200, 1, 1).toEpochDay()
+    def epochDays = new long[200000]
+    def values = new long[epochDays.length]
+    for (int i = 0; i < epochDays.length; i++) {
+      epochDays[i] = start + (long) (random.nextDouble() * (end - start))
+      values[i] = random.nextInt(1000) - 500
+    }
+
+    and:
+    def sequential = DiscordianBuckets.of(WEEKS, SEPARATE, 3100, 3200)
+    def parallel = sequential.emptyCopy()
+    def pool = new ForkJoinPool(4)
+
+    when:
+    sequential.addAll(epochDays, values)
+    parallel.addAllParallel(epochDays, values, pool)
+
+    then:
+    parallel.counts == sequential.counts
+    parallel.sums == sequential.sums
+    (0..<sequential.size()).every { sequential.getMin(it) == parallel.getMin(it) && sequential.getMax(it) == parallel.getMax(it) }
+    sequential.counts.sum() == epochDays.length
+
+    cleanup:
+    pool.shutdown()
+  }
+
+  def "epoch millis in bulk"() {
+    given:
+    def buckets = DiscordianBuckets.of(MONTHS, MERGE, 3179, 3180)
+    def millis = [LocalDate.of(2013, 1, 1), LocalDate.of(2013, 3, 30), LocalDate.of(2013, 12, 31)].collect {
+      it.atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli()
+    } as long[]
+
+    when:
+    buckets.addAllEpochMillisParallel(millis, [1, 2, 3] as long[])
+
+    then:
+    buckets.sums == [1, 2, 0, 0, 3] as long[]
+  }
+
+  def "cannot merge buckets with a different configuration"() {
+    when:
+    DiscordianBuckets.of(WEEKS, MERGE, 3179, 3180).merge(DiscordianBuckets.of(WEEKS, SEPARATE, 3179, 3180))
+
+    then:
+    thrown IllegalArgumentException
+  }
+
+  def "epoch days outside the window are rejected"() {
+    given:
+    def buckets = DiscordianBuckets.of(WEEKS, MERGE, 3179, 3180)
+
+    when:
+    buckets.add(DiscordianDate.of(3180, 1, 1).toEpochDay(), 1)
+
+    then:
+    thrown DateTimeException
+  }
+
+  @Unroll
+  def "cannot bucket by #unit"() {
+    when:
+    DiscordianBuckets.of(unit, MERGE, 3179, 3180)
+
+    then:
+    thrown DateTimeException
+
+    where:
+    unit << [DAYS, DECADES]
+  }
+}
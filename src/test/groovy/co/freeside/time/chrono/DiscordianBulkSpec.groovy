@@ -0,0 +1,95 @@
+package co.freeside.time.chrono
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.DateTimeException
+import java.time.LocalDate
+
+class DiscordianBulkSpec extends Specification {
+
+  @Unroll
+  def "converts #size epoch days the same way as DiscordianDate (parallel: #parallel)"() {
+    given:
+    def random = new Random(size)
+    long[] epochDays = (0..<size).collect {
+      (long) (LocalDate.MIN.toEpochDay() + (random.nextDouble() * (LocalDate.MAX.toEpochDay() - LocalDate.MIN.toEpochDay())))
+    }
+    // St. Tib's Day and the days either side of it
+    epochDays[0] = LocalDate.of(2012, 2, 28).toEpochDay()
+    epochDays[1] = LocalDate.of(2012, 2, 29).toEpochDay()
+    epochDays[2] = LocalDate.of(2012, 3, 1).toEpochDay()
+    epochDays[3] = LocalDate.MIN.toEpochDay()
+    epochDays[4] = LocalDate.MAX.toEpochDay()
+
+    and:
+    int[] years = new int[size]
+    byte[] seasons = new byte[size]
+    byte[] days = new byte[size]
+    byte[] weekdays = new byte[size]
+    long[] roundTrip = new long[size]
+
+    when:
+    if (parallel) {
+      DiscordianBulk.fromEpochDaysParallel(epochDays, years, seasons, days, weekdays)
+      DiscordianBulk.toEpochDaysParallel(years, seasons, days, roundTrip)
+    } else {
+      DiscordianBulk.fromEpochDays(epochDays, years, seasons, days, weekdays)
+      DiscordianBulk.toEpochDays(years, seasons, days, roundTrip)
+    }
+
+    then:
+    (0..<size).every { i ->
+      def ddate = DiscordianDate.ofEpochDay(epochDays[i])
+      years[i] == ddate.year && seasons[i] == ddate.season && days[i] == ddate.dayOfSeason && weekdays[i] == ddate.dayOfWeek
+    }
+    roundTrip == epochDays
+
+    where:
+    size   | parallel
+    5      | false
+    1000   | false
+    100000 | true
+  }
+
+  def "St. Tib's Day has no season, day or weekday"() {
+    given:
+    int[] years = new int[1]
+    byte[] seasons = [9]
+    byte[] days = [9]
+    byte[] weekdays = [9]
+
+    when:
+    DiscordianBulk.fromEpochDays([LocalDate.of(2012, 2, 29).toEpochDay()] as long[], years, seasons, days, weekdays)
+
+    then:
+    years[0] == 3178
+    seasons[0] == 0
+    days[0] == 0
+    weekdays[0] == 0
+  }
+
+  @Unroll
+  def "#year, #season, #day is rejected"() {
+    when:
+    DiscordianBulk.toEpochDays([year] as int[], [season] as byte[], [day] as byte[], new long[1])
+
+    then:
+    thrown DateTimeException
+
+    where:
+    year | season | day
+    3179 | 0      | 0
+    3179 | 6      | 1
+    3179 | 1      | 74
+    3179 | 1      | 0
+  }
+
+  def "output arrays must be long enough"() {
+    when:
+    DiscordianBulk.fromEpochDays(new long[2], new int[2], new byte[2], new byte[1], new byte[2])
+
+    then:
+    thrown IllegalArgumentException
+  }
+}
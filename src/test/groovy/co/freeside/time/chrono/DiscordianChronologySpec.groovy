@@ -11,6 +11,7 @@ import java.time.chrono.IsoChronology
 import java.time.temporal.ChronoField
 import java.time.temporal.ChronoUnit
 import java.time.temporal.TemporalAdjusters
+import java.time.temporal.UnsupportedTemporalTypeException
 
 import static co.freeside.time.chrono.DiscordianChronology.*
 import static co.freeside.time.chrono.DiscordianDate.ST_TIBS_DAY
@@ -30,6 +31,37 @@ class DiscordianChronologySpec extends Specification {
     chrono == chronology
   }
 
+  @Unroll
+  def "DiscordianChronology.of('#id') is #expected"() {
+    expect:
+    DiscordianChronology.of(id).is(expected)
+
+    where:
+    id           | expected
+    "Discordian" | DiscordianChronology.INSTANCE
+    "ISO"        | IsoChronology.INSTANCE
+  }
+
+  def "DiscordianChronology.of fails for an unknown id"() {
+    when:
+    DiscordianChronology.of("discordian")
+
+    then:
+    thrown DateTimeException
+  }
+
+  def "the list of eras is cached and immutable"() {
+    expect:
+    chronology.eras() == [DiscordianEra.YOLD]
+    chronology.eras().is(chronology.eras())
+
+    when:
+    chronology.eras().clear()
+
+    then:
+    thrown UnsupportedOperationException
+  }
+
   @Shared data_samples = [
       // YOLD era starts in 1166 BC
       [chronology.date(0, 1, 1), LocalDate.of(-1166, 1, 1)],
@@ -107,6 +139,109 @@ class DiscordianChronologySpec extends Specification {
     3179 | 1 | 74
   }
 
+  @Unroll
+  def "#year, #season, #dayOfSeason is not a valid date without throwing an exception"() {
+    expect:
+    DiscordianDate.tryOf(year, season, dayOfSeason) == DiscordianDate.INVALID_EPOCH_DAY
+    !DiscordianDate.isValid(year, season, dayOfSeason)
+
+    where:
+    year              | season | dayOfSeason
+    3179              | 0      | 0
+    3179              | -1     | 1
+    3179              | 6      | 1
+    3179              | 1      | 0
+    3179              | 1      | 74
+    Integer.MIN_VALUE | 1      | 1
+    Integer.MAX_VALUE | 1      | 1
+  }
+
+  @Unroll
+  def "tryOf #year, #season, #dayOfSeason is the epoch day of the same date as of"() {
+    expect:
+    DiscordianDate.isValid(year, season, dayOfSeason)
+    DiscordianDate.tryOf(year, season, dayOfSeason) == DiscordianDate.of(year, season, dayOfSeason).toEpochDay()
+
+    where:
+    year | season | dayOfSeason
+    3178 | 1      | 1
+    3178 | 1      | 59
+    3178 | 1      | 60
+    3178 | 5      | 73
+    3179 | 1      | 60
+    -500 | 3      | 12
+  }
+
+  @Unroll
+  def "tryOf #year, #dayOfYear is #expected"() {
+    expect:
+    DiscordianDate.isValid(year, dayOfYear) == (expected != null)
+    DiscordianDate.tryOf(year, dayOfYear) == (expected == null ? DiscordianDate.INVALID_EPOCH_DAY : expected.toEpochDay())
+
+    where:
+    year | dayOfYear | expected
+    3178 | 1         | DiscordianDate.of(3178, 1)
+    3178 | 366       | DiscordianDate.of(3178, 366)
+    3179 | 365       | DiscordianDate.of(3179, 365)
+    3179 | 366       | null
+    3179 | 0         | null
+  }
+
+  def "tryOfLeapDay is only valid in a leap year"() {
+    expect:
+    DiscordianDate.tryOfLeapDay(3178) == DiscordianDate.ofLeapDay(3178).toEpochDay()
+    DiscordianDate.tryOfLeapDay(3179) == DiscordianDate.INVALID_EPOCH_DAY
+    DiscordianDate.tryOfLeapDay(Integer.MAX_VALUE) == DiscordianDate.INVALID_EPOCH_DAY
+  }
+
+  @Unroll
+  def "#value #validity as a season, day of season and day of week"() {
+    expect:
+    chronology.isValidSeason(value) == season
+    chronology.isValidDayOfSeason(value) == dayOfSeason
+    chronology.isValidDayOfWeek(value) == dayOfWeek
+
+    where:
+    value | season | dayOfSeason | dayOfWeek
+    0     | false  | false       | false
+    1     | true   | true        | true
+    5     | true   | true        | true
+    6     | false  | true        | false
+    73    | false  | true        | false
+    74    | false  | false       | false
+
+    validity = [season, dayOfSeason, dayOfWeek].any() ? "is valid" : "is not valid"
+  }
+
+  @Unroll
+  def "#check(#value) fails with a message giving the range #expected"() {
+    when:
+    chronology."$check"(value)
+
+    then:
+    def e = thrown(DateTimeException)
+    e.message.endsWith("Valid values are $expected")
+
+    where:
+    check                   | value | expected
+    "checkValidSeason"      | 6     | "0..5"
+    "checkValidSeason"      | -1    | "0..5"
+    "checkValidDayOfSeason" | 74    | "0..73"
+    "checkValidDayOfWeek"   | 6     | "0..5"
+  }
+
+  @Unroll
+  def "#check accepts the 0 used for St. Tib's Day"() {
+    when:
+    chronology."$check"(0)
+
+    then:
+    notThrown DateTimeException
+
+    where:
+    check << ["checkValidSeason", "checkValidDayOfSeason", "checkValidDayOfWeek"]
+  }
+
   @Unroll("The Discordian representation of epoch date #epochDay is #expected")
   def "can get a Discordian date from an epoch day"() {
     expect:
@@ -206,6 +341,128 @@ class DiscordianChronologySpec extends Specification {
     chronology.date(3178, 1, 1) | ChronoField.MONTH_OF_YEAR | 0   | SEASONS_PER_YEAR
     chronology.date(3066, 1, 1) | ChronoField.MONTH_OF_YEAR | 1   | SEASONS_PER_YEAR
     chronology.date(3166, 1, 1) | ChronoField.MONTH_OF_YEAR | 0   | SEASONS_PER_YEAR
+    chronology.date(3179, 1, 1) | ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH | 1 | DAYS_PER_WEEK
+    chronology.date(3178, 1, 1) | ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH | 0 | DAYS_PER_WEEK
+    chronology.date(3179, 1, 1) | ChronoField.ALIGNED_WEEK_OF_MONTH | 1 | 15
+    chronology.date(3179, 1, 1) | ChronoField.ALIGNED_WEEK_OF_YEAR | 1 | 73
+    chronology.date(3179, 1, 1) | ChronoField.DAY_OF_YEAR | 1 | 365
+    chronology.date(3178, 1, 1) | ChronoField.DAY_OF_YEAR | 1 | 366
+  }
+
+  @Unroll
+  def "the #field range of #ddate is the same instance every time"() {
+    expect:
+    ddate.range(field).is(ddate.range(field))
+    ddate.range(field).is(ddate.plus(1, ChronoUnit.DAYS).range(field))
+
+    where:
+    ddate                       | field
+    chronology.date(3179, 1, 1) | ChronoField.DAY_OF_WEEK
+    chronology.date(3178, 1, 1) | ChronoField.DAY_OF_WEEK
+    chronology.date(3178, 1, 1) | ChronoField.DAY_OF_MONTH
+    chronology.date(3179, 1, 1) | ChronoField.MONTH_OF_YEAR
+    chronology.date(3178, 1, 1) | ChronoField.DAY_OF_YEAR
+  }
+
+  @Unroll
+  def "#field of #ddate is #expected"() {
+    expect:
+    ddate.getLong(field) == expected
+
+    where:
+    ddate                                     | field                                    | expected
+    chronology.date(3179, 1, 1)               | ChronoField.ALIGNED_WEEK_OF_YEAR         | 1
+    chronology.date(3179, 1, 1)               | ChronoField.ALIGNED_WEEK_OF_MONTH        | 1
+    chronology.date(3179, 1, 1)               | ChronoField.PROLEPTIC_MONTH              | 3179 * 5
+    chronology.date(3179, 2, 73)              | ChronoField.ALIGNED_WEEK_OF_YEAR         | 30
+    chronology.date(3179, 2, 73)              | ChronoField.ALIGNED_WEEK_OF_MONTH        | 15
+    chronology.date(3179, 2, 73)              | ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH | 3
+    chronology.date(3179, 2, 73)              | ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR  | 1
+    chronology.date(3179, 2, 73)              | ChronoField.PROLEPTIC_MONTH              | 3179 * 5 + 1
+    chronology.date(3179, 5, 73)              | ChronoField.ALIGNED_WEEK_OF_YEAR         | 73
+    chronology.date(3178, 1, 60)              | ChronoField.ALIGNED_WEEK_OF_YEAR         | 12
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoField.ALIGNED_WEEK_OF_YEAR         | 12
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoField.ALIGNED_WEEK_OF_MONTH        | 12
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH | 0
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR  | 0
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoField.PROLEPTIC_MONTH              | 3178 * 5
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoField.DAY_OF_YEAR                  | ST_TIBS_DAY
+    chronology.date(-1, 5, 73)                | ChronoField.PROLEPTIC_MONTH              | -1
+  }
+
+  @Unroll
+  def "#ddate with #field #value is #expected"() {
+    expect:
+    ddate.with(field, value) == expected
+
+    where:
+    ddate                                     | field                                    | value     | expected
+    chronology.date(3179, 1, 1)               | ChronoField.DAY_OF_WEEK                  | 5         | chronology.date(3179, 1, 5)
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoField.DAY_OF_WEEK                  | 1         | chronology.date(3178, 1, 56)
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoField.DAY_OF_WEEK                  | 5         | chronology.date(3178, 1, 60)
+    chronology.date(3178, 1, 60)              | ChronoField.DAY_OF_WEEK                  | 1         | chronology.date(3178, 1, 56)
+    chronology.date(3179, 2, 73)              | ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH | 1         | chronology.date(3179, 2, 71)
+    chronology.date(3179, 2, 73)              | ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH | 5         | chronology.date(3179, 3, 2)
+    chronology.date(3179, 5, 73)              | ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH | 5         | chronology.date(3180, 1, 2)
+    chronology.date(3179, 2, 73)              | ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR  | 5         | chronology.date(3179, 3, 4)
+    chronology.date(3179, 1, 1)               | ChronoField.ALIGNED_WEEK_OF_YEAR         | 73        | chronology.date(3179, 5, 69)
+    chronology.date(3178, 1, 55)              | ChronoField.ALIGNED_WEEK_OF_YEAR         | 13        | chronology.date(3178, 1, 65)
+    chronology.date(3179, 1, 3)               | ChronoField.ALIGNED_WEEK_OF_MONTH        | 15        | chronology.date(3179, 1, 73)
+    chronology.date(3179, 1, 5)               | ChronoField.ALIGNED_WEEK_OF_MONTH        | 15        | chronology.date(3179, 2, 2)
+    chronology.date(3179, 1, 1)               | ChronoField.MONTH_OF_YEAR                | 3         | chronology.date(3179, 3, 1)
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoField.MONTH_OF_YEAR                | 2         | chronology.date(3178, 2, 60)
+    chronology.date(3179, 2, 5)               | ChronoField.PROLEPTIC_MONTH              | 3178 * 5  | chronology.date(3178, 1, 5)
+    chronology.date(3179, 2, 5)               | ChronoField.PROLEPTIC_MONTH              | -1        | chronology.date(-1, 5, 5)
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoField.YEAR                         | 3179      | chronology.date(3179, 1, 59)
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoField.YEAR                         | 3182      | chronology.dateYearDay(3182, ST_TIBS_DAY)
+    chronology.date(3178, 3, 12)              | ChronoField.YEAR_OF_ERA                  | 3179      | chronology.date(3179, 3, 12)
+    chronology.date(3179, 1, 1)               | ChronoField.DAY_OF_YEAR                  | 365       | chronology.date(3179, 5, 73)
+    chronology.date(3179, 1, 1)               | ChronoField.EPOCH_DAY                    | 0         | chronology.date(3136, 1, 1)
+  }
+
+  @Unroll
+  def "cannot set #field to #value"() {
+    when:
+    chronology.date(3179, 1, 1).with(field, value)
+
+    then:
+    thrown DateTimeException
+
+    where:
+    field                             | value
+    ChronoField.DAY_OF_WEEK           | 0
+    ChronoField.DAY_OF_WEEK           | 6
+    ChronoField.ALIGNED_WEEK_OF_MONTH | 16
+    ChronoField.ALIGNED_WEEK_OF_YEAR  | 74
+    ChronoField.MONTH_OF_YEAR         | 0
+    ChronoField.DAY_OF_YEAR           | 366
+    ChronoField.ERA                   | 0
+    ChronoField.HOUR_OF_DAY           | 1
+  }
+
+  def "cannot get a time field from a Discordian date"() {
+    when:
+    chronology.date(3179, 1, 1).getLong(ChronoField.HOUR_OF_DAY)
+
+    then:
+    thrown UnsupportedTemporalTypeException
+  }
+
+  @Unroll
+  def "setting #field to any valid value reads back the same value"() {
+    given:
+    def random = new Random(field.ordinal())
+
+    expect:
+    500.times {
+      def ddate = chronology.dateEpochDay(random.nextInt(800_000) - 400_000)
+      def range = chronology.range(field)
+      def value = range.largestMinimum + random.nextInt((int) (range.maximum - range.largestMinimum + 1))
+      assert ddate.with(field, value).getLong(field) == value
+    }
+
+    where:
+    field << [ChronoField.DAY_OF_WEEK, ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR, ChronoField.ALIGNED_WEEK_OF_YEAR, ChronoField.MONTH_OF_YEAR]
   }
 
   @Unroll
@@ -259,6 +516,49 @@ class DiscordianChronologySpec extends Specification {
     chronology.date(3179, 2, 29) | chronology.date(3179, 4, 28) | ChronoUnit.MONTHS | 1
     chronology.date(3179, 2, 29) | chronology.date(3179, 2, 24) | ChronoUnit.WEEKS  | -1
     chronology.date(-1, 1, 1)    | chronology.date(3179, 2, 29) | ChronoUnit.ERAS   | 0
+    chronology.date(3178, 1, 60) | chronology.date(3179, 1, 59) | ChronoUnit.YEARS  | 0
+    chronology.date(3178, 1, 60) | chronology.date(3179, 1, 60) | ChronoUnit.YEARS  | 1
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | chronology.date(3179, 1, 59) | ChronoUnit.YEARS | 0
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | chronology.date(3179, 1, 60) | ChronoUnit.YEARS | 1
+    chronology.date(3179, 1, 60) | chronology.dateYearDay(3178, ST_TIBS_DAY) | ChronoUnit.YEARS | -1
+    chronology.date(3066, 1, 1)  | chronology.date(3179, 1, 1)  | ChronoUnit.DECADES | 11
+    chronology.date(1, 1, 1)     | chronology.date(3179, 5, 73) | ChronoUnit.MILLENNIA | 3
+  }
+
+  def "the difference in years matches the equivalent ISO dates"() {
+    given:
+    def random = new Random(3179)
+
+    expect:
+    1000.times {
+      def start = LocalDate.ofEpochDay(random.nextInt(800_000) - 400_000)
+      def end = start.plusDays(random.nextInt(4000) - 2000)
+      def ddate = chronology.date(start)
+      for (unit in [ChronoUnit.YEARS, ChronoUnit.DECADES, ChronoUnit.CENTURIES]) {
+        assert ddate.until(chronology.date(end), unit) == start.until(end, unit)
+      }
+    }
+  }
+
+  def "cannot get the difference between Discordian dates in time units"() {
+    when:
+    chronology.dateNow().until(chronology.dateNow(), ChronoUnit.HOURS)
+
+    then:
+    thrown UnsupportedTemporalTypeException
+  }
+
+  @Unroll
+  def "the difference in #unit between epoch days matches the difference between dates"() {
+    expect:
+    DiscordianDate.between(start.toEpochDay(), end.toEpochDay(), unit) == start.until(end, unit)
+
+    where:
+    [start, end, unit] << [
+        [chronology.date(3179, 2, 29), chronology.dateYearDay(3178, ST_TIBS_DAY), chronology.date(-1, 5, 73)],
+        [chronology.date(3179, 1, 60), chronology.date(3182, 5, 1)],
+        [ChronoUnit.DAYS, ChronoUnit.WEEKS, ChronoUnit.MONTHS, ChronoUnit.YEARS, ChronoUnit.DECADES, ChronoUnit.ERAS]
+    ].combinations()
   }
 
   @Unroll("Attempting to get the difference between a Discordian date and a #end.class.simpleName causes an exception")
@@ -298,4 +598,32 @@ class DiscordianChronologySpec extends Specification {
     chronology.date(3179, 1, 60) | chronology.date(3178, 1, 60) | Period.of(-1, 0, 0)
     chronology.date(3066, 1, 1) | chronology.date(3179, 1, 1) | Period.of(113, 0, 0)
   }
+
+  @Unroll
+  def "the period between epoch days #startDate.toEpochDay() and #endDate.toEpochDay() is #expectedPeriod"() {
+    expect:
+    DiscordianDate.between(startDate.toEpochDay(), endDate.toEpochDay()) == expectedPeriod
+
+    and:
+    startDate.until(LocalDate.ofEpochDay(endDate.toEpochDay())) == expectedPeriod
+
+    where:
+    startDate                    | endDate                      | expectedPeriod
+    chronology.date(3179, 1, 1)  | chronology.date(3179, 5, 73) | Period.of(0, 4, 72)
+    chronology.date(3179, 5, 73) | chronology.date(3179, 1, 1)  | Period.of(0, -4, -72)
+    chronology.date(-1, 5, 73)   | chronology.date(1, 1, 1)     | Period.of(1, 0, 1)
+    chronology.date(3179, 1, 59) | chronology.date(3179, 2, 1)  | Period.of(0, 0, 15)
+    chronology.date(3178, 1, 61) | chronology.date(3178, 2, 1)  | Period.of(0, 0, 13)
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | chronology.date(3178, 2, 1) | Period.of(0, 0, 15)
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | chronology.date(3179, 1, 60) | Period.of(1, 0, 0)
+    chronology.date(3179, 1, 60) | chronology.dateYearDay(3178, ST_TIBS_DAY) | Period.of(-1, 0, 0)
+  }
+
+  def "cannot get the period between invalid epoch days"() {
+    when:
+    DiscordianDate.between(Long.MAX_VALUE, 0)
+
+    then:
+    thrown DateTimeException
+  }
 }
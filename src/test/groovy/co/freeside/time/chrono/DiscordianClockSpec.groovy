@@ -0,0 +1,140 @@
+package co.freeside.time.chrono
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.*
+import java.util.concurrent.Executors
+
+import static java.time.temporal.ChronoUnit.DAYS
+
+class DiscordianClockSpec extends Specification {
+
+  def zone = ZoneId.of("Europe/London")
+  def testClock = new MutableClock(ZonedDateTime.of(2013, 3, 30, 23, 59, 59, 0, zone).toInstant(), zone)
+
+  def "returns the current date"() {
+    given:
+    def clock = DiscordianClock.of(testClock)
+
+    expect:
+    clock.now() == DiscordianChronology.INSTANCE.date(LocalDate.of(2013, 3, 30))
+    clock.nowText() == clock.now().toString()
+  }
+
+  def "writes the current date as bytes"() {
+    given:
+    def clock = DiscordianClock.of(testClock)
+    def buffer = new byte[64]
+
+    when:
+    def end = clock.writeNow(buffer, 2)
+
+    then:
+    new String(buffer, 2, end - 2, "UTF-8") == clock.nowText()
+  }
+
+  def "the same instance is returned until the day ends"() {
+    given:
+    def clock = DiscordianClock.of(testClock)
+    def today = clock.now()
+
+    when:
+    testClock.advance(Duration.ofMillis(999))
+
+    then:
+    clock.now().is(today)
+
+    when:
+    testClock.advance(Duration.ofMillis(1))
+
+    then:
+    clock.now() == today.plus(1, DAYS)
+    clock.nowText() == clock.now().toString()
+  }
+
+  def "the date follows the clock across a change in offset"() {
+    given:
+    def clock = DiscordianClock.of(testClock)
+
+    when:
+    testClock.instant = ZonedDateTime.of(2013, 3, 31, 23, 59, 59, 0, zone).toInstant()
+
+    then:
+    clock.now() == DiscordianChronology.INSTANCE.date(LocalDate.of(2013, 3, 31))
+
+    when:
+    testClock.advance(Duration.ofSeconds(1))
+
+    then:
+    clock.now() == DiscordianChronology.INSTANCE.date(LocalDate.of(2013, 4, 1))
+  }
+
+  def "the date follows the clock backwards"() {
+    given:
+    def clock = DiscordianClock.of(testClock)
+
+    when:
+    testClock.advance(Duration.ofDays(-400))
+
+    then:
+    clock.now() == DiscordianChronology.INSTANCE.date(LocalDate.of(2012, 2, 24))
+  }
+
+  def "formatters can be supplied"() {
+    given:
+    def clock = DiscordianClock.of(testClock, DiscordianFormatter.ofPattern("%a %b %d"))
+
+    expect:
+    clock.nowText() == "PP Dsc 16"
+  }
+
+  def "a scheduled clock moves on at the end of the day"() {
+    given:
+    testClock.instant = ZonedDateTime.of(2013, 3, 30, 23, 59, 59, 950_000_000, zone).toInstant()
+    def scheduler = Executors.newSingleThreadScheduledExecutor()
+    def clock = DiscordianClock.scheduled(testClock, scheduler)
+    def today = clock.now()
+
+    when:
+    testClock.advance(Duration.ofSeconds(1))
+
+    then:
+    new PollingConditions(timeout: 5).eventually {
+      assert clock.now() == today.plus(1, DAYS)
+    }
+
+    cleanup:
+    clock?.close()
+    scheduler.shutdownNow()
+  }
+
+  static class MutableClock extends Clock {
+    Instant instant
+    final ZoneId zone
+
+    MutableClock(Instant instant, ZoneId zone) {
+      this.instant = instant
+      this.zone = zone
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration)
+    }
+
+    @Override
+    ZoneId getZone() {
+      zone
+    }
+
+    @Override
+    Clock withZone(ZoneId zone) {
+      new MutableClock(instant, zone)
+    }
+
+    @Override
+    Instant instant() {
+      instant
+    }
+  }
+}
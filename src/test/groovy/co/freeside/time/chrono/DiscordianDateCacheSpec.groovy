@@ -0,0 +1,67 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+import static co.freeside.time.chrono.DiscordianDate.ST_TIBS_DAY
+import static java.time.temporal.ChronoField.DAY_OF_YEAR
+import static java.time.temporal.ChronoUnit.DAYS
+
+class DiscordianDateCacheSpec extends Specification {
+
+  @Shared chronology = DiscordianChronology.INSTANCE
+
+  def cleanup() {
+    DiscordianDateCache.disable()
+  }
+
+  def "dates are not shared when the cache is disabled"() {
+    expect:
+    !DiscordianDateCache.enabled
+    !DiscordianDate.of(3179, 2, 19).is(DiscordianDate.of(3179, 2, 19))
+  }
+
+  def "dates inside the window are shared however they are created"() {
+    given:
+    DiscordianDateCache.enable(LocalDate.of(2000, 1, 1), LocalDate.of(2020, 1, 1))
+    def ddate = DiscordianDate.of(3179, 2, 19)
+
+    expect:
+    ddate.is(DiscordianDate.of(3179, 2, 19))
+    ddate.is(DiscordianDate.ofEpochDay(ddate.toEpochDay()))
+    ddate.is(DiscordianDate.of(3179, ddate.get(DAY_OF_YEAR)))
+    ddate.is(chronology.dateEpochDay(ddate.toEpochDay()))
+    ddate.is(chronology.date(LocalDate.of(2013, 4, 2)))
+    ddate.is(DiscordianDate.of(3179, 2, 18).plus(1, DAYS))
+    DiscordianDate.ofLeapDay(3178).is(chronology.dateYearDay(3178, ST_TIBS_DAY))
+  }
+
+  def "cached dates are correct"() {
+    given:
+    DiscordianDateCache.enable(LocalDate.of(2011, 1, 1), LocalDate.of(2014, 1, 1))
+
+    expect:
+    DiscordianDate.ofLeapDay(3178).toString() == "St. Tib's Day! 3178 YOLD"
+    DiscordianDate.of(3178, 1, 60).toString() == "Setting Orange, Chaos 60, 3178 YOLD"
+  }
+
+  def "dates outside the window are still correct"() {
+    given:
+    DiscordianDateCache.enable(LocalDate.of(2000, 1, 1), LocalDate.of(2001, 1, 1))
+
+    expect:
+    DiscordianDate.of(3179, 2, 19) == DiscordianDate.of(3179, 2, 19)
+    DiscordianDate.of(3179, 2, 19).toString() == "Boomtime, Discord 19, 3179 YOLD"
+    DiscordianDate.ofEpochDay(0) == DiscordianDate.of(3136, 1, 1)
+  }
+
+  def "an empty window is rejected"() {
+    when:
+    DiscordianDateCache.enable(LocalDate.of(2001, 1, 1), LocalDate.of(2001, 1, 1))
+
+    then:
+    thrown IllegalArgumentException
+  }
+}
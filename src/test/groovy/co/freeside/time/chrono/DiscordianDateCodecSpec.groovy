@@ -0,0 +1,200 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.BufferOverflowException
+import java.nio.ByteBuffer
+import java.time.DateTimeException
+import java.time.LocalDate
+
+import static co.freeside.time.chrono.DiscordianDate.ST_TIBS_DAY
+
+class DiscordianDateCodecSpec extends Specification {
+
+  @Shared chronology = DiscordianChronology.INSTANCE
+
+  @Unroll
+  def "#ddate survives a round trip through a buffer"() {
+    given:
+    def buffer = ByteBuffer.allocate(DiscordianDateCodec.MAX_DATE_LENGTH)
+
+    when:
+    DiscordianDateCodec.put(buffer, ddate)
+    buffer.flip()
+
+    then:
+    DiscordianDateCodec.get(buffer) == ddate
+    !buffer.hasRemaining()
+
+    where:
+    ddate << [
+        chronology.date(3179, 1, 1),
+        chronology.dateYearDay(3178, ST_TIBS_DAY),
+        chronology.dateEpochDay(0),
+        chronology.date(LocalDate.MIN),
+        chronology.date(LocalDate.MAX)
+    ]
+  }
+
+  def "dates near the epoch are encoded in 3 bytes"() {
+    given:
+    def buffer = ByteBuffer.allocate(DiscordianDateCodec.MAX_DATE_LENGTH)
+
+    when:
+    DiscordianDateCodec.put(buffer, chronology.date(3179, 2, 5))
+
+    then:
+    buffer.position() == 3
+  }
+
+  def "a batch of epoch days survives a round trip through a buffer"() {
+    given:
+    def random = new Random(3179)
+    long[] epochDays = (0..<1000).collect {
+      random.nextBoolean() ? random.nextInt(20_000) : LocalDate.MIN.toEpochDay() + random.nextInt(20_000)
+    }
+    def buffer = ByteBuffer.allocate(DiscordianDateCodec.maxBatchLength(epochDays.length))
+
+    when:
+    DiscordianDateCodec.putAll(buffer, epochDays, 0, epochDays.length)
+    buffer.flip()
+    def out = new long[DiscordianDateCodec.peekBatchLength(buffer)]
+    def count = DiscordianDateCodec.getAll(buffer, out, 0)
+
+    then:
+    count == epochDays.length
+    out == epochDays
+    !buffer.hasRemaining()
+  }
+
+  def "consecutive dates take 1 byte each in a batch"() {
+    given:
+    long[] epochDays = (16000L..<17000L).toArray()
+    def buffer = ByteBuffer.allocate(DiscordianDateCodec.maxBatchLength(epochDays.length))
+
+    when:
+    DiscordianDateCodec.putAll(buffer, epochDays, 0, epochDays.length)
+
+    then:
+    buffer.position() == 2 + 3 + 999
+  }
+
+  def "part of an array can be written and read"() {
+    given:
+    long[] epochDays = [1, 2, 3, 4, 5]
+    def buffer = ByteBuffer.allocate(64)
+    def out = new long[5]
+
+    when:
+    DiscordianDateCodec.putAll(buffer, epochDays, 1, 3)
+    buffer.flip()
+    DiscordianDateCodec.getAll(buffer, out, 2)
+
+    then:
+    out == [0, 0, 2, 3, 4] as long[]
+  }
+
+  def "a batch that does not fit in the output array is rejected"() {
+    given:
+    long[] epochDays = [1, 2, 3]
+    def buffer = ByteBuffer.allocate(64)
+    DiscordianDateCodec.putAll(buffer, epochDays, 0, 3)
+    buffer.flip()
+
+    when:
+    DiscordianDateCodec.getAll(buffer, new long[2], 0)
+
+    then:
+    thrown IndexOutOfBoundsException
+  }
+
+  def "a range that overflows the end of the input array is rejected"() {
+    when:
+    DiscordianDateCodec.putAll(ByteBuffer.allocate(64), new long[3], 1, Integer.MAX_VALUE)
+
+    then:
+    thrown IndexOutOfBoundsException
+  }
+
+  def "the maximum length of a batch too large to encode is rejected"() {
+    when:
+    DiscordianDateCodec.maxBatchLength(Integer.MAX_VALUE)
+
+    then:
+    thrown ArithmeticException
+  }
+
+  def "invalid epoch days cannot be encoded"() {
+    when:
+    DiscordianDateCodec.putAll(ByteBuffer.allocate(64), [Long.MAX_VALUE] as long[], 0, 1)
+
+    then:
+    thrown DateTimeException
+  }
+
+  def "invalid epoch days cannot be decoded"() {
+    given:
+    def buffer = ByteBuffer.wrap([0xfe, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0x01] as byte[])
+
+    when:
+    DiscordianDateCodec.get(buffer)
+
+    then:
+    thrown DateTimeException
+  }
+
+  def "writing to a full buffer fails"() {
+    when:
+    DiscordianDateCodec.put(ByteBuffer.allocate(1), chronology.date(3179, 2, 5))
+
+    then:
+    thrown BufferOverflowException
+  }
+
+  def "a malformed serialized epoch day is a stream error"() {
+    given:
+    def input = new DataInputStream(new ByteArrayInputStream([0x80] * 10 as byte[]))
+
+    when:
+    DiscordianDateCodec.readEpochDay(input)
+
+    then:
+    thrown StreamCorruptedException
+  }
+
+  @Unroll
+  def "#ddate can be serialized"() {
+    expect:
+    deserialize(serialize(ddate)) == ddate
+
+    where:
+    ddate << [chronology.date(3179, 2, 5), chronology.dateYearDay(3178, ST_TIBS_DAY), chronology.date(LocalDate.MIN)]
+  }
+
+  def "the serialized form is smaller than the ISO date written by earlier versions"() {
+    expect:
+    serialize(chronology.date(3179, 2, 5)).length < LEGACY_FORM.decodeBase64().length
+  }
+
+  def "dates serialized by earlier versions can still be read"() {
+    expect:
+    deserialize(LEGACY_FORM.decodeBase64()) == chronology.date(3179, 2, 5)
+  }
+
+  /**
+   * Discord 5, 3179 as serialized by the original version of this class.
+   */
+  private static final String LEGACY_FORM = "rO0ABXNyACZjby5mcmVlc2lkZS50aW1lLmNocm9uby5EaXNjb3JkaWFuRGF0ZVFFsQBPwYI8AgABTAAHaXNvRGF0ZXQAFUxqYXZhL3RpbWUvTG9jYWxEYXRlO3hwc3IADWphdmEudGltZS5TZXKVXYS6GyJIsgwAAHhwdwcDAAAH3QMTeA=="
+
+  private static byte[] serialize(object) {
+    def bytes = new ByteArrayOutputStream()
+    bytes.withObjectOutputStream { it.writeObject(object) }
+    bytes.toByteArray()
+  }
+
+  private static deserialize(byte[] bytes) {
+    new ByteArrayInputStream(bytes).withObjectInputStream(DiscordianDate.classLoader) { it.readObject() }
+  }
+}
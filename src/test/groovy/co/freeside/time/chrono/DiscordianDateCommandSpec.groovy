@@ -0,0 +1,81 @@
+package co.freeside.time.chrono
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.channels.Channels
+import java.nio.file.Files
+import java.time.Clock
+import java.time.LocalDate
+import java.time.ZoneOffset
+
+class DiscordianDateCommandSpec extends Specification {
+
+  def clock = Clock.fixed(LocalDate.of(2013, 3, 30).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC)
+  def stdin = new ByteArrayInputStream(new byte[0])
+  def stdout = new ByteArrayOutputStream()
+  def stderr = new ByteArrayOutputStream()
+
+  private int ddate(String... args) {
+    def command = new DiscordianDateCommand(clock, Channels.newChannel(stdin), Channels.newChannel(stdout), new PrintStream(stderr, true))
+    command.run(args)
+  }
+
+  def "with no arguments outputs today's date like ddate"() {
+    expect:
+    ddate() == 0
+    stdout.toString("UTF-8") == "Today is Prickle-Prickle, the 16th day of Discord in the YOLD 3179\n"
+  }
+
+  @Unroll
+  def "ddate #args outputs '#expected'"() {
+    expect:
+    ddate(args as String[]) == 0
+    stdout.toString("UTF-8") == expected + "\n"
+
+    where:
+    args                             | expected
+    ["30", "3", "2013"]              | "Prickle-Prickle, Discord 16, 3179 YOLD"
+    ["29", "2", "2012"]              | "St. Tib's Day! 3178 YOLD"
+    ["+%A %e %B %Y"]                 | "Prickle-Prickle 16th Discord 3179"
+    ["+%A %e %B %Y", "1", "1", "1970"] | "Sweetmorn 1st Chaos 3136"
+  }
+
+  @Unroll
+  def "ddate #args fails"() {
+    expect:
+    ddate(args as String[]) == 1
+    stdout.size() == 0
+    stderr.size() > 0
+
+    where:
+    args << [["31", "2", "2013"], ["fnord"], ["1", "2"], ["+%Q"]]
+  }
+
+  def "converts standard input in batch mode"() {
+    given:
+    stdin = new ByteArrayInputStream("2013-03-30\n2012-02-29\n".bytes)
+
+    expect:
+    ddate("--batch") == 0
+    stdout.toString("UTF-8") == "Prickle-Prickle, Discord 16, 3179 YOLD\nSt. Tib's Day! 3178 YOLD\n"
+  }
+
+  def "converts files of epoch days in batch mode"() {
+    given:
+    def file1 = Files.createTempFile("ddate", ".txt")
+    def file2 = Files.createTempFile("ddate", ".txt")
+    file1.toFile().text = "0\n"
+    file2.toFile().text = "15794\nfnord\n"
+    stdin = new ByteArrayInputStream("-1\n".bytes)
+
+    expect:
+    ddate("+%d %b %Y", "--batch", "--epoch-days", file1.toString(), "-", file2.toString()) == 1
+    stdout.toString("UTF-8") == "1 Chs 3136\n73 Afm 3135\n16 Dsc 3179\n\n"
+    stderr.toString("UTF-8").trim() == "ddate: 1 line was not a valid date"
+
+    cleanup:
+    Files.deleteIfExists(file1)
+    Files.deleteIfExists(file2)
+  }
+}
@@ -0,0 +1,248 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.LocalDate
+
+import static co.freeside.time.chrono.DiscordianDate.ST_TIBS_DAY
+import static java.util.stream.Collectors.toList
+
+class DiscordianDateFileSpec extends Specification {
+
+  @Shared chronology = DiscordianChronology.INSTANCE
+  @Shared long[] epochDays = (LocalDate.of(2012, 1, 1).toEpochDay()..<LocalDate.of(2015, 1, 1).toEpochDay()).toArray()
+
+  Path directory
+  Path file
+
+  def setup() {
+    directory = Files.createTempDirectory("ddate")
+    file = directory.resolve("dates.ddat")
+  }
+
+  def cleanup() {
+    directory.toFile().deleteDir()
+  }
+
+  @Unroll
+  def "dates survive a round trip through a file #description"() {
+    given:
+    write(withFields)
+
+    when:
+    def reader = DiscordianDateFileReader.open(file)
+
+    then:
+    reader.size() == epochDays.length
+    reader.hasFields() == withFields
+    (0..<epochDays.length).every { i ->
+      def ddate = chronology.dateEpochDay(epochDays[i])
+      reader.epochDay(i) == epochDays[i] &&
+          reader.date(i) == ddate &&
+          reader.season(i) == ddate.season &&
+          reader.dayOfSeason(i) == ddate.dayOfSeason &&
+          reader.dayOfWeek(i) == ddate.dayOfWeek
+    }
+
+    cleanup:
+    reader?.close()
+
+    where:
+    withFields | description
+    true       | "with fields"
+    false      | "without fields"
+  }
+
+  def "St. Tib's Day has no season, day of season or day of week"() {
+    given:
+    def writer = DiscordianDateFileWriter.create(file, true)
+    writer.write(chronology.dateYearDay(3178, ST_TIBS_DAY))
+    writer.close()
+
+    and:
+    def reader = DiscordianDateFileReader.open(file)
+
+    expect:
+    reader.date(0) == chronology.dateYearDay(3178, ST_TIBS_DAY)
+    reader.season(0) == 0
+    reader.dayOfSeason(0) == 0
+    reader.dayOfWeek(0) == 0
+
+    cleanup:
+    reader?.close()
+  }
+
+  @Unroll
+  def "files can be read across chunk boundaries #description"() {
+    given:
+    write(withFields)
+
+    when:
+    def reader = DiscordianDateFileReader.open(file, 4)
+
+    then:
+    reader.epochDays().toArray() == epochDays
+    reader.epochDays().parallel().toArray() == epochDays
+    reader.daysOfSeason().toArray() == epochDays.collect { chronology.dateEpochDay(it).dayOfSeason } as int[]
+
+    cleanup:
+    reader?.close()
+
+    where:
+    withFields | description
+    true       | "with fields"
+    false      | "without fields"
+  }
+
+  def "field streams match the dates"() {
+    given:
+    write(true)
+    def reader = DiscordianDateFileReader.open(file)
+    def dates = epochDays.collect { chronology.dateEpochDay(it) }
+
+    expect:
+    reader.dates().collect(toList()) == dates
+    reader.seasons().parallel().toArray() == dates.season as int[]
+    reader.daysOfSeason().toArray() == dates.dayOfSeason as int[]
+    reader.daysOfWeek().toArray() == dates.dayOfWeek as int[]
+
+    cleanup:
+    reader?.close()
+  }
+
+  def "a cursor visits every date in order"() {
+    given:
+    write(true)
+    def reader = DiscordianDateFileReader.open(file)
+    def cursor = reader.cursor()
+    def visited = []
+
+    when:
+    while (cursor.next()) {
+      assert cursor.season() == cursor.date().season
+      assert cursor.dayOfWeek() == cursor.date().dayOfWeek
+      visited << cursor.epochDay()
+    }
+
+    then:
+    visited == epochDays as List
+
+    and:
+    !cursor.next()
+
+    cleanup:
+    reader?.close()
+  }
+
+  def "a cursor must be advanced before it is read"() {
+    given:
+    write(false)
+    def reader = DiscordianDateFileReader.open(file)
+
+    when:
+    reader.cursor().epochDay()
+
+    then:
+    thrown IndexOutOfBoundsException
+
+    cleanup:
+    reader?.close()
+  }
+
+  @Unroll
+  def "cannot read index #index"() {
+    given:
+    write(false)
+    def reader = DiscordianDateFileReader.open(file)
+
+    when:
+    reader.epochDay(index)
+
+    then:
+    thrown IndexOutOfBoundsException
+
+    cleanup:
+    reader?.close()
+
+    where:
+    index << [-1L, epochDays.length]
+  }
+
+  def "an empty file can be written and read"() {
+    given:
+    DiscordianDateFileWriter.create(file, true).close()
+    def reader = DiscordianDateFileReader.open(file)
+
+    expect:
+    reader.size() == 0
+    reader.epochDays().count() == 0
+    !reader.cursor().next()
+
+    cleanup:
+    reader?.close()
+  }
+
+  def "the temporary fields file is removed when the writer is closed"() {
+    given:
+    write(true)
+
+    expect:
+    directory.toFile().list() as List == ["dates.ddat"]
+  }
+
+  def "a file without the right magic number is rejected"() {
+    given:
+    file.bytes = new byte[64]
+
+    when:
+    DiscordianDateFileReader.open(file)
+
+    then:
+    def e = thrown(IOException)
+    e.message == "Not a Discordian date file"
+  }
+
+  def "a truncated file is rejected"() {
+    given:
+    write(true)
+    def bytes = file.bytes
+    file.bytes = Arrays.copyOf(bytes, bytes.length - 1)
+
+    when:
+    DiscordianDateFileReader.open(file)
+
+    then:
+    thrown IOException
+  }
+
+  def "a file with an impossible count is rejected"() {
+    given:
+    write(false)
+    def bytes = file.bytes
+    ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putLong(16, Long.MAX_VALUE)
+    file.bytes = bytes
+
+    when:
+    DiscordianDateFileReader.open(file)
+
+    then:
+    thrown IOException
+  }
+
+  private void write(boolean withFields) {
+    def writer = DiscordianDateFileWriter.create(file, withFields)
+    try {
+      writer.write(epochDays[0])
+      writer.write(chronology.dateEpochDay(epochDays[1]))
+      writer.writeAll(epochDays, 2, epochDays.length - 2)
+    } finally {
+      writer.close()
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.DateTimeException
+import java.time.LocalDate
+import java.util.stream.Collectors
+
+import static co.freeside.time.chrono.DiscordianDate.ST_TIBS_DAY
+import static java.time.temporal.ChronoUnit.*
+
+class DiscordianDateRangeSpec extends Specification {
+
+  @Shared chronology = DiscordianChronology.INSTANCE
+
+  @Unroll
+  def "range from #start to #end by #amount #unit has #size elements"() {
+    given:
+    def range = DiscordianDateRange.of(start, end).by(amount, unit)
+
+    expect:
+    range.size() == size
+    range.stream().count() == size
+    range.epochDays().count() == size
+    range.iterator().collect().size() == size
+
+    where:
+    start                        | end                          | amount | unit   | size
+    chronology.date(3179, 1, 1)  | chronology.date(3179, 1, 1)  | 1      | DAYS   | 0
+    chronology.date(3179, 1, 2)  | chronology.date(3179, 1, 1)  | 1      | DAYS   | 0
+    chronology.date(3179, 1, 1)  | chronology.date(3179, 1, 2)  | 1      | DAYS   | 1
+    chronology.date(3179, 1, 1)  | chronology.date(3180, 1, 1)  | 1      | DAYS   | 365
+    chronology.date(3178, 1, 1)  | chronology.date(3179, 1, 1)  | 1      | DAYS   | 366
+    chronology.date(3179, 1, 1)  | chronology.date(3180, 1, 1)  | 1      | WEEKS  | 73
+    chronology.date(3179, 1, 1)  | chronology.date(3180, 1, 1)  | 1      | MONTHS | 5
+    chronology.date(3179, 1, 1)  | chronology.date(3179, 1, 12) | 5      | DAYS   | 3
+  }
+
+  def "steps follow the semantics of plus"() {
+    given:
+    def start = chronology.dateYearDay(3178, ST_TIBS_DAY)
+    def range = DiscordianDateRange.of(start, chronology.date(3180, 1, 1)).by(2, unit)
+
+    expect:
+    range.iterator().collect() == (0..<range.size()).collect { start.plus(2 * it, unit) }
+
+    where:
+    unit << [DAYS, WEEKS, MONTHS]
+  }
+
+  def "parallel streams produce the same dates in the same order"() {
+    given:
+    def range = DiscordianDateRange.of(chronology.date(LocalDate.of(1900, 1, 1)), chronology.date(LocalDate.of(2100, 1, 1)))
+
+    expect:
+    range.parallelStream().collect(Collectors.toList()) == range.stream().collect(Collectors.toList())
+    range.epochDays().parallel().sum() == range.epochDays().sum()
+  }
+
+  def "spliterator splits evenly"() {
+    given:
+    def spliterator = DiscordianDateRange.of(chronology.date(3179, 1, 1), chronology.date(3180, 1, 1)).epochDaySpliterator()
+
+    when:
+    def prefix = spliterator.trySplit()
+
+    then:
+    prefix.estimateSize() == 182
+    spliterator.estimateSize() == 183
+  }
+
+  @Unroll
+  def "cannot step by #amount #unit"() {
+    when:
+    DiscordianDateRange.of(chronology.date(3179, 1, 1), chronology.date(3180, 1, 1)).by(amount, unit)
+
+    then:
+    thrown exception
+
+    where:
+    amount | unit  | exception
+    0      | DAYS  | IllegalArgumentException
+    -1     | DAYS  | IllegalArgumentException
+    1      | YEARS | DateTimeException
+  }
+}
@@ -0,0 +1,275 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.*
+
+import static java.time.temporal.ChronoField.*
+import static java.time.temporal.ChronoUnit.*
+
+class DiscordianDateTimeSpec extends Specification {
+
+  @Shared chronology = DiscordianChronology.INSTANCE
+  @Shared zones = ["UTC", "Europe/London", "America/Los_Angeles", "Australia/Lord_Howe", "Asia/Kathmandu", "+05:30"].collect { ZoneId.of(it) }
+
+  def "a date can be combined with a time"() {
+    given:
+    def ddate = chronology.date(3179, 2, 5)
+    def time = LocalTime.of(23, 5, 17)
+
+    when:
+    def dateTime = ddate.atTime(time)
+
+    then:
+    dateTime instanceof DiscordianDateTime
+    dateTime.toLocalDate() == ddate
+    dateTime.toLocalTime() == time
+    dateTime.get(MONTH_OF_YEAR) == 2
+    dateTime.get(DAY_OF_MONTH) == 5
+    dateTime.get(HOUR_OF_DAY) == 23
+    dateTime.getLong(NANO_OF_DAY) == time.toNanoOfDay()
+    dateTime.toString() == "Pungenday, Discord 5, 3179 YOLD 23:05:17"
+  }
+
+  def "the chronology converts ISO date-times"() {
+    given:
+    def isoDateTime = LocalDateTime.of(2012, 2, 29, 12, 30)
+
+    when:
+    def dateTime = chronology.localDateTime(isoDateTime)
+
+    then:
+    dateTime instanceof DiscordianDateTime
+    dateTime.toLocalDate() == chronology.date(isoDateTime.toLocalDate())
+    dateTime.toLocalTime() == isoDateTime.toLocalTime()
+    LocalDateTime.from(dateTime) == isoDateTime
+  }
+
+  def "the chronology converts zoned ISO date-times"() {
+    given:
+    def isoDateTime = ZonedDateTime.of(2013, 3, 31, 1, 30, 0, 0, ZoneId.of("Europe/London"))
+
+    when:
+    def dateTime = chronology.zonedDateTime(isoDateTime)
+
+    then:
+    dateTime instanceof DiscordianZonedDateTime
+    dateTime.toInstant() == isoDateTime.toInstant()
+    dateTime.offset == isoDateTime.offset
+    dateTime.zone == isoDateTime.zone
+    chronology.zonedDateTime(isoDateTime.toInstant(), isoDateTime.zone) == dateTime
+  }
+
+  def "a date-time without a time cannot be converted"() {
+    when:
+    chronology.localDateTime(LocalDate.of(2013, 1, 1))
+
+    then:
+    thrown DateTimeException
+  }
+
+  @Unroll
+  def "epoch millis convert to the same date-time as ZonedDateTime in #zone"() {
+    given:
+    def random = new Random(zone.hashCode())
+
+    expect:
+    (0..<2000).every {
+      def epochMilli = random.nextLong() % 10_000_000_000_000L
+      def iso = Instant.ofEpochMilli(epochMilli).atZone(zone)
+      def dateTime = DiscordianZonedDateTime.ofEpochMilli(epochMilli, zone)
+      dateTime.toLocalDateTime() == chronology.localDateTime(iso.toLocalDateTime()) &&
+          dateTime.offset == iso.offset &&
+          dateTime.toInstant() == iso.toInstant() &&
+          DiscordianDateTime.ofEpochMilli(epochMilli, zone) == dateTime.toLocalDateTime()
+    }
+
+    where:
+    zone << zones
+  }
+
+  @Unroll
+  def "offsets are correct either side of every transition in #zone"() {
+    given:
+    def rules = zone.rules
+    def transitions = []
+    def transition = rules.nextTransition(Instant.parse("1990-01-01T00:00:00Z"))
+    while (transition && transition.instant.isBefore(Instant.parse("2040-01-01T00:00:00Z"))) {
+      transitions << transition
+      transition = rules.nextTransition(transition.instant)
+    }
+
+    expect:
+    transitions.size() > 10
+    transitions.every { t ->
+      [-3601L, -1L, 0L, 1L, 3600L].every { delta ->
+        def epochSecond = t.toEpochSecond() + delta
+        DiscordianZonedDateTime.ofEpochSecond(epochSecond, 0, zone).offset == rules.getOffset(Instant.ofEpochSecond(epochSecond))
+      }
+    }
+
+    where:
+    zone << [ZoneId.of("Europe/London"), ZoneId.of("America/Los_Angeles"), ZoneId.of("Australia/Lord_Howe")]
+  }
+
+  @Unroll
+  def "the offset at #instant in #zone is the same as the zone rules give"() {
+    expect:
+    DiscordianZoneOffsets.offsetAt(zone, instant.epochSecond) == zone.rules.getOffset(instant)
+
+    where:
+    [instant, zone] << [[Instant.MIN, Instant.MAX], zones].combinations()
+  }
+
+  @Unroll
+  def "#instant in #zone fails in the same way as ZonedDateTime"() {
+    when:
+    ZonedDateTime.ofInstant(instant, zone)
+
+    then:
+    def expected = thrown(DateTimeException)
+
+    when:
+    DiscordianZonedDateTime.ofInstant(instant, zone)
+
+    then:
+    def e = thrown(DateTimeException)
+    e.message == expected.message
+
+    where:
+    [instant, zone] << [[Instant.MIN, Instant.MAX], [ZoneId.of("Europe/London"), ZoneId.of("UTC")]].combinations()
+  }
+
+  def "the latest instant ZonedDateTime supports converts in the same way"() {
+    given:
+    def zone = ZoneId.of("Europe/London")
+    def iso = ZonedDateTime.of(LocalDateTime.MAX, zone)
+
+    expect:
+    DiscordianZonedDateTime.ofInstant(iso.toInstant(), zone).toLocalDateTime() == chronology.localDateTime(iso.toLocalDateTime())
+  }
+
+  @Unroll
+  def "#localTime on #isoDate in #zone resolves in the same way as ZonedDateTime"() {
+    given:
+    def iso = ZonedDateTime.of(isoDate, localTime, zone)
+
+    when:
+    def dateTime = DiscordianZonedDateTime.of(chronology.localDateTime(LocalDateTime.of(isoDate, localTime)), zone)
+
+    then:
+    dateTime.toInstant() == iso.toInstant()
+    dateTime.offset == iso.offset
+    dateTime.toLocalDateTime() == chronology.localDateTime(iso.toLocalDateTime())
+    dateTime.withLaterOffsetAtOverlap().offset == iso.withLaterOffsetAtOverlap().offset
+    dateTime.withLaterOffsetAtOverlap().withEarlierOffsetAtOverlap().offset == iso.withEarlierOffsetAtOverlap().offset
+
+    where:
+    isoDate                    | localTime           | zone
+    LocalDate.of(2013, 3, 31)  | LocalTime.of(1, 30) | ZoneId.of("Europe/London") // gap
+    LocalDate.of(2013, 10, 27) | LocalTime.of(1, 30) | ZoneId.of("Europe/London") // overlap
+    LocalDate.of(2013, 7, 5)   | LocalTime.of(1, 30) | ZoneId.of("Europe/London")
+    LocalDate.of(2013, 7, 5)   | LocalTime.of(1, 30) | ZoneOffset.ofHours(-8)
+    LocalDate.of(2013, 7, 5)   | LocalTime.of(1, 30) | ZoneId.of("UTC")
+  }
+
+  @Unroll
+  def "adding #amount #unit gives the same result as LocalDateTime"() {
+    given:
+    def iso = LocalDateTime.of(2012, 2, 28, 23, 59, 59, 999_999_999)
+    def dateTime = chronology.localDateTime(iso)
+    // LocalDateTime on Java 8 adds large numbers of half days incorrectly
+    def isoUnit = unit == HALF_DAYS ? HOURS : unit
+    def isoAmount = unit == HALF_DAYS ? amount * 12 : amount
+
+    expect:
+    dateTime.plus(amount, unit) == chronology.localDateTime(iso.plus(isoAmount, isoUnit))
+    dateTime.minus(amount, unit) == chronology.localDateTime(iso.minus(isoAmount, isoUnit))
+    dateTime.until(dateTime.plus(amount, unit), unit) == amount
+
+    where:
+    [amount, unit] << [[0L, 1L, -1L, 7L, 1_000_000L, -86_400_001L], [NANOS, MICROS, MILLIS, SECONDS, MINUTES, HOURS, HALF_DAYS]].combinations() +
+        [[1L, -1L, 7L, 400L], [DAYS, YEARS]].combinations()
+  }
+
+  @Unroll
+  def "the number of #unit between date-times matches LocalDateTime"() {
+    given:
+    def random = new Random(unit.ordinal())
+
+    expect:
+    (0..<500).every {
+      def start = LocalDateTime.ofEpochSecond(random.nextInt(), random.nextInt(1_000_000_000), ZoneOffset.UTC)
+      def end = LocalDateTime.ofEpochSecond(random.nextInt(), random.nextInt(1_000_000_000), ZoneOffset.UTC)
+      chronology.localDateTime(start).until(chronology.localDateTime(end), unit) == start.until(end, unit)
+    }
+
+    where:
+    unit << [NANOS, SECONDS, HOURS, HALF_DAYS, DAYS, YEARS]
+  }
+
+  def "time units are added to the instant and date units to the local date-time across a transition"() {
+    given:
+    def zone = ZoneId.of("Europe/London")
+    def iso = ZonedDateTime.of(2013, 3, 30, 12, 0, 0, 0, zone)
+    def dateTime = chronology.zonedDateTime(iso)
+
+    expect:
+    dateTime.plus(24, HOURS).toInstant() == iso.plus(24, HOURS).toInstant()
+    dateTime.plus(1, DAYS).toInstant() == iso.plus(1, DAYS).toInstant()
+    dateTime.until(dateTime.plus(1, DAYS), HOURS) == 24 - 1
+    dateTime.until(dateTime.plus(1, DAYS), DAYS) == 1
+  }
+
+  def "fields can be set"() {
+    given:
+    def dateTime = DiscordianDateTime.of(chronology.date(3179, 2, 5), LocalTime.of(12, 0))
+
+    expect:
+    dateTime.with(HOUR_OF_DAY, 3) == DiscordianDateTime.of(chronology.date(3179, 2, 5), LocalTime.of(3, 0))
+    dateTime.with(DAY_OF_MONTH, 73) == DiscordianDateTime.of(chronology.date(3179, 2, 73), LocalTime.of(12, 0))
+    dateTime.with(chronology.date(3180, 1, 1)) == DiscordianDateTime.of(chronology.date(3180, 1, 1), LocalTime.of(12, 0))
+    dateTime.with(LocalTime.MIDNIGHT) == DiscordianDateTime.of(chronology.date(3179, 2, 5), LocalTime.MIDNIGHT)
+    dateTime.with(LocalDate.of(2014, 1, 1)) == DiscordianDateTime.of(chronology.date(3180, 1, 1), LocalTime.of(12, 0))
+    dateTime.plus(Duration.ofHours(13)) == DiscordianDateTime.of(chronology.date(3179, 2, 6), LocalTime.of(1, 0))
+    dateTime.minus(chronology.period(0, 0, 5)) == DiscordianDateTime.of(chronology.date(3179, 1, 73), LocalTime.of(12, 0))
+  }
+
+  def "zoned fields can be set"() {
+    given:
+    def zone = ZoneId.of("Europe/London")
+    def iso = ZonedDateTime.of(2013, 10, 27, 1, 30, 0, 0, zone)
+    def dateTime = chronology.zonedDateTime(iso)
+
+    expect:
+    dateTime.with(INSTANT_SECONDS, 0).toInstant() == Instant.EPOCH
+    dateTime.with(OFFSET_SECONDS, 0).offset == ZoneOffset.UTC
+    dateTime.with(OFFSET_SECONDS, 7200).offset == iso.offset
+    dateTime.with(HOUR_OF_DAY, 12).toInstant() == iso.with(HOUR_OF_DAY, 12).toInstant()
+    dateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime() == chronology.localDateTime(iso.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime())
+    dateTime.withZoneSameLocal(ZoneOffset.UTC).toInstant() == iso.withZoneSameLocal(ZoneOffset.UTC).toInstant()
+    dateTime.getLong(INSTANT_SECONDS) == iso.toEpochSecond()
+    dateTime.get(OFFSET_SECONDS) == iso.offset.totalSeconds
+  }
+
+  def "date-times can be serialized"() {
+    given:
+    def dateTime = DiscordianZonedDateTime.ofEpochMilli(1_400_000_000_000L, ZoneId.of("Europe/London"))
+
+    expect:
+    deserialize(serialize(dateTime)) == dateTime
+    deserialize(serialize(dateTime.toLocalDateTime())) == dateTime.toLocalDateTime()
+  }
+
+  private static byte[] serialize(object) {
+    def bytes = new ByteArrayOutputStream()
+    bytes.withObjectOutputStream { it.writeObject(object) }
+    bytes.toByteArray()
+  }
+
+  private static deserialize(byte[] bytes) {
+    new ByteArrayInputStream(bytes).withObjectInputStream(DiscordianDate.classLoader) { it.readObject() }
+  }
+}
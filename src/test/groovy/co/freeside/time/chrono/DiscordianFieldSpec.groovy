@@ -0,0 +1,185 @@
+package co.freeside.time.chrono
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.DateTimeException
+import java.time.LocalDate
+import java.time.format.DateTimeFormatterBuilder
+import java.time.format.DateTimeParseException
+import java.time.format.ResolverStyle
+import java.time.format.TextStyle
+import java.time.temporal.UnsupportedTemporalTypeException
+
+import static co.freeside.time.chrono.DiscordianField.*
+
+class DiscordianFieldSpec extends Specification {
+
+  @Unroll
+  def "#date has season #season, day-of-season #dayOfSeason and day-of-week #dayOfWeek"() {
+    expect:
+    date.getLong(SEASON) == season
+    date.getLong(DAY_OF_SEASON) == dayOfSeason
+    date.getLong(DAY_OF_WEEK) == dayOfWeek
+    date.getLong(ST_TIBS_DAY) == 0
+
+    where:
+    date                                 | season | dayOfSeason | dayOfWeek
+    DiscordianDate.of(3179, 2, 16)       | 2      | 16          | 4
+    LocalDate.of(2013, 3, 30)            | 2      | 16          | 4
+    LocalDate.of(1970, 1, 1)             | 1      | 1           | 1
+    LocalDate.of(2012, 12, 31)           | 5      | 73          | 5
+  }
+
+  @Unroll
+  def "only #field is supported by St. Tib's Day"() {
+    given:
+    def date = LocalDate.of(2012, 2, 29)
+
+    expect:
+    field.isSupportedBy(date) == (field == ST_TIBS_DAY)
+
+    where:
+    field << DiscordianField.values()
+  }
+
+  def "St. Tib's Day has no season"() {
+    when:
+    DiscordianDate.ofLeapDay(3178).getLong(SEASON)
+
+    then:
+    thrown UnsupportedTemporalTypeException
+  }
+
+  @Unroll
+  def "setting #field to #value on #date gives #expected"() {
+    expect:
+    date.with(field, value) == expected
+
+    where:
+    date                      | field        | value | expected
+    LocalDate.of(2013, 3, 30) | SEASON       | 1     | LocalDate.of(2013, 1, 16)
+    LocalDate.of(2013, 3, 30) | DAY_OF_SEASON | 1    | LocalDate.of(2013, 3, 15)
+    LocalDate.of(2013, 3, 30) | DAY_OF_WEEK  | 1     | LocalDate.of(2013, 3, 27)
+    LocalDate.of(2012, 1, 1)  | ST_TIBS_DAY  | 1     | LocalDate.of(2012, 2, 29)
+    LocalDate.of(2012, 1, 1)  | ST_TIBS_DAY  | 0     | LocalDate.of(2012, 1, 1)
+  }
+
+  def "adjusting a Discordian date gives a Discordian date"() {
+    expect:
+    DiscordianDate.of(3178, 1, 1).with(ST_TIBS_DAY, 1) == DiscordianDate.ofLeapDay(3178)
+  }
+
+  @Unroll
+  def "cannot set #field to #value on #date"() {
+    when:
+    date.with(field, value)
+
+    then:
+    thrown DateTimeException
+
+    where:
+    date                      | field        | value
+    LocalDate.of(2013, 1, 1)  | ST_TIBS_DAY  | 1
+    LocalDate.of(2012, 2, 29) | ST_TIBS_DAY  | 0
+    LocalDate.of(2012, 2, 29) | SEASON       | 1
+    LocalDate.of(2013, 1, 1)  | SEASON       | 6
+  }
+
+  def "text maps contain names in value order"() {
+    expect:
+    SEASON.getTextMap(TextStyle.FULL) == [1L: "Chaos", 2L: "Discord", 3L: "Confusion", 4L: "Bureaucracy", 5L: "The Aftermath"]
+    DAY_OF_WEEK.getTextMap(TextStyle.SHORT_STANDALONE) == [1L: "SM", 2L: "BT", 3L: "PD", 4L: "PP", 5L: "SO"]
+    ST_TIBS_DAY.getText(1, TextStyle.FULL) == "St. Tib's Day"
+    DAY_OF_SEASON.getTextMap(TextStyle.FULL).isEmpty()
+  }
+
+  @Unroll
+  def "formats #date as '#expected'"() {
+    expect:
+    DiscordianDateTimeFormatters.DEFAULT.format(date) == expected
+    DiscordianDateTimeFormatters.DEFAULT.format(date) == DiscordianChronology.INSTANCE.date(date).toString()
+
+    where:
+    date                      | expected
+    LocalDate.of(2013, 3, 30) | "Prickle-Prickle, Discord 16, 3179 YOLD"
+    LocalDate.of(2012, 2, 29) | "St. Tib's Day! 3178 YOLD"
+    LocalDate.of(1970, 1, 1)  | "Sweetmorn, Chaos 1, 3136 YOLD"
+  }
+
+  @Unroll
+  def "parses '#text'"() {
+    expect:
+    DiscordianChronology.INSTANCE.date(DiscordianDateTimeFormatters.DEFAULT.parse(text)) == expected
+
+    where:
+    text                                     | expected
+    "Prickle-Prickle, Discord 16, 3179 YOLD" | DiscordianDate.of(3179, 2, 16)
+    "St. Tib's Day! 3178 YOLD"               | DiscordianDate.ofLeapDay(3178)
+    "Setting Orange, The Aftermath 73, 3135 YOLD" | DiscordianDate.of(3135, 5, 73)
+  }
+
+  def "short formatter round trips"() {
+    given:
+    def date = DiscordianDate.of(3179, 2, 16)
+    def text = DiscordianDateTimeFormatters.SHORT.format(date)
+
+    expect:
+    text == "PP, Dsc 16, 3179 YOLD"
+    DiscordianChronology.INSTANCE.date(DiscordianDateTimeFormatters.SHORT.parse(text)) == date
+  }
+
+  @Unroll
+  def "cannot parse '#text'"() {
+    when:
+    DiscordianDateTimeFormatters.DEFAULT.parse(text)
+
+    then:
+    thrown DateTimeParseException
+
+    where:
+    text << [
+        "Sweetmorn, Discord 16, 3179 YOLD",
+        "St. Tib's Day! 3179 YOLD",
+        "Sweetmorn, Chaos 74, 3179 YOLD",
+        "fnord"
+    ]
+  }
+
+  def "a lenient formatter ignores a conflicting day of the week"() {
+    given:
+    def formatter = DiscordianDateTimeFormatters.DEFAULT.withResolverStyle(ResolverStyle.LENIENT)
+
+    expect:
+    DiscordianChronology.INSTANCE.date(formatter.parse("Sweetmorn, Discord 16, 3179 YOLD")) == DiscordianDate.of(3179, 2, 16)
+  }
+
+  def "fields resolve to the formatter's chronology"() {
+    given:
+    def formatter = new DateTimeFormatterBuilder()
+        .appendValue(java.time.temporal.ChronoField.YEAR)
+        .appendLiteral('-')
+        .appendValue(SEASON)
+        .appendLiteral('-')
+        .appendValue(DAY_OF_SEASON)
+        .toFormatter()
+        .withChronology(DiscordianChronology.INSTANCE)
+
+    expect:
+    DiscordianChronology.INSTANCE.date(formatter.parse("3179-2-16")) == DiscordianDate.of(3179, 2, 16)
+    formatter.format(LocalDate.of(2013, 3, 30)) == "3179-2-16"
+  }
+
+  @Unroll
+  def "the #style display name of the era is #expected"() {
+    expect:
+    DiscordianEra.YOLD.getDisplayName(style, Locale.ROOT) == expected
+
+    where:
+    style                      | expected
+    TextStyle.FULL             | "Year of Our Lady of Discord"
+    TextStyle.FULL_STANDALONE  | "Year of Our Lady of Discord"
+    TextStyle.SHORT            | "YOLD"
+    TextStyle.NARROW           | "YOLD"
+  }
+}
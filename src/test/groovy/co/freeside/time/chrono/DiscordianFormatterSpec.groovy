@@ -0,0 +1,115 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.CharBuffer
+import java.nio.charset.StandardCharsets
+
+import static co.freeside.time.chrono.DiscordianDate.ST_TIBS_DAY
+
+class DiscordianFormatterSpec extends Specification {
+
+  @Shared chronology = DiscordianChronology.INSTANCE
+
+  @Unroll
+  def "#ddate formatted with '#pattern' is '#expected'"() {
+    expect:
+    DiscordianFormatter.ofPattern(pattern).format(ddate) == expected
+
+    where:
+    ddate                                     | pattern                         | expected
+    chronology.date(3179, 2, 19)              | "%A, %B %d, %Y YOLD"            | "Boomtime, Discord 19, 3179 YOLD"
+    chronology.date(3179, 2, 19)              | "%a %b %e"                      | "BT Dsc 19th"
+    chronology.date(3179, 1, 1)               | "%e"                            | "1st"
+    chronology.date(3179, 1, 2)               | "%e"                            | "2nd"
+    chronology.date(3179, 1, 3)               | "%e"                            | "3rd"
+    chronology.date(3179, 1, 11)              | "%e"                            | "11th"
+    chronology.date(3179, 1, 13)              | "%e"                            | "13th"
+    chronology.date(3179, 1, 73)              | "%e"                            | "73rd"
+    chronology.date(3179, 1, 5)               | "%H"                            | "Mungday"
+    chronology.date(3179, 5, 50)              | "%H"                            | "Afflux"
+    chronology.date(3179, 5, 51)              | "%H"                            | ""
+    chronology.date(3179, 5, 51)              | "%Y%N is a holyday"             | "3179"
+    chronology.date(3179, 3, 5)               | "%Y%N is %H"                    | "3179 is Syaday"
+    chronology.date(-1, 1, 1)                 | "%Y"                            | "-1"
+    chronology.date(3179, 1, 1)               | "100%% %t%n"                    | "100% \t\n"
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | "%{%A, %B %d%}, %Y YOLD"        | "St. Tib's Day, 3178 YOLD"
+    chronology.date(3178, 1, 60)              | "%{%A, %B %d%}, %Y YOLD"        | "Setting Orange, Chaos 60, 3178 YOLD"
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | "%A%B%d%e %Y"                   | " 3178"
+  }
+
+  @Unroll
+  def "#ddate formats the same way as toString"() {
+    expect:
+    DiscordianFormatter.DEFAULT.format(ddate) == ddate.toString()
+
+    where:
+    ddate << [chronology.date(3179, 2, 19), chronology.dateYearDay(3178, ST_TIBS_DAY)]
+  }
+
+  def "ddate's default format"() {
+    expect:
+    DiscordianFormatter.DDATE.format(chronology.date(3179, 2, 19)) == "Today is Boomtime, the 19th day of Discord in the YOLD 3179"
+    DiscordianFormatter.DDATE.format(chronology.date(3179, 2, 5)) == "Today is Pungenday, the 5th day of Discord in the YOLD 3179\nCelebrate Mojoday"
+  }
+
+  def "salutations are repeatable"() {
+    given:
+    def formatter = DiscordianFormatter.ofPattern("%.")
+    def ddate = chronology.date(3179, 2, 19)
+
+    expect:
+    formatter.format(ddate) == formatter.format(ddate)
+    !formatter.format(ddate).empty
+  }
+
+  @Unroll
+  def "can format #ddate into a byte array"() {
+    given:
+    def formatter = DiscordianFormatter.DDATE
+    def buffer = new byte[formatter.maxLength() + 3]
+
+    when:
+    def end = formatter.formatTo(ddate, buffer, 3)
+
+    then:
+    new String(buffer, 3, end - 3, StandardCharsets.UTF_8) == formatter.format(ddate)
+
+    where:
+    ddate << [chronology.date(3179, 2, 19), chronology.date(3179, 2, 5), chronology.dateYearDay(3178, ST_TIBS_DAY)]
+  }
+
+  def "can format into a CharBuffer"() {
+    given:
+    def buffer = CharBuffer.allocate(64)
+    def ddate = chronology.date(3179, 2, 19)
+
+    when:
+    DiscordianFormatter.DEFAULT.formatTo(ddate, buffer)
+
+    then:
+    buffer.flip().toString() == ddate.toString()
+  }
+
+  def "can format into an existing StringBuilder"() {
+    given:
+    def buffer = new StringBuilder("Today is ")
+
+    expect:
+    DiscordianFormatter.ofPattern("%B %d").formatTo(chronology.date(3179, 2, 19), buffer).toString() == "Today is Discord 19"
+  }
+
+  @Unroll
+  def "'#pattern' is not a valid pattern"() {
+    when:
+    DiscordianFormatter.ofPattern(pattern)
+
+    then:
+    thrown IllegalArgumentException
+
+    where:
+    pattern << ["%Q", "%", "%{%{%}%}", "%}", "%{"]
+  }
+}
@@ -0,0 +1,148 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.DateTimeException
+import java.time.LocalDate
+import java.time.temporal.ChronoUnit
+
+import static co.freeside.time.chrono.DiscordianAdjusters.*
+import static co.freeside.time.chrono.DiscordianDate.ST_TIBS_DAY
+import static co.freeside.time.chrono.DiscordianHolyday.*
+
+class DiscordianHolydaySpec extends Specification {
+
+  @Shared chronology = DiscordianChronology.INSTANCE
+
+  @Unroll
+  def "the holyday on #ddate is #expected"() {
+    expect:
+    ddate.holyday == expected
+    ddate.isHolyday() == (expected != null)
+    ddate.holydayName() == expected?.displayName
+
+    where:
+    ddate                                     | expected
+    chronology.date(3179, 1, 5)               | MUNGDAY
+    chronology.date(3179, 1, 50)              | CHAOFLUX
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | DiscordianHolyday.ST_TIBS_DAY
+    chronology.date(3179, 2, 5)               | MOJODAY
+    chronology.date(3179, 5, 50)              | AFFLUX
+    chronology.date(3179, 1, 1)               | null
+    chronology.date(3178, 1, 60)              | null
+    chronology.date(3179, 3, 51)              | null
+  }
+
+  @Unroll
+  def "the holyday after #ddate is #expected"() {
+    expect:
+    ddate.with(nextHolyday()) == expected
+
+    where:
+    ddate                                     | expected
+    chronology.date(3179, 1, 1)               | chronology.date(3179, 1, 5)
+    chronology.date(3179, 1, 5)               | chronology.date(3179, 1, 50)
+    chronology.date(3179, 1, 50)              | chronology.date(3179, 2, 5)
+    chronology.date(3178, 1, 50)              | chronology.dateYearDay(3178, ST_TIBS_DAY)
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | chronology.date(3178, 2, 5)
+    chronology.date(3179, 5, 50)              | chronology.date(3180, 1, 5)
+  }
+
+  @Unroll
+  def "the holyday before #ddate is #expected"() {
+    expect:
+    ddate.with(previousHolyday()) == expected
+
+    where:
+    ddate                                     | expected
+    chronology.date(3179, 1, 50)              | chronology.date(3179, 1, 5)
+    chronology.date(3179, 2, 5)               | chronology.date(3179, 1, 50)
+    chronology.date(3178, 2, 5)               | chronology.dateYearDay(3178, ST_TIBS_DAY)
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | chronology.date(3178, 1, 50)
+    chronology.date(3179, 1, 5)               | chronology.date(3178, 5, 50)
+  }
+
+  @Unroll
+  def "the next #holyday after #ddate is #expected"() {
+    expect:
+    ddate.with(nextOccurrenceOf(holyday)) == expected
+
+    where:
+    ddate                                     | holyday                       | expected
+    chronology.date(3179, 1, 1)               | MUNGDAY                       | chronology.date(3179, 1, 5)
+    chronology.date(3179, 1, 5)               | MUNGDAY                       | chronology.date(3180, 1, 5)
+    chronology.date(3179, 1, 1)               | DiscordianHolyday.ST_TIBS_DAY | chronology.dateYearDay(3182, ST_TIBS_DAY)
+    chronology.date(3178, 1, 59)              | DiscordianHolyday.ST_TIBS_DAY | chronology.dateYearDay(3178, ST_TIBS_DAY)
+    chronology.dateYearDay(3178, ST_TIBS_DAY) | DiscordianHolyday.ST_TIBS_DAY | chronology.dateYearDay(3182, ST_TIBS_DAY)
+    chronology.date(3264, 5, 1)               | DiscordianHolyday.ST_TIBS_DAY | chronology.dateYearDay(3270, ST_TIBS_DAY)
+  }
+
+  @Unroll
+  def "the previous #holyday before #ddate is #expected"() {
+    expect:
+    ddate.with(previousOccurrenceOf(holyday)) == expected
+
+    where:
+    ddate                        | holyday                       | expected
+    chronology.date(3179, 1, 5)  | MUNGDAY                       | chronology.date(3178, 1, 5)
+    chronology.date(3179, 5, 73) | AFFLUX                        | chronology.date(3179, 5, 50)
+    chronology.date(3178, 1, 60) | DiscordianHolyday.ST_TIBS_DAY | chronology.dateYearDay(3178, ST_TIBS_DAY)
+    chronology.date(3178, 1, 59) | DiscordianHolyday.ST_TIBS_DAY | chronology.dateYearDay(3174, ST_TIBS_DAY)
+  }
+
+  def "holydays can be found by name"() {
+    expect:
+    chronology.date(3179, 1, 1).with(nextOccurrenceOf("Discoflux")) == chronology.date(3179, 2, 50)
+    ofName("St. Tib's Day") == DiscordianHolyday.ST_TIBS_DAY
+  }
+
+  def "an unknown holyday name is rejected"() {
+    when:
+    nextOccurrenceOf("Christmas")
+
+    then:
+    thrown IllegalArgumentException
+  }
+
+  def "adjusters work with ISO dates"() {
+    expect:
+    LocalDate.of(2012, 2, 20).with(nextHolyday()) == LocalDate.of(2012, 2, 29)
+    LocalDate.of(2013, 2, 20).with(nextHolyday()) == LocalDate.of(2013, 3, 19)
+    LocalDate.of(2013, 1, 1).with(previousHolyday()) == LocalDate.of(2012, 12, 8)
+  }
+
+  def "a holyday can be found in any year"() {
+    expect:
+    MALADAY.dateIn(3179) == chronology.date(3179, 5, 5)
+    DiscordianHolyday.ST_TIBS_DAY.dateIn(3178) == chronology.dateYearDay(3178, ST_TIBS_DAY)
+  }
+
+  def "St. Tib's Day does not occur in a non-leap year"() {
+    when:
+    DiscordianHolyday.ST_TIBS_DAY.dateIn(3179)
+
+    then:
+    thrown DateTimeException
+  }
+
+  def "adjusters agree with checking one day at a time"() {
+    given:
+    def from = chronology.date(3164, 1, 1)
+    def to = chronology.date(3184, 1, 1)
+
+    expect:
+    DiscordianDateRange.of(from, to).every { DiscordianDate ddate ->
+      def next = ddate.plus(1, ChronoUnit.DAYS)
+      while (!next.isHolyday()) {
+        next = next.plus(1, ChronoUnit.DAYS)
+      }
+      def previous = ddate.minus(1, ChronoUnit.DAYS)
+      while (!previous.isHolyday()) {
+        previous = previous.minus(1, ChronoUnit.DAYS)
+      }
+      ddate.with(nextHolyday()) == next && ddate.with(previousHolyday()) == previous
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.ZoneId
+import java.time.ZonedDateTime
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.logging.Level
+import java.util.logging.LogRecord
+
+class DiscordianLogFormatterSpec extends Specification {
+
+  @Shared zone = ZoneId.of("Europe/London")
+  @Shared renderer = DiscordianTimestampRenderer.of(zone)
+
+  @Unroll
+  def "renders #isoDateTime as #expected"() {
+    given:
+    def epochMilli = isoDateTime.toInstant().toEpochMilli()
+    def buffer = new byte[renderer.maxLength()]
+
+    expect:
+    renderer.format(epochMilli) == expected
+    new String(buffer, 0, renderer.formatTo(epochMilli, buffer, 0), "UTF-8") == expected
+
+    where:
+    isoDateTime                                                     | expected
+    ZonedDateTime.of(2013, 1, 1, 0, 0, 0, 0, zone)                  | "Sweetmorn, Chaos 1, 3179 YOLD 00:00:00.000"
+    ZonedDateTime.of(2013, 1, 1, 23, 59, 59, 999_000_000, zone)     | "Sweetmorn, Chaos 1, 3179 YOLD 23:59:59.999"
+    ZonedDateTime.of(2013, 7, 5, 9, 5, 7, 45_000_000, zone)         | "Sweetmorn, Confusion 40, 3179 YOLD 09:05:07.045"
+    ZonedDateTime.of(2012, 2, 29, 12, 0, 0, 0, zone)                | "St. Tib's Day! 3178 YOLD 12:00:00.000"
+    ZonedDateTime.of(1965, 3, 31, 12, 0, 0, 0, zone)                | "Setting Orange, Discord 17, 3131 YOLD 12:00:00.000"
+    ZonedDateTime.of(1935, 6, 15, 1, 2, 3, 4_000_000, ZoneId.of("UTC")) | "Sweetmorn, Confusion 20, 3101 YOLD 02:02:03.004"
+  }
+
+  def "renders times either side of a change in offset"() {
+    given:
+    def start = ZonedDateTime.of(2013, 3, 31, 0, 59, 59, 0, zone)
+
+    expect:
+    renderer.format(start.toInstant().toEpochMilli()).endsWith(" 00:59:59.000")
+    renderer.format(start.plusSeconds(1).toInstant().toEpochMilli()).endsWith(" 02:00:00.000")
+  }
+
+  def "formats a log record"() {
+    given:
+    def formatter = new DiscordianLogFormatter(renderer)
+    def record = new LogRecord(Level.INFO, "Hail {0}!")
+    record.millis = ZonedDateTime.of(2013, 1, 1, 9, 30, 0, 0, zone).toInstant().toEpochMilli()
+    record.loggerName = "discordia"
+    record.parameters = ["Eris"] as Object[]
+
+    expect:
+    formatter.format(record) == "Sweetmorn, Chaos 1, 3179 YOLD 09:30:00.000 INFO discordia: Hail Eris!${System.lineSeparator()}"
+  }
+
+  def "formats a log record with an exception"() {
+    given:
+    def formatter = new DiscordianLogFormatter(renderer)
+    def record = new LogRecord(Level.SEVERE, "fnord")
+    record.thrown = new IllegalStateException("kallisti")
+
+    when:
+    def text = formatter.format(record)
+
+    then:
+    text.contains(" SEVERE fnord${System.lineSeparator()}java.lang.IllegalStateException: kallisti")
+  }
+
+  def "formats records concurrently"() {
+    given:
+    def formatter = new DiscordianLogFormatter(renderer)
+    def start = ZonedDateTime.of(2013, 1, 1, 0, 0, 0, 0, zone).toInstant().toEpochMilli()
+    def executor = Executors.newFixedThreadPool(4)
+
+    when:
+    def results = executor.invokeAll((0..<4).collect { thread ->
+      { ->
+        (0..<1000).every { i ->
+          def millis = start + ((thread * 1000 + i) * 3_600_000L)
+          def record = new LogRecord(Level.INFO, "message $i")
+          record.millis = millis
+          formatter.format(record).startsWith(renderer.format(millis) + " INFO message $i")
+        }
+      } as Callable<Boolean>
+    })*.get()
+
+    then:
+    results.every()
+
+    cleanup:
+    executor.shutdown()
+  }
+}
@@ -0,0 +1,91 @@
+package co.freeside.time.chrono
+
+import spock.lang.Specification
+
+import javax.management.ObjectName
+import java.lang.management.ManagementFactory
+import java.time.DateTimeException
+import java.time.LocalDate
+
+class DiscordianMetricsSpec extends Specification {
+
+  def "metrics are disabled by default"() {
+    given:
+    def before = DiscordianMetrics.snapshot()
+
+    when:
+    DiscordianDate.of(3179, 1, 5)
+    DiscordianDate.ofEpochDay(0).toString()
+
+    then:
+    !DiscordianMetrics.enabled
+    DiscordianMetrics.snapshot().datesCreated == before.datesCreated
+    DiscordianMetrics.snapshot().formatCalls == before.formatCalls
+  }
+
+  def "counts usage when enabled"() {
+    given: "classes loaded with metrics enabled"
+    def classes = loadWithMetricsEnabled()
+    def metrics = classes[DiscordianMetrics]
+    def date = classes[DiscordianDate]
+    def chronology = classes[DiscordianChronology].INSTANCE
+
+    when:
+    date.of(3179, 1, 5)
+    date.of(3179, 60)
+    date.ofLeapDay(3178)
+    date.ofEpochDay(LocalDate.of(2012, 2, 29).toEpochDay())
+    chronology.date(LocalDate.of(2013, 3, 30)).toString()
+    try {
+      date.of(3179, 6, 1)
+    } catch (DateTimeException e) {
+      // expected
+    }
+    def snapshot = metrics.snapshot()
+
+    then:
+    metrics.enabled
+    snapshot.datesCreatedByOf == 2
+    snapshot.datesCreatedByOfLeapDay == 1
+    snapshot.datesCreatedByOfEpochDay == 1
+    snapshot.datesCreatedFromTemporal == 1
+    snapshot.datesCreated == 5
+    snapshot.stTibsDays == 2
+    snapshot.validationFailures == 1
+    snapshot.formatCalls == 1
+
+    and: "the same values are visible through JMX"
+    def server = ManagementFactory.platformMBeanServer
+    def name = new ObjectName(DiscordianMetrics.OBJECT_NAME)
+    server.getAttribute(name, "Enabled") == true
+    server.getAttribute(name, "DatesCreated") == 5L
+    server.getAttribute(name, "StTibsDays") == 2L
+    server.getAttribute(name, "ValidationFailures") == 1L
+
+    when:
+    server.invoke(name, "reset", null, null)
+
+    then:
+    metrics.snapshot().datesCreated == 0
+
+    cleanup:
+    metrics?.unregisterMBean()
+  }
+
+  /**
+   * Metrics can only be enabled before the class is loaded so the enabled
+   * classes are loaded by a separate class loader.
+   */
+  private static Map<Class, Class> loadWithMetricsEnabled() {
+    def location = DiscordianDate.protectionDomain.codeSource.location
+    def loader = new URLClassLoader([location] as URL[], (ClassLoader) null)
+    System.setProperty(DiscordianMetrics.ENABLED_PROPERTY, "true")
+    try {
+      [DiscordianMetrics, DiscordianDate, DiscordianChronology].collectEntries {
+        [(it): Class.forName(it.name, true, loader)]
+      }
+    } finally {
+      System.clearProperty(DiscordianMetrics.ENABLED_PROPERTY)
+    }
+  }
+}
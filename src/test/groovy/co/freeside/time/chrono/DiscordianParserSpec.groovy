@@ -0,0 +1,83 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.format.DateTimeParseException
+
+import static co.freeside.time.chrono.DiscordianDate.ST_TIBS_DAY
+import static co.freeside.time.chrono.DiscordianParser.INVALID
+import static java.nio.charset.StandardCharsets.US_ASCII
+
+class DiscordianParserSpec extends Specification {
+
+  @Shared chronology = DiscordianChronology.INSTANCE
+
+  @Unroll
+  def "can parse '#ddate'"() {
+    given:
+    def text = ddate.toString()
+
+    expect:
+    DiscordianParser.parse(text) == ddate
+    DiscordianParser.parseEpochDay(text, 0, text.length()) == ddate.toEpochDay()
+    DiscordianParser.parseEpochDay(text.getBytes(US_ASCII), 0, text.length()) == ddate.toEpochDay()
+
+    where:
+    ddate << [
+        chronology.date(0, 1, 1),
+        chronology.date(-1166, 1, 1),
+        chronology.date(3179, 2, 19),
+        chronology.date(3179, 5, 73),
+        chronology.date(3178, 1, 60),
+        chronology.date(3178, 5, 13),
+        chronology.dateYearDay(3178, ST_TIBS_DAY)
+    ]
+  }
+
+  def "can parse a region of a larger text"() {
+    given:
+    def text = "[Sweetmorn, Chaos 1, 3180 YOLD] INFO"
+    def bytes = text.getBytes(US_ASCII)
+
+    expect:
+    DiscordianParser.parse(text, 1, 30) == chronology.date(3180, 1, 1)
+    DiscordianParser.parse(bytes, 1, 30) == chronology.date(3180, 1, 1)
+  }
+
+  @Unroll
+  def "'#text' is not a valid date"() {
+    expect:
+    DiscordianParser.parseEpochDay(text, 0, text.length()) == INVALID
+    DiscordianParser.parse(text, 0, text.length()) == null
+
+    where:
+    text << [
+        "",
+        "Sweetmorn",
+        "Sweetmorn, Chaos 1, 3180",
+        "Sweetmorn, Chaos 1, 3180 YOLD ",
+        "Sweetmorn, Chaos 0, 3180 YOLD",
+        "Sweetmorn, Chaos 74, 3180 YOLD",
+        "Sweetmorn, Chaos 123, 3180 YOLD",
+        "Boomtime, Chaos 1, 3180 YOLD",
+        "sweetmorn, Chaos 1, 3180 YOLD",
+        "Sweetmorn, Chaos1, 3180 YOLD",
+        "Sweetmorn, Chaoz 1, 3180 YOLD",
+        "Sweetmorn, Chaos 1, YOLD",
+        "Sweetmorn, Chaos 1, 31x0 YOLD",
+        "Sweetmorn, Chaos 1, 99999999999 YOLD",
+        "St. Tib's Day! 3179 YOLD",
+        "St. Tib's Day! YOLD"
+    ]
+  }
+
+  def "parse throws an exception for invalid text"() {
+    when:
+    DiscordianParser.parse("Sweetmorn, Chaos 74, 3180 YOLD")
+
+    then:
+    thrown DateTimeParseException
+  }
+}
@@ -0,0 +1,194 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.DateTimeException
+import java.time.LocalDate
+
+import static co.freeside.time.chrono.DiscordianRecurrence.*
+
+class DiscordianRecurrenceSpec extends Specification {
+
+  @Shared rules = [
+      everyDayOfWeek(1),
+      everyDayOfWeek(5),
+      everyDayOfSeason(1),
+      everyDayOfSeason(23),
+      everyDayOfSeason(73),
+      everyYearOn(1, 59),
+      everyYearOn(1, 60),
+      everyYearOn(5, 73),
+      every(DiscordianHolyday.DISCOFLUX),
+      everyStTibsDay(),
+      everyDayOfWeek(2).withInterval(5, DiscordianDate.of(3177, 1, 3)),
+      everyDayOfSeason(5).withInterval(3, DiscordianDate.ofLeapDay(3178))
+  ]
+
+  /**
+   * Every date from `start` to `end` that matches `matcher` found by stepping
+   * through days one at a time.
+   */
+  private static List<DiscordianDate> bruteForce(DiscordianDate start, DiscordianDate end, Closure<Boolean> matcher) {
+    def dates = []
+    for (long epochDay = start.toEpochDay(); epochDay < end.toEpochDay(); epochDay++) {
+      def date = DiscordianDate.ofEpochDay(epochDay)
+      if (matcher(date)) {
+        dates << date
+      }
+    }
+    dates
+  }
+
+  @Unroll
+  def "#rule matches the expected dates"() {
+    given:
+    def start = DiscordianDate.of(3170, 1, 1)
+    def end = DiscordianDate.of(3180, 1, 1)
+
+    expect:
+    rule.occurrencesBetween(start, end).collect() == bruteForce(start, end, expected)
+
+    where:
+    rule                 | expected
+    everyDayOfWeek(5)    | { it.dayOfWeek == 5 }
+    everyDayOfSeason(23) | { it.dayOfSeason == 23 }
+    everyYearOn(1, 60)   | { it.season == 1 && it.dayOfSeason == 60 }
+    everyStTibsDay()     | { it.season == 0 }
+  }
+
+  def "every 5th Boomtime is every 25 days skipping St. Tib's Day"() {
+    given:
+    def rule = everyDayOfWeek(2).withInterval(5, DiscordianDate.of(3178, 1, 1))
+
+    expect:
+    rule.occurrencesBetween(DiscordianDate.of(3178, 1, 1), DiscordianDate.of(3178, 2, 5)).collect() == [
+        DiscordianDate.of(3178, 1, 2),
+        DiscordianDate.of(3178, 1, 27),
+        DiscordianDate.of(3178, 1, 52),
+        DiscordianDate.of(3178, 2, 4)
+    ]
+  }
+
+  @Unroll
+  def "occurrences of #rule agree with matches and nextAfter"() {
+    given:
+    def start = DiscordianDate.of(3175, 5, 70)
+    def end = DiscordianDate.of(3183, 1, 3)
+    def expected = bruteForce(start, end) { rule.matches(it) }
+
+    expect:
+    rule.occurrencesBetween(start, end).collect() == expected
+
+    and:
+    def date = start
+    def actual = []
+    while ((date = rule.nextAfter(date)) < end) {
+      actual << date
+    }
+    actual == expected.findAll { it != start }
+
+    where:
+    rule << rules
+  }
+
+  @Unroll
+  def "the next occurrence of #rule after each day is the first matching day"() {
+    given:
+    def days = bruteForce(DiscordianDate.of(3177, 1, 1), DiscordianDate.of(3180, 1, 1)) { true }
+
+    expect:
+    days.every { day ->
+      def next = rule.nextAfter(day)
+      next > day && rule.matches(next) && !bruteForce(day.plus(1, java.time.temporal.ChronoUnit.DAYS) as DiscordianDate, next) { rule.matches(it) }
+    }
+
+    where:
+    rule << [everyDayOfWeek(3), everyDayOfSeason(73), everyStTibsDay()]
+  }
+
+  def "works before the epoch and across negative years"() {
+    given:
+    def rule = everyDayOfSeason(1)
+    def start = DiscordianDate.of(-2, 5, 1)
+
+    expect:
+    rule.occurrencesBetween(start, DiscordianDate.of(1, 1, 2)).collect() == [
+        DiscordianDate.of(-2, 5, 1),
+        DiscordianDate.of(-1, 1, 1), DiscordianDate.of(-1, 2, 1), DiscordianDate.of(-1, 3, 1), DiscordianDate.of(-1, 4, 1), DiscordianDate.of(-1, 5, 1),
+        DiscordianDate.of(0, 1, 1), DiscordianDate.of(0, 2, 1), DiscordianDate.of(0, 3, 1), DiscordianDate.of(0, 4, 1), DiscordianDate.of(0, 5, 1),
+        DiscordianDate.of(1, 1, 1)
+    ]
+  }
+
+  def "occurrences are lazy and sized"() {
+    given:
+    def start = DiscordianDate.of(3000, 1, 1)
+    def end = DiscordianDate.of(1000000, 1, 1)
+    def rule = everyDayOfWeek(1)
+
+    expect:
+    rule.epochDaysBetween(start.toEpochDay(), end.toEpochDay()).spliterator().exactSizeIfKnown == (1000000 - 3000) * 73L
+    rule.occurrencesBetween(start, end).skip(73 * 1000).findFirst().get() == DiscordianDate.of(4000, 1, 1)
+  }
+
+  def "parallel streams produce the same occurrences"() {
+    given:
+    def start = DiscordianDate.of(3000, 1, 1)
+    def end = DiscordianDate.of(3400, 1, 1)
+    def rule = everyDayOfSeason(23)
+
+    expect:
+    rule.occurrencesBetween(start, end).parallel().collect(java.util.stream.Collectors.toList()) == rule.occurrencesBetween(start, end).collect()
+  }
+
+  def "the range is empty if end is not after start"() {
+    given:
+    def date = DiscordianDate.of(3179, 1, 1)
+
+    expect:
+    everyDayOfWeek(1).occurrencesBetween(date, date).count() == 0
+    everyStTibsDay().occurrencesBetween(date, date.minus(1, java.time.temporal.ChronoUnit.DAYS) as DiscordianDate).count() == 0
+  }
+
+  def "adjusts ISO dates"() {
+    expect:
+    LocalDate.of(2013, 3, 30).with(everyDayOfWeek(1)) == LocalDate.of(2013, 4, 1)
+    LocalDate.of(2013, 3, 30).with(everyStTibsDay()) == LocalDate.of(2016, 2, 29)
+    LocalDate.of(2012, 2, 28).with(everyStTibsDay()) == LocalDate.of(2012, 2, 29)
+  }
+
+  def "St. Tib's Day does not match any other rule"() {
+    given:
+    def stTibs = DiscordianDate.ofLeapDay(3178)
+
+    expect:
+    rules.findAll { it.matches(stTibs) } == [everyStTibsDay()]
+  }
+
+  @Unroll
+  def "#description is invalid"() {
+    when:
+    rule()
+
+    then:
+    thrown DateTimeException
+
+    where:
+    description                      | rule
+    "day of week 6"                  | { everyDayOfWeek(6) }
+    "day of season 0"                | { everyDayOfSeason(0) }
+    "season 6"                       | { everyYearOn(6, 1) }
+    "an interval of 0"               | { everyDayOfWeek(1).withInterval(0, DiscordianDate.of(3179, 1, 1)) }
+    "an interval of St. Tib's Day"   | { everyStTibsDay().withInterval(2, DiscordianDate.of(3179, 1, 1)) }
+  }
+
+  def "describes the rule"() {
+    expect:
+    everyDayOfWeek(5).toString() == "every Setting Orange"
+    everyDayOfSeason(23).toString() == "day 23 of every season"
+    every(DiscordianHolyday.MUNGDAY).toString() == "every Chaos 5"
+    everyStTibsDay().toString() == "every St. Tib's Day"
+  }
+}
@@ -0,0 +1,144 @@
+package co.freeside.time.chrono
+
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.time.DateTimeException
+import java.time.LocalDate
+
+import static co.freeside.time.chrono.DiscordianDate.ST_TIBS_DAY
+
+class DiscordianSortKeySpec extends Specification {
+
+  @Shared chronology = DiscordianChronology.INSTANCE
+
+  @Unroll
+  def "#ddate survives a round trip through a key"() {
+    given:
+    def key = DiscordianSortKey.of(ddate)
+
+    expect:
+    DiscordianSortKey.ofEpochDay(ddate.toEpochDay()) == key
+    DiscordianSortKey.toDate(key) == ddate
+    DiscordianSortKey.toDate(DiscordianSortKey.fromBytes(DiscordianSortKey.toBytes(key), 0)) == ddate
+    DiscordianSortKey.toDate(DiscordianSortKey.parseAscii(DiscordianSortKey.toAscii(key))) == ddate
+
+    where:
+    ddate << [
+        chronology.date(3179, 1, 1),
+        chronology.date(3178, 1, 59),
+        chronology.dateYearDay(3178, ST_TIBS_DAY),
+        chronology.date(3178, 1, 60),
+        chronology.date(3178, 5, 73),
+        chronology.dateEpochDay(0),
+        chronology.date(LocalDate.MIN),
+        chronology.date(LocalDate.MAX)
+    ]
+  }
+
+  def "St. Tib's Day is encoded between Chaos 59 and Chaos 60"() {
+    expect:
+    DiscordianSortKey.toAscii(DiscordianSortKey.of(chronology.date(3178, 1, 59))) == "80000C6A0176"
+    DiscordianSortKey.toAscii(DiscordianSortKey.of(chronology.dateYearDay(3178, ST_TIBS_DAY))) == "80000C6A0177"
+    DiscordianSortKey.toAscii(DiscordianSortKey.of(chronology.date(3178, 1, 60))) == "80000C6A0178"
+  }
+
+  def "keys sort in date order in every form"() {
+    given:
+    def random = new Random(3179)
+    def dates = (0..<2000).collect {
+      chronology.dateEpochDay(random.nextBoolean() ? random.nextInt(40_000) - 20_000 : LocalDate.MIN.toEpochDay() + random.nextInt(800))
+    }
+    def sorted = dates.sort(false)
+    def keys = dates.collect { DiscordianSortKey.of(it) }
+
+    expect:
+    keys.sort(false).collect { DiscordianSortKey.toDate(it) } == sorted
+    keys.collect { DiscordianSortKey.toAscii(it) }.sort().collect { DiscordianSortKey.toDate(DiscordianSortKey.parseAscii(it)) } == sorted
+    keys.collect { DiscordianSortKey.toBytes(it) }.sort(false, UNSIGNED_BYTES).collect { DiscordianSortKey.toDate(DiscordianSortKey.fromBytes(it, 0)) } == sorted
+  }
+
+  @Unroll
+  def "radix sorts #size keys"() {
+    given:
+    def random = new Random(size)
+    long[] epochDays = (0..<size).collect { random.nextInt(100_000) - 50_000 + (it % 3 == 0 ? LocalDate.MIN.toEpochDay() : 0L) }
+    long[] keys = epochDays.collect { DiscordianSortKey.ofEpochDay(it) }
+    long[] expectedKeys = keys.clone()
+    Arrays.sort(expectedKeys)
+    long[] expectedEpochDays = epochDays.clone()
+    Arrays.sort(expectedEpochDays)
+
+    when:
+    DiscordianSortKey.sort(keys, 0, keys.length)
+    DiscordianSortKey.sortEpochDays(epochDays, 0, epochDays.length)
+
+    then:
+    keys == expectedKeys
+    epochDays == expectedEpochDays
+
+    where:
+    size << [0, 1, 100, 10_000]
+  }
+
+  def "radix sorts part of an array"() {
+    given:
+    long[] epochDays = (0..<1000).collect { 1000 - it } + [-1L, -2L]
+
+    when:
+    DiscordianSortKey.sortEpochDays(epochDays, 1, 1000)
+
+    then:
+    epochDays[0] == 1000
+    epochDays[1..999] == (1..999).toList()
+    epochDays[1000..1001] == [-1L, -2L]
+  }
+
+  def "keys can be written to and read from a buffer"() {
+    given:
+    def key = DiscordianSortKey.of(chronology.date(3179, 2, 5))
+    def buffer = ByteBuffer.allocate(DiscordianSortKey.KEY_LENGTH)
+
+    when:
+    DiscordianSortKey.put(buffer, key)
+    buffer.flip()
+
+    then:
+    buffer.array() == DiscordianSortKey.toBytes(key)
+    DiscordianSortKey.get(buffer) == key
+  }
+
+  @Unroll
+  def "#ascii is not a valid key"() {
+    when:
+    DiscordianSortKey.toEpochDay(DiscordianSortKey.parseAscii(ascii))
+
+    then:
+    thrown DateTimeException
+
+    where:
+    ascii << [
+        "80000C690177", // St. Tib's Day in a non-leap year
+        "80000C6A0175", // odd day
+        "80000C6A0000", // day 0
+        "80000C6A0194", // day 74
+        "80000C6A0602", // season 6
+        "80000C6A", // too short
+        "80000C6A017G", // not hex
+        "00000C6A0102" // year out of range
+    ]
+  }
+
+  private static final Comparator<byte[]> UNSIGNED_BYTES = new Comparator<byte[]>() {
+    @Override
+    int compare(byte[] a, byte[] b) {
+      for (int i = 0; i < a.length; i++) {
+        def c = (a[i] & 0xff) <=> (b[i] & 0xff)
+        if (c != 0) return c
+      }
+      0
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package co.freeside.time.chrono
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.LocalDate
+import java.time.Year
+
+class DiscordianYearTableSpec extends Specification {
+
+  @Unroll
+  def "year #year inside and around the table window is looked up correctly"() {
+    given:
+    def isoYear = year - DiscordianChronology.ISO_YEAR_OFFSET
+    def chaos1 = LocalDate.of(isoYear, 1, 1).toEpochDay()
+
+    expect:
+    DiscordianYearTable.isLeapYear(year) == Year.isLeap(isoYear)
+    DiscordianYearTable.yearStartEpochDay(year) == chaos1
+    DiscordianYearTable.stTibsDayEpochDay(year) == (Year.isLeap(isoYear) ? chaos1 + 59 : DiscordianParser.INVALID)
+
+    where:
+    year << [3000, 3065, 3066, 3067, 3166, 3178, 3179, 3365, 3366, 3367, 4000]
+  }
+
+  def "every epoch day inside and around the table window splits into the same year and day as LocalDate"() {
+    given:
+    def from = LocalDate.of(1890, 1, 1).toEpochDay()
+    def to = LocalDate.of(2210, 1, 1).toEpochDay()
+
+    expect:
+    (from..to).every { long epochDay ->
+      def packed = DiscordianYearTable.isoYearDayOfEpochDay(epochDay)
+      def iso = LocalDate.ofEpochDay(epochDay)
+      DiscordianChronology.unpackIsoYear(packed) == iso.year && DiscordianChronology.unpackDayOfYear(packed) == iso.dayOfYear
+    }
+  }
+
+  def "an invalid window is rejected"() {
+    when:
+    new DiscordianYearTable(3179, 3178)
+
+    then:
+    thrown IllegalArgumentException
+  }
+}